@@ -1,6 +1,10 @@
 package waffles.utils.sets;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import waffles.utils.tools.collections.Iterables;
 
@@ -41,6 +45,12 @@ public interface IterableSet<O> extends CountableSet, Iterable<O>
 			return Delegate().iterator();
 		}
 		
+		@Override
+		public default Spliterator<O> spliterator()
+		{
+			return Delegate().spliterator();
+		}
+		
 		@Override
 		public default int Count()
 		{
@@ -68,6 +78,12 @@ public interface IterableSet<O> extends CountableSet, Iterable<O>
 			return Delegate().iterator();
 		}
 		
+		@Override
+		public default Spliterator<O> spliterator()
+		{
+			return Delegate().spliterator();
+		}
+		
 		@Override
 		public default int Count()
 		{
@@ -95,6 +111,41 @@ public interface IterableSet<O> extends CountableSet, Iterable<O>
 		return false;
 	}
 	
+	/**
+	 * Returns a sequential stream over the {@code IterableSet}.
+	 * 
+	 * @return  a set stream
+	 * 
+	 * 
+	 * @see Stream
+	 */
+	public default Stream<O> stream()
+	{
+		return StreamSupport.stream(spliterator(), false);
+	}
+	
+	/**
+	 * Returns a parallel stream over the {@code IterableSet}.
+	 * 
+	 * @return  a set stream
+	 * 
+	 * 
+	 * @see Stream
+	 */
+	public default Stream<O> parallelStream()
+	{
+		return StreamSupport.stream(spliterator(), true);
+	}
+	
+	
+	@Override
+	public default Spliterator<O> spliterator()
+	{
+		// Iterators may skip empty cells, so
+		// the count is not an exact size.
+		return Spliterators.spliteratorUnknownSize(iterator(), 0);
+	}
+	
 	@Override
 	public default int Count()
 	{
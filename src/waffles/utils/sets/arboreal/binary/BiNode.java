@@ -105,16 +105,23 @@ public class BiNode extends Node implements BiNodal
 		{
 			// Find the next node in order.
 			BiNodal next = next();
+			BiNode n = next.Arch();
 
-			// Update the node's children.
-			next.Arch().setLChild(lchild);
+			// Detach the next node, moving
+			// its right child into its place.
 			if(!next.equals(rchild))
 			{
-				next.Arch().setRChild(rchild);
+				n.replace(n.RChild());
+				n.setRChild(rchild);
+			}
+			else
+			{
+				n.detach();
 			}
 			
+			// Update the node's children.
+			n.setLChild(lchild);
 			// Replace it with the next.
-			next.Arch().detach();
 			replace(next);
 		}
 	}
@@ -2,6 +2,8 @@ package waffles.utils.sets.arboreal.binary.indexed;
 
 import waffles.utils.sets.arboreal.binary.BiTree;
 import waffles.utils.sets.indexed.IndexedSet;
+import waffles.utils.sets.indexed.MutableIndex.Order;
+import waffles.utils.sets.utilities.indexed.iterators.IndexCursor;
 import waffles.utils.sets.utilities.rooted.iterators.binary.indexed.BIPNodes;
 
 /**
@@ -86,6 +88,59 @@ public abstract class BIPTree<O> extends BiTree implements IndexedSet<O>
 		return () -> new BIPNodes<>(this, min, max);
 	}
 	
+	/**
+	 * Visits every cell in a region of the {@code BIPTree}.
+	 * Each intersecting leaf is walked as a single box,
+	 * so its value is only computed once.
+	 * 
+	 * @param min  an index minimum
+	 * @param max  an index maximum
+	 * @param vis  a cell visitor
+	 * 
+	 * 
+	 * @see IndexCursor
+	 */
+	public void visit(int[] min, int[] max, IndexCursor.Visitor<? super O> vis)
+	{
+		int[] cMin = new int[Order()];
+		int[] cMax = new int[Order()];
+		IndexCursor<O> cursor = new IndexCursor<>(this, Order.COL_MAJOR, cMin, cMax);
+		for(BIPNode node : this.<BIPNode>Nodes(min, max))
+		{
+			if(!node.isLeaf())
+			{
+				continue;
+			}
+			
+			// Clip the leaf box to the region.
+			for(int i = 0; i < cMin.length; i++)
+			{
+				cMin[i] = Math.max(min[i], node.Minimum()[i]);
+				cMax[i] = Math.min(max[i], node.Maximum()[i]);
+			}
+			
+			O val = valueOf(node);
+			cursor.reset(cMin, cMax);
+			while(cursor.next())
+			{
+				vis.visit(cursor.Coordinates(), val);
+			}
+		}
+	}
+	
+	/**
+	 * Visits every cell in the {@code BIPTree}.
+	 * 
+	 * @param vis  a cell visitor
+	 * 
+	 * 
+	 * @see IndexCursor
+	 */
+	public void visit(IndexCursor.Visitor<? super O> vis)
+	{
+		visit(Minimum(), Maximum(), vis);
+	}
+	
 	/**
 	 * Returns a node at a given coordinate.
 	 * 
@@ -66,6 +66,94 @@ public class BSTree<O> extends IOTree<BSNode<O>, O> implements AtomicSet<O>
 	}
 	
 	
+	/**
+	 * Inserts an object next to its closest node in the {@code BSTree}.
+	 * The node should be the result of {@link #search(Object)} for the
+	 * same object, which lets callers insert without descending the tree
+	 * a second time. If the node is null, the tree is searched instead.
+	 * Null objects are not inserted.
+	 * 
+	 * @param node  a closest node
+	 * @param obj   an object to insert
+	 * @return  the node holding the object
+	 * 
+	 * 
+	 * @see BSNode
+	 */
+	public BSNode<O> insert(BSNode<O> node, O obj)
+	{
+		// No null refs allowed.
+		if(obj == null)
+		{
+			return null;
+		}
+		
+		// Create a new child node.
+		Factory<O> fct = Factory();
+		BSNode<O> child = fct.node(obj);
+		
+		// If the tree has no nodes...
+		if(Root() == null)
+		{
+			// Set it as root.
+			setRoot(child);
+			onInsert(child);
+			return child;
+		}
+		
+		// Without a closest node, search for it.
+		if(node == null)
+		{
+			node = search(obj);
+		}
+
+		int comp = compare(obj, node.Value());
+		// If its value is equal, discard the object.
+		if(comp == 0) return node;
+
+		// Otherwise, set it as closest child.
+		if(comp < 0)
+			node.setLChild(child);
+		else
+			node.setRChild(child);
+		
+		onInsert(child);
+		return child;
+	}
+	
+	/**
+	 * Removes all objects in the range [from, to) from the {@code BSTree}.
+	 * The first node is found with a single descent, after which
+	 * every removed node is replaced by its in-order successor,
+	 * so the removal only visits the nodes in range.
+	 * 
+	 * @param from  a lower bound, inclusive
+	 * @param to    an upper bound, exclusive
+	 * @return  a removal count
+	 */
+	public int removeRange(O from, O to)
+	{
+		if(compare(from, to) >= 0)
+		{
+			return 0;
+		}
+		
+		int count = 0;
+		BSNode<O> node = ceiling(from);
+		// Delete nodes until the upper bound.
+		while(node != null && compare(node.Value(), to) < 0)
+		{
+			BSNode<O> next = (BSNode<O>) node.next();
+			node.delete();
+			onDelete(node);
+			node = next;
+			count++;
+		}
+		
+		return count;
+	}
+	
+	
 	@Override
 	public BSNode<O> Root()
 	{
@@ -110,35 +198,15 @@ public class BSTree<O> extends IOTree<BSNode<O>, O> implements AtomicSet<O>
 	@Override
 	public void add(O obj)
 	{
-		// Create a new child node.
-		Factory<O> fct = Factory();
-		BSNode<O> child = fct.node(obj);
-		
 		// If the tree has no nodes...
 		if(Root() == null)
 		{
 			// Set it as root.
-			setRoot(child);
-			onInsert(child);
+			insert(null, obj);
 			return;
 		}
 
-		// Search the closest node...
-		BSNode<O> node = search(obj);
-		int comp = compare(obj, node.Value());
-		// If its value is equal, discard the object.
-		if(comp == 0) return;
-
-		// Otherwise, set it as closest child.
-		if(comp < 0)
-		{
-			node.setLChild(child);
-			onInsert(child);
-		}
-		else
-		{
-			node.setRChild(child);
-			onInsert(child);
-		}
+		// Insert next to the closest node.
+		insert(search(obj), obj);
 	}
 }
\ No newline at end of file
@@ -2,12 +2,15 @@ package waffles.utils.sets.arboreal.binary.search;
 
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.Spliterator;
 
 import waffles.utils.sets.IterableSet;
 import waffles.utils.sets.arboreal.binary.BiTree;
 import waffles.utils.sets.arboreal.binary.balance.Balance;
 import waffles.utils.sets.arboreal.binary.balance.BalanceTree;
 import waffles.utils.sets.utilities.rooted.Nodal;
+import waffles.utils.sets.utilities.rooted.iterators.binary.InOrderRange;
+import waffles.utils.sets.utilities.rooted.iterators.binary.InOrderSpliterator;
 import waffles.utils.tools.collections.iterators.EmptyIterator;
 import waffles.utils.tools.collections.iterators.ValueIterator;
 
@@ -137,6 +140,97 @@ public class IOTree<N extends IONode<O>, O> extends BiTree implements BalanceTre
 		
 		return null;
 	}	
+	
+	/**
+	 * Returns the node in the {@code IOTree} holding
+	 * the greatest value lower than or equal to an object.
+	 * 
+	 * @param obj  an object to search with
+	 * @return  a floor node
+	 */
+	public N floor(O obj)
+	{
+		N node = search(obj);
+		if(node == null) return null;
+		if(compare(obj, node.Value()) >= 0)
+			return node;
+		return (N) node.prev();
+	}
+	
+	/**
+	 * Returns the node in the {@code IOTree} holding
+	 * the least value greater than or equal to an object.
+	 * 
+	 * @param obj  an object to search with
+	 * @return  a ceiling node
+	 */
+	public N ceiling(O obj)
+	{
+		N node = search(obj);
+		if(node == null) return null;
+		if(compare(obj, node.Value()) <= 0)
+			return node;
+		return (N) node.next();
+	}
+	
+	/**
+	 * Returns the node in the {@code IOTree} holding
+	 * the least value strictly greater than an object.
+	 * 
+	 * @param obj  an object to search with
+	 * @return  a higher node
+	 */
+	public N higher(O obj)
+	{
+		N node = search(obj);
+		if(node == null) return null;
+		if(compare(obj, node.Value()) < 0)
+			return node;
+		return (N) node.next();
+	}
+	
+	/**
+	 * Returns the node in the {@code IOTree} holding
+	 * the greatest value strictly lower than an object.
+	 * 
+	 * @param obj  an object to search with
+	 * @return  a lower node
+	 */
+	public N lower(O obj)
+	{
+		N node = search(obj);
+		if(node == null) return null;
+		if(compare(obj, node.Value()) > 0)
+			return node;
+		return (N) node.prev();
+	}
+	
+	/**
+	 * Iterates over the values of the {@code IOTree} in the range [from, to).
+	 * The iterator is lazy, it only descends the tree once to find its
+	 * first node and once to find its fence, and then follows the
+	 * in-order successors of the first node.
+	 * 
+	 * @param from  a lower bound, inclusive
+	 * @param to    an upper bound, exclusive
+	 * @return  a value iterable
+	 * 
+	 * 
+	 * @see Iterable
+	 */
+	public Iterable<O> range(O from, O to)
+	{
+		return () ->
+		{
+			if(compare(from, to) >= 0)
+			{
+				return new EmptyIterator<>();
+			}
+			
+			Iterable<N> nodes = () -> new InOrderRange<>(ceiling(from), ceiling(to));
+			return new ValueIterator<>(nodes);
+		};
+	}
 				
 	/**
 	 * Changes the balance of the {@code IOTree}.
@@ -229,6 +323,12 @@ public class IOTree<N extends IONode<O>, O> extends BiTree implements BalanceTre
 		return new ValueIterator<>(nodes);
 	}
 	
+	@Override
+	public Spliterator<O> spliterator()
+	{
+		return new InOrderSpliterator<>(this);
+	}
+	
 	@Override
 	public Balance<N> Balance()
 	{
@@ -0,0 +1,128 @@
+package waffles.utils.sets.arboreal.binary.search;
+
+import waffles.utils.sets.arboreal.binary.BiNode;
+import waffles.utils.sets.utilities.keymaps.Pair;
+
+/**
+ * The {@code KVNode} class defines a single node in a {@code KVTree}.
+ * It stores its key and value inline, and acts as the key-value
+ * pair of its entry, rather than referencing a separate pair.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @param <K>  a key type
+ * @param <V>  a value type
+ * @see BiNode
+ * @see Pair
+ */
+public class KVNode<K, V> extends BiNode implements Pair<K, V>
+{
+	private K key;
+	private V value;
+
+	/**
+	 * Creates a new {@code KVNode}.
+	 * 
+	 * @param tree  a source tree
+	 * @param key   a node key
+	 * @param val   a node value
+	 * 
+	 * 
+	 * @see KVTree
+	 */
+	public KVNode(KVTree<K, V> tree, K key, V val)
+	{
+		super(tree);
+		this.key = key;
+		value = val;
+	}
+	
+	/**
+	 * Changes the value of the {@code KVNode}.
+	 * 
+	 * @param val  a node value
+	 * @return  an old value
+	 */
+	public V setValue(V val)
+	{
+		V old = value;
+		value = val;
+		return old;
+	}
+
+
+	@Override
+	public KVTree<K, V> Set()
+	{
+		return (KVTree<K, V>) super.Set();
+	}
+	
+	@Override
+	public KVNode<K, V> Delegate()
+	{
+		return this;
+	}
+
+	@Override
+	public KVNode<K, V> Sibling()
+	{
+		return (KVNode<K, V>) super.Sibling();
+	}
+	
+	@Override
+	public KVNode<K, V> LChild()
+	{
+		return (KVNode<K, V>) super.LChild();
+	}
+	
+	@Override
+	public KVNode<K, V> RChild()
+	{
+		return (KVNode<K, V>) super.RChild();
+	}
+
+	@Override
+	public KVNode<K, V> Parent()
+	{
+		return (KVNode<K, V>) super.Parent();
+	}
+
+	@Override
+	public KVNode<K, V> LLeaf()
+	{
+		return (KVNode<K, V>) super.LLeaf();
+	}
+	
+	@Override
+	public KVNode<K, V> RLeaf()
+	{
+		return (KVNode<K, V>) super.RLeaf();
+	}
+	
+	@Override
+	public KVNode<K, V> Root()
+	{
+		return (KVNode<K, V>) super.Root();
+	}
+	
+	@Override
+	public KVNode<K, V> Arch()
+	{
+		return this;
+	}
+
+	@Override
+	public V Value()
+	{
+		return value;
+	}
+	
+	@Override
+	public K Key()
+	{
+		return key;
+	}
+}
\ No newline at end of file
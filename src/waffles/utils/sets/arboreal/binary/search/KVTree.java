@@ -0,0 +1,433 @@
+package waffles.utils.sets.arboreal.binary.search;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+
+import waffles.utils.sets.IterableSet;
+import waffles.utils.sets.arboreal.binary.BiTree;
+import waffles.utils.sets.arboreal.binary.balance.Balance;
+import waffles.utils.sets.arboreal.binary.balance.BalanceTree;
+import waffles.utils.sets.utilities.keymaps.Pair;
+import waffles.utils.sets.utilities.rooted.Nodal;
+import waffles.utils.sets.utilities.rooted.iterators.binary.InOrderRange;
+import waffles.utils.sets.utilities.rooted.iterators.binary.InOrderSpliterator;
+import waffles.utils.tools.collections.iterators.EmptyIterator;
+
+/**
+ * A {@code KVTree} defines a binary search tree specialized for key-value maps.
+ * Its {@code KVNode} objects store their key and value inline, and the tree
+ * is searched by key directly, which avoids allocating a probe pair.
+ * A {@code Comparator} can be provided, to assign an order to the keys.
+ * If no {@code Comparator} is given, natural ordering is assumed.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @param <K>  a key type
+ * @param <V>  a value type
+ * @see BalanceTree
+ * @see IterableSet
+ * @see Comparator
+ * @see KVNode
+ */
+public class KVTree<K, V> extends BiTree implements BalanceTree<KVNode<K, V>>, Comparator<K>, IterableSet<Pair<K, V>>
+{
+	/**
+	 * A {@code KVTree.Factory} generates {@code KVNode} objects.
+	 *
+	 * @author Waffles
+	 * @since 17 Oct 2026
+	 * @version 1.1
+	 *
+	 * 
+	 * @param <K>  a key type
+	 * @param <V>  a value type
+	 * @see BiTree
+	 */
+	public static interface Factory<K, V> extends BiTree.Factory
+	{			
+		@Override
+		public default KVNode<K, V> node(Object... data)
+		{
+			return new KVNode<>(Tree(), (K) data[0], (V) data[1]);
+		}
+		
+		@Override
+		public abstract KVTree<K, V> Tree();
+	}
+	
+	
+	private Balance<KVNode<K, V>> balance;
+	private Comparator<K> comp;
+
+	/**
+	 * Creates a new {@code KVTree}.
+	 * 
+	 * @param c  a key comparator
+	 * 
+	 * 
+	 * @see Comparator
+	 */
+	public KVTree(Comparator<K> c)
+	{
+		comp = c;
+	}
+	
+	/**
+	 * Creates a new {@code KVTree}.
+	 */
+	public KVTree()
+	{
+		this(null);
+	}
+
+	
+	/**
+	 * Searches the {@code KVTree} for the node
+	 * closest to a given key.
+	 * 
+	 * @param key  a key to search with
+	 * @return  the closest tree node
+	 * 
+	 * 
+	 * @see KVNode
+	 */
+	public KVNode<K, V> search(K key)
+	{
+		// No null refs allowed.
+		if(key == null)
+		{
+			return null;
+		}
+		
+		KVNode<K, V> node = Root();
+		// Start checking from root...
+		while(node != null)
+		{
+			int comp = compare(key, node.Key());
+			// The key has been found.
+			if(comp == 0)
+			{
+				return node;
+			}
+			
+			// Continue with the closest child,
+			// unless there is none left.
+			KVNode<K, V> next = comp < 0 ? node.LChild() : node.RChild();
+			if(next == null)
+			{
+				return node;
+			}
+			
+			node = next;
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Inserts a key-value pair next to its closest node in the {@code KVTree}.
+	 * The node should be the result of {@link #search(Object)} for the
+	 * same key, which lets callers insert without descending the tree
+	 * a second time. If the node is null, the tree is searched instead.
+	 * Null keys are not inserted.
+	 * 
+	 * @param node  a closest node
+	 * @param key   a key to insert
+	 * @param val   a value to insert
+	 * @return  the node holding the key
+	 * 
+	 * 
+	 * @see KVNode
+	 */
+	public KVNode<K, V> insert(KVNode<K, V> node, K key, V val)
+	{
+		// No null refs allowed.
+		if(key == null)
+		{
+			return null;
+		}
+		
+		// Create a new child node.
+		Factory<K, V> fct = Factory();
+		KVNode<K, V> child = fct.node(key, val);
+		
+		// If the tree has no nodes...
+		if(Root() == null)
+		{
+			// Set it as root.
+			setRoot(child);
+			onInsert(child);
+			return child;
+		}
+		
+		// Without a closest node, search for it.
+		if(node == null)
+		{
+			node = search(key);
+		}
+
+		int comp = compare(key, node.Key());
+		// If its key is equal, discard the pair.
+		if(comp == 0) return node;
+
+		// Otherwise, set it as closest child.
+		if(comp < 0)
+			node.setLChild(child);
+		else
+			node.setRChild(child);
+		
+		onInsert(child);
+		return child;
+	}
+	
+	/**
+	 * Returns the node in the {@code KVTree} holding
+	 * the greatest key lower than or equal to a key.
+	 * 
+	 * @param key  a key to search with
+	 * @return  a floor node
+	 * 
+	 * 
+	 * @see KVNode
+	 */
+	public KVNode<K, V> floor(K key)
+	{
+		KVNode<K, V> node = search(key);
+		if(node == null) return null;
+		if(compare(key, node.Key()) >= 0)
+			return node;
+		return (KVNode<K, V>) node.prev();
+	}
+	
+	/**
+	 * Returns the node in the {@code KVTree} holding
+	 * the least key greater than or equal to a key.
+	 * 
+	 * @param key  a key to search with
+	 * @return  a ceiling node
+	 * 
+	 * 
+	 * @see KVNode
+	 */
+	public KVNode<K, V> ceiling(K key)
+	{
+		KVNode<K, V> node = search(key);
+		if(node == null) return null;
+		if(compare(key, node.Key()) <= 0)
+			return node;
+		return (KVNode<K, V>) node.next();
+	}
+	
+	/**
+	 * Returns the node in the {@code KVTree} holding
+	 * the least key strictly greater than a key.
+	 * 
+	 * @param key  a key to search with
+	 * @return  a higher node
+	 * 
+	 * 
+	 * @see KVNode
+	 */
+	public KVNode<K, V> higher(K key)
+	{
+		KVNode<K, V> node = search(key);
+		if(node == null) return null;
+		if(compare(key, node.Key()) < 0)
+			return node;
+		return (KVNode<K, V>) node.next();
+	}
+	
+	/**
+	 * Returns the node in the {@code KVTree} holding
+	 * the greatest key strictly lower than a key.
+	 * 
+	 * @param key  a key to search with
+	 * @return  a lower node
+	 * 
+	 * 
+	 * @see KVNode
+	 */
+	public KVNode<K, V> lower(K key)
+	{
+		KVNode<K, V> node = search(key);
+		if(node == null) return null;
+		if(compare(key, node.Key()) > 0)
+			return node;
+		return (KVNode<K, V>) node.prev();
+	}
+	
+	/**
+	 * Iterates over the pairs of the {@code KVTree} with a key in the range [from, to).
+	 * The iterator is lazy, it only descends the tree once to find its
+	 * first node and once to find its fence, and then follows the
+	 * in-order successors of the first node.
+	 * 
+	 * @param from  a lower bound, inclusive
+	 * @param to    an upper bound, exclusive
+	 * @return  a pair iterable
+	 * 
+	 * 
+	 * @see Iterable
+	 * @see Pair
+	 */
+	public Iterable<Pair<K, V>> range(K from, K to)
+	{
+		return () ->
+		{
+			if(compare(from, to) >= 0)
+			{
+				return new EmptyIterator<>();
+			}
+			
+			Iterator<KVNode<K, V>> nodes = new InOrderRange<>(ceiling(from), ceiling(to));
+			return (Iterator<Pair<K, V>>) (Iterator<?>) nodes;
+		};
+	}
+	
+	/**
+	 * Deletes all nodes with a key in the range [from, to) from the {@code KVTree}.
+	 * The first node is found with a single descent, after which
+	 * every deleted node is replaced by its in-order successor,
+	 * so the removal only visits the nodes in range.
+	 * 
+	 * @param from  a lower bound, inclusive
+	 * @param to    an upper bound, exclusive
+	 * @return  a removal count
+	 */
+	public int deleteRange(K from, K to)
+	{
+		if(compare(from, to) >= 0)
+		{
+			return 0;
+		}
+		
+		int count = 0;
+		KVNode<K, V> node = ceiling(from);
+		// Delete nodes until the upper bound.
+		while(node != null && compare(node.Key(), to) < 0)
+		{
+			KVNode<K, V> next = (KVNode<K, V>) node.next();
+			delete(node);
+			node = next;
+			count++;
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Deletes a node from the {@code KVTree}.
+	 * 
+	 * @param node  a tree node
+	 * 
+	 * 
+	 * @see KVNode
+	 */
+	public void delete(KVNode<K, V> node)
+	{
+		node.delete();
+		onDelete(node);
+	}
+	
+	/**
+	 * Changes the balance of the {@code KVTree}.
+	 * 
+	 * @param bal  a tree balance
+	 * 
+	 * 
+	 * @see Balance
+	 */
+	public void setBalance(Balance<KVNode<K, V>> bal)
+	{
+		balance = bal;
+	}
+	
+	
+	@Override
+	public void setRoot(Nodal r)
+	{
+		// Fire the clear event,
+		// before firing the
+		// insert event.
+		
+		onClear();
+		super.setRoot(r);
+		onInsert((KVNode<K, V>) r);
+	}
+	
+	@Override
+	public boolean contains(Pair<K, V> pair)
+	{
+		KVNode<K, V> node = search(pair.Key());
+		if(node == null) return false;
+		return compare(pair.Key(), node.Key()) == 0;
+	}
+	
+	@Override
+	public int compare(K k1, K k2)
+	{
+		if(comp != null)
+		{
+			return comp.compare(k1, k2);
+		}
+		
+		return ((Comparable<K>) k1).compareTo(k2);
+	}
+	
+	
+	@Override
+	public Factory<K, V> Factory()
+	{
+		return () -> this;
+	}
+	
+	@Override
+	public Iterator<Pair<K, V>> iterator()
+	{
+		if(Root() == null)
+		{
+			return new EmptyIterator<>();
+		}
+		
+		Iterable<KVNode<K, V>> nodes = inorder();
+		return (Iterator<Pair<K, V>>) (Iterator<?>) nodes.iterator();
+	}
+	
+	@Override
+	public Spliterator<Pair<K, V>> spliterator()
+	{
+		Comparator<Pair<K, V>> ord = (p1, p2) -> compare(p1.Key(), p2.Key());
+		return new InOrderSpliterator<>(Root(), ord, n -> (KVNode<K, V>) n);
+	}
+	
+	@Override
+	public Balance<KVNode<K, V>> Balance()
+	{
+		return balance;
+	}
+
+	
+	@Override
+	public void clear()
+	{
+		super.clear();
+		onClear();
+	}
+	
+	@Override
+	public int Count()
+	{
+		if(Root() == null) return 0;
+		return Root().TreeSize();
+	}
+	
+	@Override
+	public KVNode<K, V> Root()
+	{
+		return (KVNode<K, V>) super.Root();
+	}
+}
\ No newline at end of file
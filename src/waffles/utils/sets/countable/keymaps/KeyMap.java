@@ -1,6 +1,12 @@
 package waffles.utils.sets.countable.keymaps;
 
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import waffles.utils.sets.CountableSet;
 import waffles.utils.sets.utilities.keymaps.Pair;
@@ -47,6 +53,24 @@ public interface KeyMap<K, V> extends CountableSet
 			return Delegate().Pairs();
 		}
 		
+		@Override
+		public default <P extends Pair<K, V>> Stream<P> PairStream(boolean par)
+		{
+			return Delegate().PairStream(par);
+		}
+		
+		@Override
+		public default Stream<V> ValueStream(boolean par)
+		{
+			return Delegate().ValueStream(par);
+		}
+		
+		@Override
+		public default Stream<K> KeyStream(boolean par)
+		{
+			return Delegate().KeyStream(par);
+		}
+		
 		
 		@Override
 		public default V put(K key, V val)
@@ -65,6 +89,36 @@ public interface KeyMap<K, V> extends CountableSet
 		{
 			return Delegate().get(key);
 		}
+				
+		@Override
+		public default V putIfAbsent(K key, V val)
+		{
+			return Delegate().putIfAbsent(key, val);
+		}
+		
+		@Override
+		public default V computeIfAbsent(K key, Function<? super K, ? extends V> fct)
+		{
+			return Delegate().computeIfAbsent(key, fct);
+		}
+		
+		@Override
+		public default V compute(K key, BiFunction<? super K, ? super V, ? extends V> fct)
+		{
+			return Delegate().compute(key, fct);
+		}
+		
+		@Override
+		public default V merge(K key, V val, BiFunction<? super V, ? super V, ? extends V> fct)
+		{
+			return Delegate().merge(key, val, fct);
+		}
+		
+		@Override
+		public default V replace(K key, V val)
+		{
+			return Delegate().replace(key, val);
+		}
 	}
 	
 	/**
@@ -103,6 +157,25 @@ public interface KeyMap<K, V> extends CountableSet
 			return () -> new PairGenerator<>(this);
 		}
 		
+		@Override
+		public default <P extends Pair<K, V>> Stream<P> PairStream(boolean par)
+		{
+			Spliterator<Map.Entry<K, V>> spl = Delegate().entrySet().spliterator();
+			return StreamSupport.stream(spl, par).map(e -> (P) create(e.getKey(), e.getValue()));
+		}
+		
+		@Override
+		public default Stream<V> ValueStream(boolean par)
+		{
+			return StreamSupport.stream(Delegate().values().spliterator(), par);
+		}
+		
+		@Override
+		public default Stream<K> KeyStream(boolean par)
+		{
+			return StreamSupport.stream(Delegate().keySet().spliterator(), par);
+		}
+		
 		@Override
 		public abstract Map<K, V> Delegate();
 						
@@ -131,6 +204,36 @@ public interface KeyMap<K, V> extends CountableSet
 			return Delegate().put(key, val);
 		}
 				
+		@Override
+		public default V putIfAbsent(K key, V val)
+		{
+			return Delegate().putIfAbsent(key, val);
+		}
+		
+		@Override
+		public default V computeIfAbsent(K key, Function<? super K, ? extends V> fct)
+		{
+			return Delegate().computeIfAbsent(key, fct);
+		}
+		
+		@Override
+		public default V compute(K key, BiFunction<? super K, ? super V, ? extends V> fct)
+		{
+			return Delegate().compute(key, fct);
+		}
+		
+		@Override
+		public default V merge(K key, V val, BiFunction<? super V, ? super V, ? extends V> fct)
+		{
+			return Delegate().merge(key, val, fct);
+		}
+		
+		@Override
+		public default V replace(K key, V val)
+		{
+			return Delegate().replace(key, val);
+		}
+				
 		@Override
 		public default void clear()
 		{
@@ -150,6 +253,50 @@ public interface KeyMap<K, V> extends CountableSet
 	 * @see Pair
 	 */
 	public abstract <P extends Pair<K, V>> Iterable<P> Pairs();
+	
+	/**
+	 * Returns a stream over the key-value pairs of the {@code KeyMap}.
+	 * 
+	 * @param par  a parallel state
+	 * @return  a pair stream
+	 * 
+	 * 
+	 * @see Stream
+	 * @see Pair
+	 */
+	public default <P extends Pair<K, V>> Stream<P> PairStream(boolean par)
+	{
+		Spliterator<P> spl = Spliterators.spliterator(this.<P>Pairs().iterator(), Count(), Spliterator.DISTINCT | Spliterator.NONNULL);
+		return StreamSupport.stream(spl, par);
+	}
+	
+	/**
+	 * Returns a stream over the values of the {@code KeyMap}.
+	 * 
+	 * @param par  a parallel state
+	 * @return  a value stream
+	 * 
+	 * 
+	 * @see Stream
+	 */
+	public default Stream<V> ValueStream(boolean par)
+	{
+		return this.<Pair<K, V>>PairStream(par).map(Pair::Value);
+	}
+	
+	/**
+	 * Returns a stream over the keys of the {@code KeyMap}.
+	 * 
+	 * @param par  a parallel state
+	 * @return  a key stream
+	 * 
+	 * 
+	 * @see Stream
+	 */
+	public default Stream<K> KeyStream(boolean par)
+	{
+		return this.<Pair<K, V>>PairStream(par).map(Pair::Key);
+	}
 
 	
 	/**
@@ -203,4 +350,128 @@ public interface KeyMap<K, V> extends CountableSet
 	 * @return  a map value
 	 */
 	public abstract V get(K key);
+	
+	
+	/**
+	 * Puts a key-value pair into the {@code KeyMap}
+	 * if the key does not have a value yet.
+	 * 
+	 * @param key  a map key
+	 * @param val  a map value
+	 * @return  the current value, or null if the pair was added
+	 */
+	public default V putIfAbsent(K key, V val)
+	{
+		V curr = get(key);
+		if(curr == null)
+		{
+			put(key, val);
+		}
+		
+		return curr;
+	}
+	
+	/**
+	 * Computes the value of a key in the {@code KeyMap}
+	 * if the key does not have a value yet.
+	 * A null result leaves the map unchanged.
+	 * 
+	 * @param key  a map key
+	 * @param fct  a value function
+	 * @return  the current or computed value
+	 * 
+	 * 
+	 * @see Function
+	 */
+	public default V computeIfAbsent(K key, Function<? super K, ? extends V> fct)
+	{
+		V curr = get(key);
+		if(curr == null)
+		{
+			curr = fct.apply(key);
+			if(curr != null)
+			{
+				put(key, curr);
+			}
+		}
+		
+		return curr;
+	}
+	
+	/**
+	 * Computes a new value for a key in the {@code KeyMap}
+	 * from its current value, which may be null.
+	 * A null result removes the key from the map.
+	 * 
+	 * @param key  a map key
+	 * @param fct  a value function
+	 * @return  the computed value
+	 * 
+	 * 
+	 * @see BiFunction
+	 */
+	public default V compute(K key, BiFunction<? super K, ? super V, ? extends V> fct)
+	{
+		V curr = get(key);
+		V next = fct.apply(key, curr);
+		if(next == null)
+		{
+			if(curr != null)
+			{
+				remove(key);
+			}
+			
+			return null;
+		}
+		
+		put(key, next);
+		return next;
+	}
+	
+	/**
+	 * Merges a value into a key of the {@code KeyMap}.
+	 * If the key has no value yet, the given value is put.
+	 * Otherwise, both values are combined by the function,
+	 * and a null result removes the key from the map.
+	 * 
+	 * @param key  a map key
+	 * @param val  a map value
+	 * @param fct  a merge function
+	 * @return  the merged value
+	 * 
+	 * 
+	 * @see BiFunction
+	 */
+	public default V merge(K key, V val, BiFunction<? super V, ? super V, ? extends V> fct)
+	{
+		V curr = get(key);
+		V next = curr == null ? val : fct.apply(curr, val);
+		if(next == null)
+		{
+			remove(key);
+			return null;
+		}
+		
+		put(key, next);
+		return next;
+	}
+	
+	/**
+	 * Replaces the value of a key in the {@code KeyMap}
+	 * if the key already has a value.
+	 * 
+	 * @param key  a map key
+	 * @param val  a map value
+	 * @return  an old value
+	 */
+	public default V replace(K key, V val)
+	{
+		V curr = get(key);
+		if(curr != null)
+		{
+			put(key, val);
+		}
+		
+		return curr;
+	}
 }
\ No newline at end of file
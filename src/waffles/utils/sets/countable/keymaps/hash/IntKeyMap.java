@@ -0,0 +1,354 @@
+package waffles.utils.sets.countable.keymaps.hash;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+
+import waffles.utils.sets.countable.keymaps.KeyMap;
+import waffles.utils.sets.utilities.keymaps.Pair;
+
+/**
+ * A {@code IntKeyMap} implements a {@code KeyMap} with primitive int keys in an open-addressing hash table.
+ * Keys are stored in a primitive array next to their values, so neither the keys nor the entries
+ * are boxed. A slot is occupied as long as it holds a value, which leaves the full integer range
+ * available for keys. Collisions are resolved with linear probing, and removals shift the
+ * following entries back, so the table never fills up with deleted markers.
+ * The boxed {@code KeyMap} methods are provided for compatibility,
+ * and delegate to their primitive counterparts, ignoring null keys.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @param <V>  a value type
+ * @see KeyMap
+ */
+public class IntKeyMap<V> implements KeyMap<Integer, V>
+{
+	private static final int PHI = 0x9E3779B9;
+	private static final int CAPACITY = 16;
+	
+	
+	private int count, shift;
+	private Object[] values;
+	private int[] keys;
+	
+	/**
+	 * Creates a new {@code IntKeyMap}.
+	 * 
+	 * @param cap  an initial capacity
+	 */
+	public IntKeyMap(int cap)
+	{
+		int size = CAPACITY;
+		// Keep the load factor below three quarters.
+		while(4L * cap > 3L * size)
+		{
+			size *= 2;
+		}
+		
+		resize(size);
+	}
+	
+	/**
+	 * Creates a new {@code IntKeyMap}.
+	 */
+	public IntKeyMap()
+	{
+		this(0);
+	}
+	
+	
+	/**
+	 * Returns a value at a primitive key.
+	 * 
+	 * @param key  a map key
+	 * @return  a map value
+	 */
+	public V getInt(int key)
+	{
+		int slot = find(key);
+		if(slot < 0)
+		{
+			return null;
+		}
+		
+		return (V) values[slot];
+	}
+	
+	/**
+	 * Puts a value at a primitive key.
+	 * Putting a null value removes the key.
+	 * 
+	 * @param key  a map key
+	 * @param val  a map value
+	 * @return  an old value
+	 */
+	public V putInt(int key, V val)
+	{
+		if(val == null)
+		{
+			return removeInt(key);
+		}
+		
+		int mask = keys.length - 1;
+		int slot = hash(key);
+		while(values[slot] != null)
+		{
+			if(keys[slot] == key)
+			{
+				V prev = (V) values[slot];
+				values[slot] = val;
+				return prev;
+			}
+			
+			slot = (slot + 1) & mask;
+		}
+		
+		keys[slot] = key;
+		values[slot] = val;
+		// Keep the load factor below three quarters.
+		if(4 * ++count > 3 * keys.length)
+		{
+			resize(2 * keys.length);
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Removes a value at a primitive key.
+	 * 
+	 * @param key  a map key
+	 * @return  an old value
+	 */
+	public V removeInt(int key)
+	{
+		int slot = find(key);
+		if(slot < 0)
+		{
+			return null;
+		}
+		
+		V prev = (V) values[slot];
+		
+		int mask = keys.length - 1;
+		int next = (slot + 1) & mask;
+		// Shift back the entries which probed past the slot.
+		while(values[next] != null)
+		{
+			int home = hash(keys[next]);
+			if(((next - home) & mask) >= ((next - slot) & mask))
+			{
+				keys[slot] = keys[next];
+				values[slot] = values[next];
+				slot = next;
+			}
+			
+			next = (next + 1) & mask;
+		}
+		
+		values[slot] = null;
+		count--;
+		return prev;
+	}
+	
+	/**
+	 * Checks if the {@code IntKeyMap} stores a value at a primitive key.
+	 * 
+	 * @param key  a map key
+	 * @return  {@code true} if the key is stored
+	 */
+	public boolean containsInt(int key)
+	{
+		return find(key) >= 0;
+	}
+	
+	/**
+	 * Iterates over the primitive keys of the {@code IntKeyMap}.
+	 * 
+	 * @return  a int key iterator
+	 * 
+	 * 
+	 * @see PrimitiveIterator
+	 */
+	public PrimitiveIterator.OfInt IntKeys()
+	{
+		return new PrimitiveIterator.OfInt()
+		{
+			private int slot = nextSlot(-1);
+			
+			@Override
+			public boolean hasNext()
+			{
+				return slot < keys.length;
+			}
+			
+			@Override
+			public int nextInt()
+			{
+				int key = keys[slot];
+				slot = nextSlot(slot);
+				return key;
+			}
+		};
+	}
+	
+	
+	private int hash(int key)
+	{
+		return (key * PHI) >>> shift;
+	}
+	
+	private int find(int key)
+	{
+		int mask = keys.length - 1;
+		int slot = hash(key);
+		while(values[slot] != null)
+		{
+			if(keys[slot] == key)
+			{
+				return slot;
+			}
+			
+			slot = (slot + 1) & mask;
+		}
+		
+		return -1;
+	}
+	
+	private int nextSlot(int slot)
+	{
+		while(++slot < keys.length)
+		{
+			if(values[slot] != null)
+			{
+				break;
+			}
+		}
+		
+		return slot;
+	}
+	
+	private void resize(int cap)
+	{
+		int[] oKeys = keys;
+		Object[] oVals = values;
+		
+		keys = new int[cap];
+		values = new Object[cap];
+		shift = 32 - Integer.numberOfTrailingZeros(cap);
+		if(oKeys == null)
+		{
+			return;
+		}
+		
+		int mask = cap - 1;
+		for(int i = 0; i < oKeys.length; i++)
+		{
+			if(oVals[i] != null)
+			{
+				int slot = hash(oKeys[i]);
+				while(values[slot] != null)
+				{
+					slot = (slot + 1) & mask;
+				}
+				
+				keys[slot] = oKeys[i];
+				values[slot] = oVals[i];
+			}
+		}
+	}
+	
+	
+	@Override
+	public Iterable<Pair<Integer, V>> Pairs()
+	{
+		return () -> new Iterator<Pair<Integer, V>>()
+		{
+			private int slot = nextSlot(-1);
+			
+			@Override
+			public boolean hasNext()
+			{
+				return slot < keys.length;
+			}
+			
+			@Override
+			public Pair<Integer, V> next()
+			{
+				Pair<Integer, V> pair = new Pair.Base<>(keys[slot], (V) values[slot]);
+				slot = nextSlot(slot);
+				return pair;
+			}
+		};
+	}
+	
+	@Override
+	public Iterable<Integer> Keys()
+	{
+		return () -> IntKeys();
+	}
+	
+	@Override
+	public Iterable<V> Values()
+	{
+		return () -> new Iterator<V>()
+		{
+			private int slot = nextSlot(-1);
+			
+			@Override
+			public boolean hasNext()
+			{
+				return slot < keys.length;
+			}
+			
+			@Override
+			public V next()
+			{
+				V val = (V) values[slot];
+				slot = nextSlot(slot);
+				return val;
+			}
+		};
+	}
+	
+	@Override
+	public V put(Integer key, V val)
+	{
+		if(key == null) return null;
+		return putInt(key.intValue(), val);
+	}
+	
+	@Override
+	public V remove(Integer key)
+	{
+		if(key == null) return null;
+		return removeInt(key.intValue());
+	}
+	
+	@Override
+	public V get(Integer key)
+	{
+		if(key == null) return null;
+		return getInt(key.intValue());
+	}
+	
+	
+	@Override
+	public void clear()
+	{
+		// Drop the table before resizing,
+		// so no entries are carried over.
+		keys = null;
+		values = null;
+		count = 0;
+		resize(CAPACITY);
+	}
+	
+	@Override
+	public int Count()
+	{
+		return count;
+	}
+}
\ No newline at end of file
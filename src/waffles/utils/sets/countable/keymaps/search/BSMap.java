@@ -1,14 +1,18 @@
 package waffles.utils.sets.countable.keymaps.search;
 
 import java.util.Comparator;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
-import waffles.utils.sets.arboreal.binary.search.BSNode;
-import waffles.utils.sets.arboreal.binary.search.BSTree;
+import waffles.utils.sets.arboreal.binary.search.KVNode;
+import waffles.utils.sets.arboreal.binary.search.KVTree;
 import waffles.utils.sets.countable.keymaps.KeyMap;
+import waffles.utils.sets.countable.keymaps.wrapper.BiMap;
 import waffles.utils.sets.utilities.keymaps.Pair;
 
 /**
- * A {@code BSMap} implements a {@code KeyMap} by internally storing data in a {@code BSTree}.
+ * A {@code BSMap} implements a {@code KeyMap} by internally storing data in a {@code KVTree}.
  * This structure is useful for a large map with only very few values.
  *
  * @author Waffles
@@ -22,7 +26,7 @@ import waffles.utils.sets.utilities.keymaps.Pair;
  */
 public class BSMap<K, V> implements KeyMap<K,V>
 {
-	private BSTree<Pair<K,V>> data;
+	private KVTree<K,V> data;
 
 	/**
 	 * Creates a new {@code BSMap}.
@@ -34,13 +38,7 @@ public class BSMap<K, V> implements KeyMap<K,V>
 	 */
 	public BSMap(Comparator<K> c)
 	{
-		data = new BSTree<>((p1, p2) ->
-		{
-			K k1 = p1.Key();
-			K k2 = p2.Key();
-			
-			return c.compare(k1, k2);
-		});
+		data = new KVTree<>(c);
 	}
 	
 	/**
@@ -48,14 +46,19 @@ public class BSMap<K, V> implements KeyMap<K,V>
 	 */
 	public BSMap()
 	{
-		this((k1, k2) -> ((Comparable<K>) k1).compareTo(k2));
+		this(null);
 	}
 	
 	/**
 	 * Searches the {@code BSMap} for a key.
+	 * This search scans the map linearly, a {@code BiMap}
+	 * keeps an inverse map for fast repeated lookups.
 	 * 
 	 * @param val  a value to find
 	 * @return  a value key
+	 * 
+	 * 
+	 * @see BiMap
 	 */
 	public K search(V val)
 	{
@@ -70,6 +73,94 @@ public class BSMap<K, V> implements KeyMap<K,V>
 		return null;
 	}
 	
+	/**
+	 * Returns the pair in the {@code BSMap} with
+	 * the greatest key lower than or equal to a key.
+	 * 
+	 * @param key  a key to search with
+	 * @return  a floor pair
+	 * 
+	 * 
+	 * @see Pair
+	 */
+	public Pair<K,V> floor(K key)
+	{
+		return data.floor(key);
+	}
+	
+	/**
+	 * Returns the pair in the {@code BSMap} with
+	 * the least key greater than or equal to a key.
+	 * 
+	 * @param key  a key to search with
+	 * @return  a ceiling pair
+	 * 
+	 * 
+	 * @see Pair
+	 */
+	public Pair<K,V> ceiling(K key)
+	{
+		return data.ceiling(key);
+	}
+	
+	/**
+	 * Returns the pair in the {@code BSMap} with
+	 * the least key strictly greater than a key.
+	 * 
+	 * @param key  a key to search with
+	 * @return  a higher pair
+	 * 
+	 * 
+	 * @see Pair
+	 */
+	public Pair<K,V> higher(K key)
+	{
+		return data.higher(key);
+	}
+	
+	/**
+	 * Returns the pair in the {@code BSMap} with
+	 * the greatest key strictly lower than a key.
+	 * 
+	 * @param key  a key to search with
+	 * @return  a lower pair
+	 * 
+	 * 
+	 * @see Pair
+	 */
+	public Pair<K,V> lower(K key)
+	{
+		return data.lower(key);
+	}
+	
+	/**
+	 * Iterates over the pairs of the {@code BSMap} with a key in the range [from, to).
+	 * 
+	 * @param from  a lower bound, inclusive
+	 * @param to    an upper bound, exclusive
+	 * @return  a pair iterable
+	 * 
+	 * 
+	 * @see Iterable
+	 * @see Pair
+	 */
+	public Iterable<Pair<K,V>> range(K from, K to)
+	{
+		return data.range(from, to);
+	}
+	
+	/**
+	 * Removes all pairs with a key in the range [from, to) from the {@code BSMap}.
+	 * 
+	 * @param from  a lower bound, inclusive
+	 * @param to    an upper bound, exclusive
+	 * @return  a removal count
+	 */
+	public int removeRange(K from, K to)
+	{
+		return data.deleteRange(from, to);
+	}
+	
 	
 	@Override
 	public Iterable<Pair<K, V>> Pairs()
@@ -77,76 +168,203 @@ public class BSMap<K, V> implements KeyMap<K,V>
 		return data;
 	}
 
+	@Override
+	public <P extends Pair<K, V>> Stream<P> PairStream(boolean par)
+	{
+		Stream<?> stream = par ? data.parallelStream() : data.stream();
+		return (Stream<P>) stream;
+	}
+	
 	@Override
 	public V put(K key, V val)
 	{
-		Pair<K,V> pNew = new Pair.Base<>(key, val);
-		if(data.isEmpty())
+		// No null keys allowed.
+		if(key == null)
 		{
-			data.add(pNew);
 			return null;
 		}
-
 		
-		BSNode<Pair<K,V>> pNode = data.search(pNew);
-		Pair<K,V> pOld = pNode.Value();
-
-		V vOld = null;
-		if(key.equals(pOld.Key()))
+		KVNode<K,V> pNode = closest(key);
+		if(matches(pNode, key))
 		{
-			vOld = pOld.Value();
-			pNode.delete();
+			return swap(pNode, val);
 		}
 
-		data.add(pNew);
-		return vOld;
+		insert(pNode, key, val);
+		return null;
 	}
 
 	@Override
 	public V remove(K key)
 	{
-		Pair<K,V> pNew = new Pair.Base<>(key, null);
-		if(data.isEmpty())
+		KVNode<K,V> pNode = closest(key);
+		if(matches(pNode, key))
+		{
+			V vOld = pNode.Value();
+			data.delete(pNode);
+			return vOld;
+		}
+		
+		return null;
+	}
+
+	@Override
+	public V get(K key)
+	{
+		KVNode<K,V> pNode = closest(key);
+		if(matches(pNode, key))
+		{
+			return pNode.Value();
+		}
+		
+		return null;
+	}
+	
+	@Override
+	public V putIfAbsent(K key, V val)
+	{
+		// No null keys allowed.
+		if(key == null)
 		{
 			return null;
 		}
 		
+		KVNode<K,V> pNode = closest(key);
+		if(matches(pNode, key))
+		{
+			V vOld = pNode.Value();
+			if(vOld != null)
+			{
+				return vOld;
+			}
+			
+			swap(pNode, val);
+			return null;
+		}
 		
-		BSNode<Pair<K,V>> pNode = data.search(pNew);
-		Pair<K,V> pOld = pNode.Value();
+		insert(pNode, key, val);
+		return null;
+	}
+	
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> fct)
+	{
+		// No null keys allowed.
+		if(key == null)
+		{
+			return null;
+		}
+		
+		KVNode<K,V> pNode = closest(key);
+		boolean found = matches(pNode, key);
+		if(found && pNode.Value() != null)
+		{
+			return pNode.Value();
+		}
 		
-		V vOld = null;
-		if(key.equals(pOld.Key()))
+		V vNew = fct.apply(key);
+		if(vNew != null)
 		{
-			vOld = pOld.Value();
-			pNode.delete();
+			if(found)
+				swap(pNode, vNew);
+			else
+				insert(pNode, key, vNew);
 		}
 		
-		return vOld;
+		return vNew;
 	}
-
+	
 	@Override
-	public V get(K key)
+	public V compute(K key, BiFunction<? super K, ? super V, ? extends V> fct)
 	{
-		Pair<K,V> pNew = new Pair.Base<>(key, null);
-		if(data.isEmpty())
+		// No null keys allowed.
+		if(key == null)
 		{
 			return null;
 		}
 		
+		KVNode<K,V> pNode = closest(key);
+		boolean found = matches(pNode, key);
 		
-		BSNode<Pair<K,V>> pNode = data.search(pNew);
-		Pair<K,V> pOld = pNode.Value();
+		V vOld = found ? pNode.Value() : null;
+		V vNew = fct.apply(key, vOld);
+		return update(pNode, found, key, vNew);
+	}
+	
+	@Override
+	public V merge(K key, V val, BiFunction<? super V, ? super V, ? extends V> fct)
+	{
+		// No null keys allowed.
+		if(key == null)
+		{
+			return null;
+		}
+		
+		KVNode<K,V> pNode = closest(key);
+		boolean found = matches(pNode, key);
 		
-		if(key.equals(pOld.Key()))
+		V vOld = found ? pNode.Value() : null;
+		V vNew = vOld == null ? val : fct.apply(vOld, val);
+		return update(pNode, found, key, vNew);
+	}
+	
+	@Override
+	public V replace(K key, V val)
+	{
+		KVNode<K,V> pNode = closest(key);
+		if(matches(pNode, key) && pNode.Value() != null)
 		{
-			return pOld.Value();
+			return swap(pNode, val);
 		}
 		
 		return null;
 	}
 	
 	
+	private KVNode<K,V> closest(K key)
+	{
+		// Nodes are searched by key directly.
+		return data.search(key);
+	}
+	
+	private boolean matches(KVNode<K,V> pNode, K key)
+	{
+		return pNode != null && data.compare(key, pNode.Key()) == 0;
+	}
+	
+	private void insert(KVNode<K,V> pNode, K key, V val)
+	{
+		// Attach the pair below its closest node.
+		data.insert(pNode, key, val);
+	}
+	
+	private V swap(KVNode<K,V> pNode, V val)
+	{
+		// Nodes hold their value, so it changes in place.
+		return pNode.setValue(val);
+	}
+	
+	private V update(KVNode<K,V> pNode, boolean found, K key, V val)
+	{
+		if(val == null)
+		{
+			if(found)
+			{
+				data.delete(pNode);
+			}
+			
+			return null;
+		}
+		
+		if(found)
+			swap(pNode, val);
+		else
+			insert(pNode, key, val);
+		
+		return val;
+	}
+	
+	
 	@Override
 	public void clear()
 	{
@@ -0,0 +1,158 @@
+package waffles.utils.sets.countable.keymaps.wrapper;
+
+import java.util.stream.Stream;
+
+import waffles.utils.sets.countable.keymaps.KeyMap;
+import waffles.utils.sets.utilities.keymaps.Pair;
+
+/**
+ * A {@code BiMap} defines a bidirectional {@code KeyMap} between unique keys and values.
+ * It keeps a forward map from keys to values in sync with an inverse map from
+ * values to keys, so either side can be looked up as fast as its map allows.
+ * Putting a value that already belongs to another key moves it to the new key.
+ * The inverse view of the map is itself a {@code BiMap} sharing the same data.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @param <K>  a key type
+ * @param <V>  a value type
+ * @see KeyMap
+ */
+public class BiMap<K, V> implements KeyMap<K, V>
+{
+	private KeyMap<K, V> forward;
+	private KeyMap<V, K> backward;
+	private BiMap<V, K> inverse;
+	
+	/**
+	 * Creates a new {@code BiMap}.
+	 * Both maps are expected to be empty.
+	 * 
+	 * @param fwd  a forward map
+	 * @param bwd  an inverse map
+	 * 
+	 * 
+	 * @see KeyMap
+	 */
+	public BiMap(KeyMap<K, V> fwd, KeyMap<V, K> bwd)
+	{
+		backward = bwd;
+		forward = fwd;
+	}
+	
+	/**
+	 * Creates a new {@code BiMap}.
+	 */
+	public BiMap()
+	{
+		this(new JavaMap<>(), new JavaMap<>());
+	}
+	
+	private BiMap(BiMap<V, K> inv)
+	{
+		this(inv.backward, inv.forward);
+		inverse = inv;
+	}
+	
+	
+	/**
+	 * Returns the inverse view of the {@code BiMap}.
+	 * Changes to the view are reflected in the map.
+	 * 
+	 * @return  an inverse map
+	 */
+	public BiMap<V, K> inverse()
+	{
+		if(inverse == null)
+		{
+			inverse = new BiMap<>(this);
+		}
+		
+		return inverse;
+	}
+	
+	/**
+	 * Searches the {@code BiMap} for a key.
+	 * 
+	 * @param val  a value to find
+	 * @return  a value key
+	 */
+	public K search(V val)
+	{
+		return backward.get(val);
+	}
+	
+	
+	@Override
+	public Iterable<Pair<K, V>> Pairs()
+	{
+		return forward.Pairs();
+	}
+	
+	@Override
+	public <P extends Pair<K, V>> Stream<P> PairStream(boolean par)
+	{
+		return forward.PairStream(par);
+	}
+	
+	@Override
+	public V put(K key, V val)
+	{
+		if(val == null)
+		{
+			return remove(key);
+		}
+		
+		// Detach the value from its previous key.
+		K kOld = backward.get(val);
+		if(kOld != null && !kOld.equals(key))
+		{
+			forward.remove(kOld);
+		}
+		
+		// Detach the key from its previous value.
+		V vOld = forward.put(key, val);
+		if(vOld != null && !vOld.equals(val))
+		{
+			backward.remove(vOld);
+		}
+		
+		backward.put(val, key);
+		return vOld;
+	}
+	
+	@Override
+	public V remove(K key)
+	{
+		V vOld = forward.remove(key);
+		if(vOld != null)
+		{
+			backward.remove(vOld);
+		}
+		
+		return vOld;
+	}
+	
+	@Override
+	public V get(K key)
+	{
+		return forward.get(key);
+	}
+	
+	
+	@Override
+	public void clear()
+	{
+		backward.clear();
+		forward.clear();
+	}
+	
+	@Override
+	public int Count()
+	{
+		return forward.Count();
+	}
+}
\ No newline at end of file
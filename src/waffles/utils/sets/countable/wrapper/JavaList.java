@@ -4,6 +4,7 @@ import java.util.ArrayList;
 
 import waffles.utils.sets.countable.AtomicSet;
 import waffles.utils.sets.indexed.AtomicIndex;
+import waffles.utils.sets.indexed.array.ArrayLike;
 import waffles.utils.sets.indexed.array.set.ObjectSet;
 
 /**
@@ -61,6 +62,17 @@ public class JavaList<O> implements AtomicIndex.Java<O>, AtomicSet.Java<O>, Obje
 	{
 		return data.toArray();
 	}
+	
+	@Override
+	public void copy(ArrayLike<Object[], O> src, int[] from, int[] to, int[] dim)
+	{
+		// The array is a copy of the list,
+		// so values are put one at a time.
+		for(int i = 0; i < dim[0]; i++)
+		{
+			put(src.get(from[0] + i), to[0] + i);
+		}
+	}
 
 	@Override
 	public O get(int... coords)
@@ -87,15 +99,68 @@ public class JavaList<O> implements AtomicIndex.Java<O>, AtomicSet.Java<O>, Obje
 	@Override
 	public O put(O val, int... coords)
 	{
-		while(Count() <= coords[0])
+		return put(val, coords[0]);
+	}
+	
+	@Override
+	public O put(O val, int r, int c, int a)
+	{
+		return put(val, new int[]{r, c, a});
+	}
+	
+	@Override
+	public O put(O val, int r, int c)
+	{
+		return put(val, new int[]{r, c});
+	}
+	
+	@Override
+	public O put(O val, int i)
+	{
+		while(Count() <= i)
 		{
 			Delegate().add(null);
 		}
 		
-		Delegate().set(coords[0], val);
+		Delegate().set(i, val);
 		return val;
 	}
 	
+	@Override
+	public O remove(int r, int c, int a)
+	{
+		return remove(new int[]{r, c, a});
+	}
+	
+	@Override
+	public O remove(int r, int c)
+	{
+		return remove(new int[]{r, c});
+	}
+	
+	@Override
+	public O get(int r, int c, int a)
+	{
+		return get(new int[]{r, c, a});
+	}
+	
+	@Override
+	public O get(int r, int c)
+	{
+		return get(new int[]{r, c});
+	}
+	
+	@Override
+	public O get(int i)
+	{
+		if(0 <= i && i < Count())
+		{
+			return Delegate().get(i);
+		}
+		
+		return null;
+	}
+	
 	@Override
 	public ArrayList<O> Delegate()
 	{
@@ -0,0 +1,231 @@
+package waffles.utils.sets.indexed;
+
+import waffles.utils.sets.indexed.MutableIndex.Order;
+
+/**
+ * The {@code Curves} class maps coordinates along the space-filling orders of a {@code MutableIndex}.
+ * A {@link Order#Z_ORDER} index interleaves the coordinate bits of every axis, while a
+ * {@link Order#TILED} index stores its cells in column-major blocks, which are in turn
+ * laid out in column-major order. Both keep neighboring cells close together in memory.
+ * <br>
+ * Axes are padded to a power of two for the Z-order curve, and to a whole number of blocks
+ * for the tiled order. The storage size of such an index can therefore exceed its cell count.
+ * Axes which run out of bits are skipped while interleaving, which avoids padding the index
+ * to a full cube when its dimensions differ.
+ * 
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see MutableIndex
+ * @see Order
+ */
+public final class Curves
+{
+	/**
+	 * Defines the default block size of a tiled index.
+	 */
+	public static final int TILE = 8;
+	
+	
+	/**
+	 * Checks if an order follows a space-filling curve.
+	 * 
+	 * @param ord  an index order
+	 * @return  {@code true} if the order is curved
+	 * 
+	 * 
+	 * @see Order
+	 */
+	public static boolean isCurved(Order ord)
+	{
+		return ord == Order.Z_ORDER || ord == Order.TILED;
+	}
+	
+	/**
+	 * Returns the storage size of a curved index.
+	 * 
+	 * @param ord   an index order
+	 * @param tile  a block size
+	 * @param dims  an index dimension
+	 * @return  a storage size
+	 * 
+	 * 
+	 * @see Order
+	 */
+	public static int size(Order ord, int tile, int[] dims)
+	{
+		int size = 1;
+		for(int d : dims)
+		{
+			switch(ord)
+			{
+			case Z_ORDER:
+				size *= 1 << bits(d);
+				break;
+			case TILED:
+				size *= tile * ((d + tile - 1) / tile);
+				break;
+			default:
+				size *= d;
+				break;
+			}
+		}
+		
+		return size;
+	}
+	
+	/**
+	 * Converts a set of coordinates into a curved index.
+	 * 
+	 * @param ord   an index order
+	 * @param tile  a block size
+	 * @param crds  an index coordinate
+	 * @param dims  an index dimension
+	 * @return  an array index
+	 * 
+	 * 
+	 * @see Order
+	 */
+	public static int toIndex(Order ord, int tile, int[] crds, int[] dims)
+	{
+		switch(ord)
+		{
+		case Z_ORDER:
+			return toZIndex(crds, dims);
+		case TILED:
+			return toTileIndex(crds, dims, tile);
+		default:
+			return -1;
+		}
+	}
+	
+	/**
+	 * Converts a curved index into a set of coordinates.
+	 * 
+	 * @param ord   an index order
+	 * @param tile  a block size
+	 * @param idx   an array index
+	 * @param dims  an index dimension
+	 * @param crds  a target coordinate
+	 * 
+	 * 
+	 * @see Order
+	 */
+	public static void toCoord(Order ord, int tile, int idx, int[] dims, int[] crds)
+	{
+		switch(ord)
+		{
+		case Z_ORDER:
+			toZCoord(idx, dims, crds);
+			break;
+		case TILED:
+			toTileCoord(idx, dims, tile, crds);
+			break;
+		default:
+			break;
+		}
+	}
+	
+	
+	private static int bits(int dim)
+	{
+		if(dim <= 1)
+		{
+			return 0;
+		}
+		
+		return 32 - Integer.numberOfLeadingZeros(dim - 1);
+	}
+	
+	private static int toZIndex(int[] crds, int[] dims)
+	{
+		int idx = 0, pos = 0;
+		for(int b = 0; b < 31; b++)
+		{
+			boolean done = true;
+			for(int i = 0; i < dims.length; i++)
+			{
+				if(b < bits(dims[i]))
+				{
+					idx |= ((crds[i] >>> b) & 1) << pos++;
+					done = false;
+				}
+			}
+			
+			if(done)
+			{
+				return idx;
+			}
+		}
+		
+		return idx;
+	}
+	
+	private static void toZCoord(int idx, int[] dims, int[] crds)
+	{
+		int pos = 0;
+		for(int i = 0; i < dims.length; i++)
+		{
+			crds[i] = 0;
+		}
+		
+		for(int b = 0; b < 31; b++)
+		{
+			boolean done = true;
+			for(int i = 0; i < dims.length; i++)
+			{
+				if(b < bits(dims[i]))
+				{
+					crds[i] |= ((idx >>> pos++) & 1) << b;
+					done = false;
+				}
+			}
+			
+			if(done)
+			{
+				return;
+			}
+		}
+	}
+	
+	private static int toTileIndex(int[] crds, int[] dims, int tile)
+	{
+		int blk = 0, cell = 0, vol = 1;
+		for(int i = dims.length - 1; i >= 0; i--)
+		{
+			int grid = (dims[i] + tile - 1) / tile;
+			blk = blk * grid + crds[i] / tile;
+			cell = cell * tile + crds[i] % tile;
+			vol *= tile;
+		}
+		
+		return blk * vol + cell;
+	}
+	
+	private static void toTileCoord(int idx, int[] dims, int tile, int[] crds)
+	{
+		int vol = 1;
+		for(int i = 0; i < dims.length; i++)
+		{
+			vol *= tile;
+		}
+		
+		int blk = idx / vol;
+		int cell = idx % vol;
+		for(int i = 0; i < dims.length; i++)
+		{
+			int grid = (dims[i] + tile - 1) / tile;
+			crds[i] = (blk % grid) * tile + cell % tile;
+			blk /= grid;
+			cell /= tile;
+		}
+	}
+	
+	
+	private Curves()
+	{
+		// NOT APPLICABLE
+	}
+}
@@ -16,9 +16,10 @@ package waffles.utils.sets.indexed;
 public interface MutableIndex<O> extends IndexedSet<O>
 {
 	/**
-	 * An {@code Order} defines two ways of converting coordinates
+	 * An {@code Order} defines the ways of converting coordinates
 	 * to a unique integer value, generalizing the concept of
 	 * row-major and col-major ordering for matrices.
+	 * The curved orders keep neighboring cells close in memory.
 	 *
 	 * @author Waffles
 	 * @since 24 Aug 2023
@@ -33,7 +34,21 @@ public interface MutableIndex<O> extends IndexedSet<O>
 		/**
 		 * A row-major order.
 		 */
-		ROW_MAJOR;
+		ROW_MAJOR,
+		/**
+		 * A Z-order curve, interleaving coordinate bits.
+		 * 
+		 * 
+		 * @see Curves
+		 */
+		Z_ORDER,
+		/**
+		 * A tiled order, storing cells in blocks.
+		 * 
+		 * 
+		 * @see Curves
+		 */
+		TILED;
 
 		
 		private static int[] toColCoord(int idx, int[] dims)
@@ -110,11 +125,59 @@ public interface MutableIndex<O> extends IndexedSet<O>
 			return Delegate().put(val, crds);
 		}
 		
+		@Override
+		public default O put(O val, int r, int c, int a)
+		{
+			return Delegate().put(val, r, c, a);
+		}
+		
+		@Override
+		public default O put(O val, int r, int c)
+		{
+			return Delegate().put(val, r, c);
+		}
+		
+		@Override
+		public default O put(O val, int i)
+		{
+			return Delegate().put(val, i);
+		}
+		
 		@Override
 		public default O remove(int... crds)
 		{
 			return Delegate().remove(crds);
 		}
+		
+		@Override
+		public default O remove(int r, int c, int a)
+		{
+			return Delegate().remove(r, c, a);
+		}
+		
+		@Override
+		public default O remove(int r, int c)
+		{
+			return Delegate().remove(r, c);
+		}
+		
+		@Override
+		public default O get(int r, int c, int a)
+		{
+			return Delegate().get(r, c, a);
+		}
+		
+		@Override
+		public default O get(int r, int c)
+		{
+			return Delegate().get(r, c);
+		}
+		
+		@Override
+		public default O get(int i)
+		{
+			return Delegate().get(i);
+		}
 	}
 	
 	
@@ -136,6 +199,107 @@ public interface MutableIndex<O> extends IndexedSet<O>
 	public abstract O put(O val, int... crds);
 	
 	
+	/**
+	 * Removes a three-dimensional value from the {@code MutableIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  a previous index value
+	 */
+	public default O remove(int r, int c, int a)
+	{
+		return remove(new int[]{r, c, a});
+	}
+	
+	/**
+	 * Removes a two-dimensional value from the {@code MutableIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  a previous index value
+	 */
+	public default O remove(int r, int c)
+	{
+		return remove(new int[]{r, c});
+	}
+		
+	/**
+	 * Changes a three-dimensional value in the {@code MutableIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @param a    an index aisle
+	 * @return  a previous index value
+	 */
+	public default O put(O val, int r, int c, int a)
+	{
+		return put(val, new int[]{r, c, a});
+	}
+	
+	/**
+	 * Changes a two-dimensional value in the {@code MutableIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @return  a previous index value
+	 */
+	public default O put(O val, int r, int c)
+	{
+		return put(val, new int[]{r, c});
+	}
+	
+	/**
+	 * Changes a one-dimensional value in the {@code MutableIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param i    an index coordinate
+	 * @return  a previous index value
+	 */
+	public default O put(O val, int i)
+	{
+		return put(val, new int[]{i});
+	}
+	
+	/**
+	 * Returns a three-dimensional value from the {@code MutableIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  an index value
+	 */
+	public default O get(int r, int c, int a)
+	{
+		return get(new int[]{r, c, a});
+	}
+	
+	/**
+	 * Returns a two-dimensional value from the {@code MutableIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  an index value
+	 */
+	public default O get(int r, int c)
+	{
+		return get(new int[]{r, c});
+	}
+	
+	/**
+	 * Returns a one-dimensional value from the {@code MutableIndex}.
+	 * 
+	 * @param i  an index coordinate
+	 * @return  an index value
+	 */
+	public default O get(int i)
+	{
+		return get(new int[]{i});
+	}
+	
+	
 	/**
 	 * Converts a unique index value into a set of coordinates.
 	 * 
@@ -151,6 +315,12 @@ public interface MutableIndex<O> extends IndexedSet<O>
 			return Order.toColCoord(idx, Dimensions());
 		case ROW_MAJOR:
 			return Order.toRowCoord(idx, Dimensions());
+		case Z_ORDER:
+		case TILED:
+			int[] dims = Dimensions();
+			int[] crds = new int[dims.length];
+			Curves.toCoord(ord, Curves.TILE, idx, dims, crds);
+			return crds;
 		default:
 			return null;
 		}
@@ -171,8 +341,74 @@ public interface MutableIndex<O> extends IndexedSet<O>
 			return Order.toColIndex(crds, Dimensions());
 		case ROW_MAJOR:
 			return Order.toRowIndex(crds, Dimensions());
+		case Z_ORDER:
+		case TILED:
+			return Curves.toIndex(ord, Curves.TILE, crds, Dimensions());
 		default:
 			return -1;
 		}
 	}
+	
+	/**
+	 * Converts a three-dimensional coordinate into a unique index value.
+	 * 
+	 * @param ord  an index order
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @param a    an index aisle
+	 * @return  an index value
+	 */
+	public default int toIndex(Order ord, int r, int c, int a)
+	{
+		int[] dims = Dimensions();
+		switch(ord)
+		{
+		case COL_MAJOR:
+			return r + dims[0] * (c + dims[1] * a);
+		case ROW_MAJOR:
+			return (r * dims[1] + c) * dims[2] + a;
+		case Z_ORDER:
+		case TILED:
+			return toIndex(ord, new int[]{r, c, a});
+		default:
+			return -1;
+		}
+	}
+	
+	/**
+	 * Converts a two-dimensional coordinate into a unique index value.
+	 * 
+	 * @param ord  an index order
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @return  an index value
+	 */
+	public default int toIndex(Order ord, int r, int c)
+	{
+		int[] dims = Dimensions();
+		switch(ord)
+		{
+		case COL_MAJOR:
+			return r + dims[0] * c;
+		case ROW_MAJOR:
+			return r * dims[1] + c;
+		case Z_ORDER:
+		case TILED:
+			return toIndex(ord, new int[]{r, c});
+		default:
+			return -1;
+		}
+	}
+	
+	/**
+	 * Converts a one-dimensional coordinate into a unique index value.
+	 * 
+	 * @param ord  an index order
+	 * @param i    an index coordinate
+	 * @return  an index value
+	 */
+	public default int toIndex(Order ord, int i)
+	{
+		return i;
+	}
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package waffles.utils.sets.indexed;
 
+import waffles.utils.sets.indexed.MutableIndex.Order;
 import waffles.utils.sets.indexed.array.index.ObjectIndex;
 import waffles.utils.sets.utilities.indexed.Indexed;
+import waffles.utils.sets.utilities.indexed.iterators.IndexKeys;
 import waffles.utils.tools.primitives.Array;
 import waffles.utils.tools.primitives.Integers;
 
@@ -12,6 +14,12 @@ import waffles.utils.tools.primitives.Integers;
  * with the origin pointing to the current coordinates of the {@code Sentinel}.
  * Every time {{@link #get(int...)} fetches a value, it checks the buffer
  * for a loaded value before fetching the value from the parent.
+ * <br>
+ * The buffer is addressed toroidally, i.e. every parent coordinate is stored
+ * at its value modulo the buffer size. Moving the {@code Sentinel} then only
+ * invalidates the slabs which have left the window, while the rest of the
+ * buffer remains loaded. If prefetching is enabled, the slabs entering
+ * the window are fetched from the parent right away.
  *
  * @author Waffles
  * @since 12 Jun 2025
@@ -25,6 +33,7 @@ import waffles.utils.tools.primitives.Integers;
 public class Sentinel<O> implements Indexed, IndexedSet<O>
 {
 	private int[] offset;
+	private boolean prefetch;
 	private ObjectIndex<O> buffer;
 	private IndexedSet<O> parent;
 
@@ -43,13 +52,25 @@ public class Sentinel<O> implements Indexed, IndexedSet<O>
 		int[] dims = new int[d];
 		dims = Array.fill.in(dims, len);
 		buffer = new ObjectIndex<>(dims);
-		offset = parent.Dimensions();
+		offset = Array.copy.of(parent.Dimensions());
 		for(int i = 0; i < d; i++)
 		{
 			offset[i] /= 2;
 		}
 	}
 	
+	/**
+	 * Changes the prefetching of the {@code Sentinel}.
+	 * When enabled, every move fetches the values
+	 * entering the window from the parent.
+	 * 
+	 * @param pf  a prefetch state
+	 */
+	public void setPrefetch(boolean pf)
+	{
+		prefetch = pf;
+	}
+	
 	/**
 	 * Returns the parent of the {@code Sentinel}.
 	 * 
@@ -88,12 +109,13 @@ public class Sentinel<O> implements Indexed, IndexedSet<O>
 	public O get(int... crds)
 	{		
 		int len = Length();
+		int size = 2 * len + 1;
 		boolean isBuffered = true;
-		// First, build a buffer coordinate.
-		int[] iBuffer = new int[Order()];
+		// First, build a parent coordinate.
+		int[] iParent = new int[Order()];
 		for(int i = 0; i < Order(); i++)
 		{
-			iBuffer[i] = crds[i] + len;
+			iParent[i] = offset[i] + len + crds[i];
 			int l = Integers.abs(crds[i]);
 			// If the coordinate is out of bounds...
 			if(len < l)
@@ -103,31 +125,26 @@ public class Sentinel<O> implements Indexed, IndexedSet<O>
 			}
 		}
 		
-		O value = null;
-		if(isBuffered)
+		if(!isBuffered)
 		{
-			// Fetch a value from the buffer.
-			value = buffer.get(iBuffer);
-			// If a value was found...
-			if(value != null)
-			{
-				// ...return it.
-				return value;
-			}
+			// Fetch a value from the parent.
+			return parent.get(iParent);
 		}
 		
-		// Otherwise, build a parent coordinate.
-		int[] iParent = new int[Order()];
+		// Otherwise, build a toroidal buffer coordinate.
+		int[] iBuffer = new int[Order()];
 		for(int i = 0; i < Order(); i++)
 		{
-			iParent[i] = Coordinates()[i] + iBuffer[i];
+			iBuffer[i] = Math.floorMod(iParent[i], size);
 		}
 		
-		// Fetch a value from the parent.
-		value = parent.get(iParent);
-		if(isBuffered)
+		// Fetch a value from the buffer.
+		O value = buffer.get(iBuffer);
+		// If no value was found...
+		if(value == null)
 		{
-			// Buffer the retrieved value.
+			// ...fetch and buffer it from the parent.
+			value = parent.get(iParent);
 			buffer.put(value, iBuffer);
 		}
 
@@ -137,7 +154,110 @@ public class Sentinel<O> implements Indexed, IndexedSet<O>
 	@Override
 	public void moveTo(int... off)
 	{
-		offset = off;
+		int size = 2 * Length() + 1;
+		for(int i = 0; i < Order(); i++)
+		{
+			int k = off[i] - offset[i];
+			// If the window moved too far...
+			if(size <= Integers.abs(k))
+			{
+				// ...the whole buffer is stale.
+				offset = Array.copy.of(off);
+				refetch();
+				return;
+			}
+		}
+		
+		int[] prev = offset;
+		offset = Array.copy.of(off);
+		for(int i = 0; i < Order(); i++)
+		{
+			int k = off[i] - prev[i];
+			// The incoming slabs take the slots of the outgoing ones.
+			int lo = k > 0 ? prev[i] + size : off[i];
+			for(int j = 0; j < Integers.abs(k); j++)
+			{
+				refetch(i, Math.floorMod(lo + j, size));
+			}
+		}
+	}
+	
+	@Override
+	public void moveFor(int... crds)
+	{
+		int[] off = Array.copy.of(offset);
+		for(int i = 0; i < Order(); i++)
+		{
+			off[i] += crds[i];
+		}
+		
+		moveTo(off);
+	}
+	
+	
+	private void refetch()
+	{
+		int size = 2 * Length() + 1;
+		for(int j = 0; j < size; j++)
+		{
+			refetch(0, j);
+		}
+	}
+	
+	private void refetch(int axis, int slot)
+	{
+		int size = 2 * Length() + 1;
+		int[] min = buffer.Minimum();
+		int[] max = buffer.Maximum();
+		min[axis] = slot;
+		max[axis] = slot;
+		
+		int[] iParent = new int[Order()];
+		IndexKeys keys = new IndexKeys(buffer, Order.COL_MAJOR, min, max);
+		while(keys.hasNext())
+		{
+			int[] iBuffer = keys.next();
+			if(!prefetch)
+			{
+				buffer.remove(iBuffer);
+				continue;
+			}
+			
+			// Find the parent coordinate stored in the slot.
+			for(int i = 0; i < Order(); i++)
+			{
+				iParent[i] = offset[i] + Math.floorMod(iBuffer[i] - offset[i], size);
+			}
+			
+			O value = null;
+			if(parent.defines(iParent))
+			{
+				value = parent.get(iParent);
+			}
+			
+			buffer.put(value, iBuffer);
+		}
+	}
+	
+	
+	@Override
+	public int[] Minimum()
+	{
+		int[] min = new int[Order()];
+		return Array.fill.in(min, -Length());
+	}
+	
+	@Override
+	public int[] Maximum()
+	{
+		int[] max = new int[Order()];
+		return Array.fill.in(max, Length());
+	}
+	
+	@Override
+	public int[] Dimensions()
+	{
+		return buffer.Dimensions();
 	}
 	
 	@Override
@@ -149,6 +269,6 @@ public class Sentinel<O> implements Indexed, IndexedSet<O>
 	@Override
 	public int Order()
 	{
-		return Dimensions().length;
+		return offset.length;
 	}
 }
\ No newline at end of file
@@ -1,7 +1,14 @@
 package waffles.utils.sets.indexed.array;
 
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import waffles.utils.sets.indexed.Curves;
 import waffles.utils.sets.indexed.MutableIndex;
+import waffles.utils.sets.utilities.indexed.iterators.IndexCursor;
 import waffles.utils.sets.utilities.indexed.iterators.IndexKeys;
+import waffles.utils.sets.utilities.indexed.iterators.IndexSpliterator;
 import waffles.utils.sets.utilities.indexed.iterators.IndexValues;
 
 /**
@@ -53,11 +60,20 @@ public interface ArrayLike<A, O> extends MutableIndex<O>
 		{
 			return Delegate().Array();
 		}
+		
+		@Override
+		public default Layout Layout()
+		{
+			return Delegate().Layout();
+		}
 	}
 	
 	
 	/**
 	 * Returns the array of the {@code ArrayLike}.
+	 * The array holds one element per cell, addressed
+	 * through the {@link #Layout()} of the array,
+	 * unless an implementation states otherwise.
 	 * 
 	 * @return  a data array
 	 */
@@ -73,6 +89,141 @@ public interface ArrayLike<A, O> extends MutableIndex<O>
 		return Order.COL_MAJOR;
 	}
 	
+	/**
+	 * Returns the layout of the {@code ArrayLike}.
+	 * By default, a dense layout is computed from the
+	 * index ordering and dimensions. Implementations that
+	 * store their layout should return it directly.
+	 * 
+	 * @return  an array layout
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public default Layout Layout()
+	{
+		return new Layout(Ordering(), Dimensions());
+	}
+	
+	
+	/**
+	 * Copies a region of another {@code ArrayLike} into the {@code ArrayLike}.
+	 * If both arrays share an uncurved order, the region is copied
+	 * span by span through {@code System.arraycopy}. Otherwise,
+	 * it is copied one cell at a time. The source and target
+	 * regions should not overlap in the same data array.
+	 * Implementations whose {@link #Array()} is not their
+	 * live data should override this method.
+	 * 
+	 * @param src   a source array
+	 * @param from  a source minimum
+	 * @param to    a target minimum
+	 * @param dim   a region dimension
+	 */
+	public default void copy(ArrayLike<A, O> src, int[] from, int[] to, int[] dim)
+	{
+		int[] sMax = new int[dim.length];
+		int[] tMax = new int[dim.length];
+		for(int i = 0; i < dim.length; i++)
+		{
+			sMax[i] = from[i] + dim[i] - 1;
+			tMax[i] = to[i] + dim[i] - 1;
+		}
+		
+		Spans s = src.Layout().spans(from, sMax);
+		Spans t = Layout().spans(to, tMax);
+		if(s == null || t == null || src.Ordering() != Ordering())
+		{
+			int[] crds = new int[dim.length];
+			IndexCursor<O> crs = new IndexCursor<>(src, Ordering(), from, sMax);
+			while(crs.next())
+			{
+				for(int i = 0; i < crds.length; i++)
+				{
+					crds[i] = crs.Coordinates()[i] - from[i] + to[i];
+				}
+				
+				put(crs.Value(), crds);
+			}
+			
+			return;
+		}
+		
+		// Spans of either side may differ in length.
+		int sOff = 0, sLeft = 0;
+		int tOff = 0, tLeft = 0;
+		while(true)
+		{
+			if(sLeft == 0)
+			{
+				if(!s.next()) break;
+				sOff = s.Offset();
+				sLeft = s.Length();
+			}
+			
+			if(tLeft == 0)
+			{
+				if(!t.next()) break;
+				tOff = t.Offset();
+				tLeft = t.Length();
+			}
+			
+			int len = Math.min(sLeft, tLeft);
+			System.arraycopy(src.Array(), sOff, Array(), tOff, len);
+			sOff += len; sLeft -= len;
+			tOff += len; tLeft -= len;
+		}
+	}
+	
+	/**
+	 * Returns a stream over the keys of the {@code ArrayLike}.
+	 * A parallel stream splits the array by linear range,
+	 * in slabs along the outermost axis of its order.
+	 * 
+	 * @param par  a parallel state
+	 * @return  a key stream
+	 * 
+	 * 
+	 * @see Stream
+	 */
+	public default Stream<int[]> KeyStream(boolean par)
+	{
+		Order ord = Ordering();
+		int chr = Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.SIZED | Spliterator.SUBSIZED;
+		if(!Curves.isCurved(ord))
+		{
+			chr |= Spliterator.ORDERED;
+		}
+		
+		Spliterator<int[]> spl = new IndexSpliterator<>(ord, Minimum(), Maximum(), chr,
+			(min, max) -> new IndexKeys(this, ord, min, max));
+		return StreamSupport.stream(spl, par);
+	}
+	
+	/**
+	 * Returns a stream over the values of the {@code ArrayLike}.
+	 * A parallel stream splits the array by linear range,
+	 * in slabs along the outermost axis of its order.
+	 * 
+	 * @param par  a parallel state
+	 * @return  a value stream
+	 * 
+	 * 
+	 * @see Stream
+	 */
+	public default Stream<O> ValueStream(boolean par)
+	{
+		Order ord = Ordering();
+		int chr = Spliterator.NONNULL;
+		if(!Curves.isCurved(ord))
+		{
+			chr |= Spliterator.ORDERED;
+		}
+		
+		Spliterator<O> spl = new IndexSpliterator<>(ord, Minimum(), Maximum(), chr,
+			(min, max) -> new IndexValues<>(this, ord, min, max));
+		return StreamSupport.stream(spl, par);
+	}
 	
 	/**
 	 * Iterates over the keys of the {@code ArrayLike}.
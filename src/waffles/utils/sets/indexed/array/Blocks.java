@@ -0,0 +1,258 @@
+package waffles.utils.sets.indexed.array;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+import waffles.utils.sets.indexed.MutableIndex.Order;
+
+/**
+ * A {@code Blocks} object splits the cells of a {@code Layout} into blocks for parallel execution.
+ * Cells are numbered in the order of the layout, and every block spans a whole number of slabs
+ * along its outermost axis, so each task walks a cache-friendly run of the array.
+ * The blocks are executed on a {@code ForkJoinPool}, and their partial results
+ * are always combined along the same binary tree.
+ * <br>
+ * A deterministic split sizes its blocks from the layout alone, so the combination
+ * order, and thus any floating point result, does not depend on the machine.
+ * Otherwise, the block count is matched to the parallelism of the pool.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see ForkJoinPool
+ * @see Layout
+ */
+public final class Blocks
+{
+	private static final int SIZE = 1 << 15;
+	
+	/**
+	 * A {@code Range} defines a task over a range of cell numbers.
+	 *
+	 * @author Waffles
+	 * @since 17 Oct 2026
+	 * @version 1.1
+	 */
+	@FunctionalInterface
+	public static interface Range
+	{
+		/**
+		 * Runs the {@code Range} task.
+		 * 
+		 * @param lo  a first cell number
+		 * @param hi  a cell number past the last
+		 */
+		public abstract void run(int lo, int hi);
+	}
+	
+	/**
+	 * A {@code Fold} defines a reduction over a range of cell numbers.
+	 *
+	 * @author Waffles
+	 * @since 17 Oct 2026
+	 * @version 1.1
+	 *
+	 *
+	 * @param <R>  a result type
+	 */
+	@FunctionalInterface
+	public static interface Fold<R>
+	{
+		/**
+		 * Runs the {@code Fold} task.
+		 * 
+		 * @param lo  a first cell number
+		 * @param hi  a cell number past the last
+		 * @return  a partial result
+		 */
+		public abstract R run(int lo, int hi);
+	}
+	
+	
+	private ForkJoinPool pool;
+	private int count, slab, step;
+	
+	/**
+	 * Creates a new {@code Blocks}.
+	 * 
+	 * @param lay   a source layout
+	 * @param pool  a fork-join pool
+	 * @param det   a deterministic split flag
+	 * 
+	 * 
+	 * @see ForkJoinPool
+	 * @see Layout
+	 */
+	public Blocks(Layout lay, ForkJoinPool pool, boolean det)
+	{
+		this.pool = pool;
+		
+		int[] dim = lay.Dimensions();
+		count = lay.Count();
+		if(count == 0)
+		{
+			return;
+		}
+		
+		int outer = 1;
+		if(dim.length > 0)
+		{
+			Order ord = lay.Ordering();
+			outer = ord == Order.ROW_MAJOR ? dim[0] : dim[dim.length - 1];
+		}
+		
+		slab = count / outer;
+		if(det)
+		{
+			step = Math.max(1, SIZE / slab);
+		}
+		else
+		{
+			int par = 4 * pool.getParallelism();
+			step = Math.max(1, (outer + par - 1) / par);
+		}
+	}
+	
+	/**
+	 * Creates a new {@code Blocks}.
+	 * The blocks are split deterministically,
+	 * and run on the common pool.
+	 * 
+	 * @param lay  a source layout
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public Blocks(Layout lay)
+	{
+		this(lay, ForkJoinPool.commonPool(), true);
+	}
+	
+	
+	/**
+	 * Runs a task over every block of the {@code Blocks}.
+	 * 
+	 * @param task  a range task
+	 */
+	public void run(Range task)
+	{
+		if(Count() > 0)
+		{
+			pool.invoke(new Action(task, 0, Count()));
+		}
+	}
+	
+	/**
+	 * Reduces every block of the {@code Blocks}.
+	 * If there are no blocks, null is returned.
+	 * 
+	 * @param <R>   a result type
+	 * @param task  a fold task
+	 * @param op    a merge operator
+	 * @return  a reduced result
+	 * 
+	 * 
+	 * @see BinaryOperator
+	 */
+	public <R> R fold(Fold<R> task, BinaryOperator<R> op)
+	{
+		if(Count() > 0)
+		{
+			return pool.invoke(new Task<>(task, op, 0, Count()));
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Returns the block count of the {@code Blocks}.
+	 * 
+	 * @return  a block count
+	 */
+	public int Count()
+	{
+		if(count == 0)
+		{
+			return 0;
+		}
+		
+		int size = slab * step;
+		return (count + size - 1) / size;
+	}
+	
+	
+	private int lower(int b)
+	{
+		return (int) Math.min((long) b * slab * step, count);
+	}
+	
+	private class Action extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		
+		private Range task;
+		private int b0, b1;
+		
+		public Action(Range task, int b0, int b1)
+		{
+			this.task = task;
+			this.b0 = b0;
+			this.b1 = b1;
+		}
+		
+		@Override
+		protected void compute()
+		{
+			if(b1 - b0 == 1)
+			{
+				task.run(lower(b0), lower(b1));
+				return;
+			}
+			
+			int mid = (b0 + b1) >>> 1;
+			invokeAll
+			(
+				new Action(task, b0, mid),
+				new Action(task, mid, b1)
+			);
+		}
+	}
+	
+	private class Task<R> extends RecursiveTask<R>
+	{
+		private static final long serialVersionUID = 1L;
+		
+		private Fold<R> task;
+		private BinaryOperator<R> op;
+		private int b0, b1;
+		
+		public Task(Fold<R> task, BinaryOperator<R> op, int b0, int b1)
+		{
+			this.task = task;
+			this.op = op;
+			this.b0 = b0;
+			this.b1 = b1;
+		}
+		
+		@Override
+		protected R compute()
+		{
+			if(b1 - b0 == 1)
+			{
+				return task.run(lower(b0), lower(b1));
+			}
+			
+			int mid = (b0 + b1) >>> 1;
+			Task<R> left = new Task<>(task, op, b0, mid);
+			Task<R> right = new Task<>(task, op, mid, b1);
+			
+			left.fork();
+			R r = right.compute();
+			return op.apply(left.join(), r);
+		}
+	}
+}
\ No newline at end of file
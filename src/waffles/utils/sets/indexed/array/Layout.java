@@ -0,0 +1,604 @@
+package waffles.utils.sets.indexed.array;
+
+import waffles.utils.sets.indexed.Curves;
+import waffles.utils.sets.indexed.MutableIndex.Order;
+import waffles.utils.sets.utilities.indexed.coords.Coordinator;
+import waffles.utils.tools.primitives.Array;
+
+/**
+ * A {@code Layout} defines how the coordinates of an {@code ArrayLike} map onto its data array.
+ * Every axis is assigned a stride, which together with a base offset converts
+ * a coordinate into an array index with a single multiply-add per axis.
+ * A {@code Layout} is immutable, so it can be computed once
+ * and shared by every access of its index.
+ * <br>
+ * Layouts in a curved order map their coordinates through the {@code Curves}
+ * class instead. They are always dense in storage, and cannot be viewed.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see Coordinator
+ * @see ArrayLike
+ */
+public final class Layout implements Coordinator
+{
+	private static int[] stridesOf(Order ord, int[] dims)
+	{
+		int step = 1;
+		int[] str = new int[dims.length];
+		switch(ord)
+		{
+		case ROW_MAJOR:
+			for(int i = dims.length - 1; i >= 0; i--)
+			{
+				str[i] = step;
+				step *= dims[i];
+			}
+			
+			return str;
+		case COL_MAJOR:
+		default:
+			for(int i = 0; i < dims.length; i++)
+			{
+				str[i] = step;
+				step *= dims[i];
+			}
+			
+			return str;
+		}
+	}
+	
+	private static int[] axesOf(int[] dims, int[] str)
+	{
+		int count = 0;
+		int[] axes = new int[dims.length];
+		for(int i = 0; i < dims.length; i++)
+		{
+			// Singular axes always have coordinate zero.
+			if(dims[i] > 1)
+			{
+				// Insert the axis by decreasing stride.
+				int k = count++;
+				while(k > 0 && str[axes[k - 1]] < str[i])
+				{
+					axes[k] = axes[k - 1];
+					k--;
+				}
+				
+				axes[k] = i;
+			}
+		}
+		
+		int[] result = new int[count];
+		System.arraycopy(axes, 0, result, 0, count);
+		return result;
+	}
+	
+	
+	private final Order order;
+	private final int offset;
+	private final int s0, s1, s2;
+	private final int[] dimension, stride, axes;
+	private final boolean dense, curved;
+	private final int tile;
+	
+	/**
+	 * Returns a tiled {@code Layout} with a specific block size.
+	 * 
+	 * @param tile  a block size
+	 * @param dim   an index dimension
+	 * @return  a tiled layout
+	 */
+	public static Layout tiled(int tile, int... dim)
+	{
+		return new Layout(Order.TILED, tile, 0, dim, stridesOf(Order.TILED, dim));
+	}
+	
+	/**
+	 * Creates a new {@code Layout}.
+	 * 
+	 * @param ord  an index order
+	 * @param off  an array offset
+	 * @param dim  an index dimension
+	 * @param str  an axis stride
+	 * 
+	 * 
+	 * @see Order
+	 */
+	public Layout(Order ord, int off, int[] dim, int[] str)
+	{
+		this(ord, Curves.TILE, off, dim, str);
+	}
+	
+	private Layout(Order ord, int tl, int off, int[] dim, int[] str)
+	{
+		tile = tl;
+		order = ord;
+		offset = off;
+		dimension = dim;
+		stride = str;
+		
+		axes = axesOf(dim, str);
+		s0 = str.length > 0 ? str[0] : 0;
+		s1 = str.length > 1 ? str[1] : 0;
+		s2 = str.length > 2 ? str[2] : 0;
+		curved = Curves.isCurved(ord);
+		dense = off == 0 && isContiguous();
+	}
+	
+	/**
+	 * Creates a new {@code Layout}.
+	 * The strides are packed densely according to the given order.
+	 * 
+	 * @param ord  an index order
+	 * @param dim  an index dimension
+	 * 
+	 * 
+	 * @see Order
+	 */
+	public Layout(Order ord, int... dim)
+	{
+		this(ord, 0, dim, stridesOf(ord, dim));
+	}
+	
+	
+	/**
+	 * Converts a set of coordinates into an array index.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  an array index
+	 */
+	public int toIndex(int... crds)
+	{
+		if(curved)
+		{
+			return Curves.toIndex(order, tile, crds, dimension);
+		}
+		
+		int idx = offset;
+		for(int i = 0; i < stride.length; i++)
+		{
+			idx += crds[i] * stride[i];
+		}
+		
+		return idx;
+	}
+	
+	/**
+	 * Converts a three-dimensional coordinate into an array index.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  an array index
+	 */
+	public int toIndex(int r, int c, int a)
+	{
+		if(curved)
+		{
+			return toIndex(new int[]{r, c, a});
+		}
+		
+		return offset + r * s0 + c * s1 + a * s2;
+	}
+	
+	/**
+	 * Converts a two-dimensional coordinate into an array index.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  an array index
+	 */
+	public int toIndex(int r, int c)
+	{
+		if(curved)
+		{
+			return toIndex(new int[]{r, c});
+		}
+		
+		return offset + r * s0 + c * s1;
+	}
+	
+	/**
+	 * Converts a one-dimensional coordinate into an array index.
+	 * 
+	 * @param i  an index coordinate
+	 * @return  an array index
+	 */
+	public int toIndex(int i)
+	{
+		return offset + i * s0;
+	}
+	
+	/**
+	 * Converts an array index into a set of coordinates.
+	 * 
+	 * @param idx  an array index
+	 * @return  an index coordinate
+	 */
+	public int[] toCoord(int idx)
+	{
+		int[] crds = new int[dimension.length];
+		if(curved)
+		{
+			Curves.toCoord(order, tile, idx, dimension, crds);
+			return crds;
+		}
+		
+		int rem = idx - offset;
+		// Peel off the coordinates by decreasing stride.
+		for(int k = 0; k < axes.length; k++)
+		{
+			int i = axes[k];
+			crds[i] = rem / stride[i];
+			rem -= crds[i] * stride[i];
+		}
+		
+		return crds;
+	}
+	
+	/**
+	 * Converts a cell number into an array index.
+	 * Cells are numbered in the given order, over the
+	 * dimensions of the layout, regardless of its strides.
+	 * Curved orders number their cells in column-major order.
+	 * 
+	 * @param ord  an index order
+	 * @param i    a cell number
+	 * @return  an array index
+	 */
+	public int toOffset(Order ord, int i)
+	{
+		if(curved)
+		{
+			int[] crds = new int[dimension.length];
+			for(int k = 0; k < dimension.length; k++)
+			{
+				int axis = ord == Order.ROW_MAJOR ? dimension.length - 1 - k : k;
+				crds[axis] = i % dimension[axis];
+				i /= dimension[axis];
+			}
+			
+			return toIndex(crds);
+		}
+		
+		int idx = offset;
+		switch(ord)
+		{
+		case ROW_MAJOR:
+			for(int k = dimension.length - 1; k >= 0; k--)
+			{
+				idx += (i % dimension[k]) * stride[k];
+				i /= dimension[k];
+			}
+			
+			return idx;
+		case COL_MAJOR:
+		default:
+			for(int k = 0; k < dimension.length; k++)
+			{
+				idx += (i % dimension[k]) * stride[k];
+				i /= dimension[k];
+			}
+			
+			return idx;
+		}
+	}
+	
+	/**
+	 * Converts a cell number into an array index.
+	 * Cells are numbered in the order of the layout.
+	 * 
+	 * @param i  a cell number
+	 * @return  an array index
+	 */
+	public int toOffset(int i)
+	{
+		if(isDense())
+		{
+			return i;
+		}
+		
+		return toOffset(order, i);
+	}
+	
+	
+	/**
+	 * Returns a {@code Layout} restricted to a sub-block.
+	 * The result shares the strides of this layout,
+	 * with its origin moved to the minimum.
+	 * Curved layouts return {@code null}.
+	 * 
+	 * @param min  a minimum coordinate
+	 * @param max  a maximum coordinate
+	 * @return  a sliced layout
+	 */
+	public Layout slice(int[] min, int[] max)
+	{
+		if(curved)
+		{
+			return null;
+		}
+		
+		int off = offset;
+		int[] dim = new int[dimension.length];
+		for(int i = 0; i < dimension.length; i++)
+		{
+			off += min[i] * stride[i];
+			dim[i] = max[i] - min[i] + 1;
+		}
+		
+		return new Layout(order, off, dim, stride);
+	}
+	
+	/**
+	 * Returns a {@code Layout} with one axis fixed.
+	 * The resulting layout has one less dimension.
+	 * Curved layouts return {@code null}.
+	 * 
+	 * @param axis  an index axis
+	 * @param crd   an axis coordinate
+	 * @return  a fixed layout
+	 */
+	public Layout fix(int axis, int crd)
+	{
+		if(curved)
+		{
+			return null;
+		}
+		
+		int[] dim = new int[dimension.length - 1];
+		int[] str = new int[dimension.length - 1];
+		for(int i = 0, k = 0; i < dimension.length; i++)
+		{
+			if(i != axis)
+			{
+				dim[k] = dimension[i];
+				str[k] = stride[i];
+				k++;
+			}
+		}
+		
+		int off = offset + crd * stride[axis];
+		return new Layout(order, off, dim, str);
+	}
+	
+	/**
+	 * Returns a {@code Layout} with two axes swapped.
+	 * Curved layouts return {@code null}.
+	 * 
+	 * @param a1  a first axis
+	 * @param a2  a second axis
+	 * @return  a transposed layout
+	 */
+	public Layout transpose(int a1, int a2)
+	{
+		if(curved)
+		{
+			return null;
+		}
+		
+		int[] dim = Array.copy.of(dimension);
+		int[] str = Array.copy.of(stride);
+		
+		dim[a1] = dimension[a2];
+		dim[a2] = dimension[a1];
+		str[a1] = stride[a2];
+		str[a2] = stride[a1];
+		
+		return new Layout(order, offset, dim, str);
+	}
+	
+	/**
+	 * Returns a {@code Layout} with different dimensions.
+	 * This is only possible if the layout is contiguous,
+	 * and the new dimensions span the same cell count.
+	 * Otherwise, this method returns {@code null}.
+	 * 
+	 * @param dim  a new dimension
+	 * @return  a reshaped layout
+	 */
+	public Layout reshape(int... dim)
+	{
+		if(!isContiguous())
+		{
+			return null;
+		}
+		
+		if(Array.product.of(dim) != Count())
+		{
+			return null;
+		}
+		
+		return new Layout(order, offset, dim, stridesOf(order, dim));
+	}
+	
+	
+	/**
+	 * Returns the contiguous spans of a region in the {@code Layout}.
+	 * Curved layouts do not decompose into spans,
+	 * in which case null is returned instead.
+	 * 
+	 * @param min  a minimum coordinate
+	 * @param max  a maximum coordinate
+	 * @return  a region span set
+	 * 
+	 * 
+	 * @see Spans
+	 */
+	public Spans spans(int[] min, int[] max)
+	{
+		if(curved)
+		{
+			return null;
+		}
+		
+		return new Spans(this, min, max);
+	}
+	
+	/**
+	 * Checks if the {@code Layout} is contiguous.
+	 * A contiguous layout covers a single gapless
+	 * range of its data array, in the order
+	 * of the layout.
+	 * 
+	 * @return  {@code true} if the layout is contiguous
+	 */
+	public boolean isContiguous()
+	{
+		if(curved)
+		{
+			return false;
+		}
+		
+		int[] str = stridesOf(order, dimension);
+		for(int i = 0; i < str.length; i++)
+		{
+			if(dimension[i] > 1 && str[i] != stride[i])
+			{
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Checks if the {@code Layout} follows a curved order.
+	 * 
+	 * @return  {@code true} if the layout is curved
+	 * 
+	 * 
+	 * @see Curves
+	 */
+	public boolean isCurved()
+	{
+		return curved;
+	}
+	
+	/**
+	 * Checks if the {@code Layout} is densely packed.
+	 * A dense layout covers its data array from index zero
+	 * onwards without any gaps, in the order of the layout.
+	 * 
+	 * @return  {@code true} if the layout is dense
+	 */
+	public boolean isDense()
+	{
+		return dense;
+	}
+	
+	/**
+	 * Returns a dense {@code Layout} with the same order,
+	 * block size and dimensions as this layout.
+	 * 
+	 * @return  a compact layout
+	 */
+	public Layout compact()
+	{
+		return new Layout(order, tile, 0, dimension, stridesOf(order, dimension));
+	}
+	
+	/**
+	 * Returns the stride of an axis in the {@code Layout}.
+	 * 
+	 * @param axis  an index axis
+	 * @return  an axis stride
+	 */
+	public int Stride(int axis)
+	{
+		return stride[axis];
+	}
+	
+	/**
+	 * Returns the strides of the {@code Layout}.
+	 * 
+	 * @return  an axis stride array
+	 */
+	public int[] Strides()
+	{
+		return stride;
+	}
+	
+	/**
+	 * Returns the ordering of the {@code Layout}.
+	 * 
+	 * @return  an index order
+	 * 
+	 * 
+	 * @see Order
+	 */
+	public Order Ordering()
+	{
+		return order;
+	}
+	
+	/**
+	 * Returns the offset of the {@code Layout}.
+	 * 
+	 * @return  an array offset
+	 */
+	public int Offset()
+	{
+		return offset;
+	}
+	
+	/**
+	 * Returns the cell count of the {@code Layout}.
+	 * 
+	 * @return  a cell count
+	 */
+	public int Count()
+	{
+		return Array.product.of(dimension);
+	}
+	
+	/**
+	 * Returns the storage size of the {@code Layout}.
+	 * This is the minimal length of a data array
+	 * which can hold every cell of the layout.
+	 * 
+	 * @return  a storage size
+	 */
+	public int Size()
+	{
+		if(curved)
+		{
+			return Curves.size(order, tile, dimension);
+		}
+		
+		int size = offset + 1;
+		for(int i = 0; i < dimension.length; i++)
+		{
+			if(dimension[i] == 0)
+			{
+				return 0;
+			}
+			
+			size += (dimension[i] - 1) * stride[i];
+		}
+		
+		return size;
+	}
+	
+	/**
+	 * Returns the block size of the {@code Layout}.
+	 * This is only relevant for tiled layouts.
+	 * 
+	 * @return  a block size
+	 */
+	public int Tile()
+	{
+		return tile;
+	}
+	
+	
+	@Override
+	public int[] Dimensions()
+	{
+		return dimension;
+	}
+}
\ No newline at end of file
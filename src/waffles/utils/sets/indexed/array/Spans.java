@@ -0,0 +1,166 @@
+package waffles.utils.sets.indexed.array;
+
+import waffles.utils.sets.indexed.MutableIndex.Order;
+
+/**
+ * A {@code Spans} object traverses a region of a {@code Layout} in contiguous spans.
+ * The region is walked in the order of the layout, and every span covers a
+ * gapless range of its data array. Axes which the region covers entirely
+ * are merged into the spans of the next axis, so a full region of
+ * a dense layout consists of a single span.
+ * Curved layouts are not supported.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see Layout
+ */
+public final class Spans
+{
+	private Layout layout;
+	private int[] min, max;
+	private int[] crds, axes;
+	private int merged, length;
+	private int offset, count;
+	private boolean done;
+	
+	/**
+	 * Creates a new {@code Spans}.
+	 * 
+	 * @param lay  a source layout
+	 * @param min  a minimum coordinate
+	 * @param max  a maximum coordinate
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public Spans(Layout lay, int[] min, int[] max)
+	{
+		this.min = min;
+		this.max = max;
+		layout = lay;
+		
+		int ord = min.length;
+		axes = new int[ord];
+		for(int i = 0; i < ord; i++)
+		{
+			axes[i] = lay.Ordering() == Order.ROW_MAJOR ? ord - 1 - i : i;
+		}
+		
+		// Merge fast axes while they stay contiguous.
+		length = 1;
+		count = 1;
+		merged = 0;
+		int step = 1;
+		for(int i = 0; i < ord; i++)
+		{
+			int a = axes[i];
+			if(max[a] < min[a])
+			{
+				count = 0;
+			}
+			
+			if(merged == i && (lay.Stride(a) == step || lay.Dimensions()[a] == 1))
+			{
+				length *= max[a] - min[a] + 1;
+				step *= lay.Dimensions()[a];
+				merged++;
+				
+				if(min[a] != 0 || max[a] != lay.Dimensions()[a] - 1)
+				{
+					step = -1;
+				}
+			}
+			else
+			{
+				count *= Math.max(0, max[a] - min[a] + 1);
+			}
+		}
+		
+		crds = new int[ord];
+		reset();
+	}
+	
+	
+	/**
+	 * Rewinds the {@code Spans} to the start of the region.
+	 * The spans are placed before their first span,
+	 * so {@link #next()} has to be called first.
+	 */
+	public void reset()
+	{
+		done = count == 0;
+		offset = -1;
+	}
+	
+	/**
+	 * Advances the {@code Spans} to the next span.
+	 * 
+	 * @return  {@code true} if a current span exists
+	 */
+	public boolean next()
+	{
+		if(done)
+		{
+			return false;
+		}
+		
+		if(offset < 0)
+		{
+			System.arraycopy(min, 0, crds, 0, crds.length);
+			offset = layout.toIndex(crds);
+			return true;
+		}
+		
+		// Step the outer axes like an odometer.
+		for(int i = merged; i < axes.length; i++)
+		{
+			int a = axes[i];
+			if(crds[a] < max[a])
+			{
+				crds[a]++;
+				offset += layout.Stride(a);
+				return true;
+			}
+			
+			offset -= (crds[a] - min[a]) * layout.Stride(a);
+			crds[a] = min[a];
+		}
+		
+		done = true;
+		return false;
+	}
+	
+	
+	/**
+	 * Returns the data offset of the current span.
+	 * 
+	 * @return  a span offset
+	 */
+	public int Offset()
+	{
+		return offset;
+	}
+	
+	/**
+	 * Returns the length of every span.
+	 * 
+	 * @return  a span length
+	 */
+	public int Length()
+	{
+		return length;
+	}
+	
+	/**
+	 * Returns the amount of spans in the region.
+	 * 
+	 * @return  a span count
+	 */
+	public int Count()
+	{
+		return count;
+	}
+}
\ No newline at end of file
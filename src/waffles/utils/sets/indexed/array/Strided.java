@@ -0,0 +1,118 @@
+package waffles.utils.sets.indexed.array;
+
+/**
+ * A {@code Strided} object can generate views on its data through a {@code Layout}.
+ * A view shares the data of its source, but addresses it with a different
+ * offset and set of strides. This allows sub-blocks, fixed axes, transposes
+ * and reshapes of an index to be used without copying any data.
+ * Curved layouts cannot be viewed, in which case {@code null} is returned.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @param <V>  a view type
+ * @see Layout
+ */
+public interface Strided<V extends Strided<V>>
+{
+	/**
+	 * Returns the layout of the {@code Strided}.
+	 * 
+	 * @return  an array layout
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public abstract Layout Layout();
+	
+	/**
+	 * Returns a view on the {@code Strided}.
+	 * The view shares its data with this object,
+	 * addressed through the given layout.
+	 * 
+	 * @param lay  a view layout
+	 * @return  a data view
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public abstract V view(Layout lay);
+	
+	
+	/**
+	 * Returns a view on a sub-block of the {@code Strided}.
+	 * The view's origin corresponds to the given minimum.
+	 * 
+	 * @param min  a minimum coordinate
+	 * @param max  a maximum coordinate
+	 * @return  a sliced view
+	 */
+	public default V slice(int[] min, int[] max)
+	{
+		Layout lay = Layout().slice(min, max);
+		if(lay != null)
+		{
+			return view(lay);
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Returns a view on the {@code Strided} with one axis fixed.
+	 * The view has one less dimension than this object.
+	 * 
+	 * @param axis  an index axis
+	 * @param crd   an axis coordinate
+	 * @return  a fixed view
+	 */
+	public default V fix(int axis, int crd)
+	{
+		Layout lay = Layout().fix(axis, crd);
+		if(lay != null)
+		{
+			return view(lay);
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Returns a view on the {@code Strided} with two axes swapped.
+	 * 
+	 * @param a1  a first axis
+	 * @param a2  a second axis
+	 * @return  a transposed view
+	 */
+	public default V transpose(int a1, int a2)
+	{
+		Layout lay = Layout().transpose(a1, a2);
+		if(lay != null)
+		{
+			return view(lay);
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Returns a view on the {@code Strided} with different dimensions.
+	 * This is only possible if its data is laid out contiguously,
+	 * otherwise this method returns {@code null}.
+	 * 
+	 * @param dim  a new dimension
+	 * @return  a reshaped view
+	 */
+	public default V reshape(int... dim)
+	{
+		Layout lay = Layout().reshape(dim);
+		if(lay != null)
+		{
+			return view(lay);
+		}
+		
+		return null;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,756 @@
+package waffles.utils.sets.indexed.array.index;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import waffles.utils.sets.indexed.array.ArrayLike;
+import waffles.utils.sets.indexed.array.Layout;
+import waffles.utils.sets.indexed.array.Strided;
+import waffles.utils.sets.utilities.indexed.iterators.IndexCursor;
+import waffles.utils.tools.patterns.properties.values.Copyable;
+
+/**
+ * A {@code BitIndex} provides a bit-packed alternative for a {@code BooleanIndex}.
+ * Every cell is stored as a single bit in an array of long words, addressed through
+ * the same {@code Layout} as the other primitive indices. Next to the coordinate accessors,
+ * it provides word-level boolean algebra between masks of the same shape, a population count
+ * and an iteration over its set bits. Its {@link #Array()} returns the packed words,
+ * which hold 64 cells each, so unlike other arrays it is not addressed per cell.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see ArrayLike
+ * @see Strided
+ * @see Layout
+ */
+public class BitIndex implements ArrayLike<long[], Boolean>, Strided<BitIndex>, Copyable<BitIndex>
+{
+	private static int words(int bits)
+	{
+		return (bits + 63) >>> 6;
+	}
+	
+	
+	private Layout layout;
+	private long[] data;
+	
+	/**
+	 * Creates a new {@code BitIndex}.
+	 * 
+	 * @param lay  an index layout
+	 * @param dat  an index data
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public BitIndex(Layout lay, long[] dat)
+	{
+		layout = lay;
+		data = dat;
+	}
+	
+	/**
+	 * Creates a new {@code BitIndex}.
+	 * A data array is allocated to
+	 * fit the given layout.
+	 * 
+	 * @param lay  an index layout
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public BitIndex(Layout lay)
+	{
+		this(lay, new long[words(lay.Size())]);
+	}
+	
+	/**
+	 * Creates a new {@code BitIndex}.
+	 * 
+	 * @param ord  an index order
+	 * @param dim  an index dimension
+	 */
+	public BitIndex(Order ord, int... dim)
+	{
+		this(new Layout(ord, dim));
+	}
+		
+	/**
+	 * Creates a new {@code BitIndex}.
+	 * 
+	 * @param dim  an index dimension
+	 */
+	public BitIndex(int... dim)
+	{
+		this(Order.COL_MAJOR, dim);
+	}
+	
+	
+	/**
+	 * Returns a primitive value from the {@code BitIndex}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  an index value
+	 */
+	public final boolean getBoolean(int... crds)
+	{
+		return test(layout.toIndex(crds));
+	}
+	
+	/**
+	 * Returns a three-dimensional primitive value from the {@code BitIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  an index value
+	 */
+	public final boolean getBoolean(int r, int c, int a)
+	{
+		return test(layout.toIndex(r, c, a));
+	}
+	
+	/**
+	 * Returns a two-dimensional primitive value from the {@code BitIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  an index value
+	 */
+	public final boolean getBoolean(int r, int c)
+	{
+		return test(layout.toIndex(r, c));
+	}
+	
+	/**
+	 * Returns a one-dimensional primitive value from the {@code BitIndex}.
+	 * 
+	 * @param i  an index coordinate
+	 * @return  an index value
+	 */
+	public final boolean getBoolean(int i)
+	{
+		return test(layout.toIndex(i));
+	}
+	
+	
+	/**
+	 * Changes a primitive value in the {@code BitIndex}.
+	 * 
+	 * @param val   an index value
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public final boolean putBoolean(boolean val, int... crds)
+	{
+		return swap(val, layout.toIndex(crds));
+	}
+	
+	/**
+	 * Changes a three-dimensional primitive value in the {@code BitIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @param a    an index aisle
+	 * @return  a previous index value
+	 */
+	public final boolean putBoolean(boolean val, int r, int c, int a)
+	{
+		return swap(val, layout.toIndex(r, c, a));
+	}
+	
+	/**
+	 * Changes a two-dimensional primitive value in the {@code BitIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @return  a previous index value
+	 */
+	public final boolean putBoolean(boolean val, int r, int c)
+	{
+		return swap(val, layout.toIndex(r, c));
+	}
+	
+	/**
+	 * Changes a one-dimensional primitive value in the {@code BitIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param i    an index coordinate
+	 * @return  a previous index value
+	 */
+	public final boolean putBoolean(boolean val, int i)
+	{
+		return swap(val, layout.toIndex(i));
+	}
+	
+	
+	/**
+	 * Removes a primitive value from the {@code BitIndex}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public boolean removeBoolean(int... crds)
+	{
+		return putBoolean(false, crds);
+	}
+	
+	/**
+	 * Removes a three-dimensional primitive value from the {@code BitIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  a previous index value
+	 */
+	public boolean removeBoolean(int r, int c, int a)
+	{
+		return putBoolean(false, r, c, a);
+	}
+	
+	/**
+	 * Removes a two-dimensional primitive value from the {@code BitIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  a previous index value
+	 */
+	public boolean removeBoolean(int r, int c)
+	{
+		return putBoolean(false, r, c);
+	}
+	
+	
+	/**
+	 * Intersects the {@code BitIndex} with another mask.
+	 * Both masks are expected to have the same dimensions.
+	 * 
+	 * @param src  a source mask
+	 */
+	public void and(BitIndex src)
+	{
+		if(isAligned(src))
+		{
+			int bits = layout.Size();
+			for(int i = 0; i < words(bits); i++)
+			{
+				data[i] &= src.data[i] | ~mask(i, bits);
+			}
+			
+			return;
+		}
+		
+		Order ord = layout.Ordering();
+		for(int i = 0; i < Count(); i++)
+		{
+			int j = layout.toOffset(ord, i);
+			int k = src.layout.toOffset(ord, i);
+			swap(test(j) && src.test(k), j);
+		}
+	}
+	
+	/**
+	 * Unites the {@code BitIndex} with another mask.
+	 * Both masks are expected to have the same dimensions.
+	 * 
+	 * @param src  a source mask
+	 */
+	public void or(BitIndex src)
+	{
+		if(isAligned(src))
+		{
+			int bits = layout.Size();
+			for(int i = 0; i < words(bits); i++)
+			{
+				data[i] |= src.data[i] & mask(i, bits);
+			}
+			
+			return;
+		}
+		
+		Order ord = layout.Ordering();
+		for(int i = 0; i < Count(); i++)
+		{
+			int j = layout.toOffset(ord, i);
+			int k = src.layout.toOffset(ord, i);
+			swap(test(j) || src.test(k), j);
+		}
+	}
+	
+	/**
+	 * Computes the symmetric difference of the {@code BitIndex} with another mask.
+	 * Both masks are expected to have the same dimensions.
+	 * 
+	 * @param src  a source mask
+	 */
+	public void xor(BitIndex src)
+	{
+		if(isAligned(src))
+		{
+			int bits = layout.Size();
+			for(int i = 0; i < words(bits); i++)
+			{
+				data[i] ^= src.data[i] & mask(i, bits);
+			}
+			
+			return;
+		}
+		
+		Order ord = layout.Ordering();
+		for(int i = 0; i < Count(); i++)
+		{
+			int j = layout.toOffset(ord, i);
+			int k = src.layout.toOffset(ord, i);
+			swap(test(j) != src.test(k), j);
+		}
+	}
+	
+	/**
+	 * Removes the set bits of another mask from the {@code BitIndex}.
+	 * Both masks are expected to have the same dimensions.
+	 * 
+	 * @param src  a source mask
+	 */
+	public void andNot(BitIndex src)
+	{
+		if(isAligned(src))
+		{
+			int bits = layout.Size();
+			for(int i = 0; i < words(bits); i++)
+			{
+				data[i] &= ~(src.data[i] & mask(i, bits));
+			}
+			
+			return;
+		}
+		
+		Order ord = layout.Ordering();
+		for(int i = 0; i < Count(); i++)
+		{
+			int j = layout.toOffset(ord, i);
+			int k = src.layout.toOffset(ord, i);
+			swap(test(j) && !src.test(k), j);
+		}
+	}
+	
+	/**
+	 * Returns the amount of set bits in the {@code BitIndex}.
+	 * 
+	 * @return  a set bit count
+	 */
+	public int Cardinality()
+	{
+		int count = 0;
+		if(isPacked())
+		{
+			int bits = layout.Size();
+			for(int i = 0; i < words(bits); i++)
+			{
+				count += Long.bitCount(data[i] & mask(i, bits));
+			}
+			
+			return count;
+		}
+		
+		for(int i = 0; i < Count(); i++)
+		{
+			if(test(layout.toOffset(i)))
+			{
+				count++;
+			}
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Iterates over the coordinates of the set bits in the {@code BitIndex}.
+	 * Packed masks skip over empty words, and find their set bits
+	 * without testing every cell.
+	 * 
+	 * @return  a set bit iterable
+	 * 
+	 * 
+	 * @see Iterable
+	 */
+	public Iterable<int[]> Ones()
+	{
+		if(isPacked())
+		{
+			return () -> new Bits();
+		}
+		
+		return () -> new Cells();
+	}
+	
+	
+	private boolean test(int bit)
+	{
+		return (data[bit >>> 6] & (1L << bit)) != 0;
+	}
+	
+	private boolean swap(boolean val, int bit)
+	{
+		boolean prev = test(bit);
+		if(val)
+			data[bit >>> 6] |= 1L << bit;
+		else
+			data[bit >>> 6] &= ~(1L << bit);
+		return prev;
+	}
+	
+	private long mask(int word, int bits)
+	{
+		int rem = bits - (word << 6);
+		if(rem >= 64)
+		{
+			return -1L;
+		}
+		
+		return (1L << rem) - 1;
+	}
+	
+	private boolean isPacked()
+	{
+		return layout.isDense() || layout.isCurved();
+	}
+	
+	private boolean isAligned(BitIndex src)
+	{
+		Layout sly = src.layout;
+		return isPacked() && src.isPacked()
+			&& layout.Ordering() == sly.Ordering()
+			&& layout.Tile() == sly.Tile()
+			&& Arrays.equals(Dimensions(), sly.Dimensions());
+	}
+	
+	
+	private class Bits implements Iterator<int[]>
+	{
+		private int bits, word;
+		private long curr;
+		
+		public Bits()
+		{
+			bits = layout.Size();
+			word = -1;
+			advance();
+		}
+		
+		@Override
+		public boolean hasNext()
+		{
+			return curr != 0;
+		}
+		
+		@Override
+		public int[] next()
+		{
+			int bit = (word << 6) + Long.numberOfTrailingZeros(curr);
+			curr &= curr - 1;
+			if(curr == 0)
+			{
+				advance();
+			}
+			
+			return layout.toCoord(bit);
+		}
+		
+		private void advance()
+		{
+			while(++word < words(bits))
+			{
+				curr = data[word] & mask(word, bits);
+				if(curr != 0)
+				{
+					return;
+				}
+			}
+		}
+	}
+	
+	private class Cells implements Iterator<int[]>
+	{
+		private int next;
+		
+		public Cells()
+		{
+			next = -1;
+			advance();
+		}
+		
+		@Override
+		public boolean hasNext()
+		{
+			return next < Count();
+		}
+		
+		@Override
+		public int[] next()
+		{
+			int bit = layout.toOffset(next);
+			advance();
+			return layout.toCoord(bit);
+		}
+		
+		private void advance()
+		{
+			while(++next < Count())
+			{
+				if(test(layout.toOffset(next)))
+				{
+					return;
+				}
+			}
+		}
+	}
+	
+	
+	@Override
+	public BitIndex instance()
+	{
+		return new BitIndex(layout.compact());
+	}
+	
+	@Override
+	public BitIndex copy()
+	{
+		BitIndex copy = instance();
+		if(isPacked())
+		{
+			int bits = layout.Size();
+			for(int i = 0; i < words(bits); i++)
+			{
+				copy.data[i] = data[i] & mask(i, bits);
+			}
+			
+			return copy;
+		}
+		
+		for(int[] crd : Ones())
+		{
+			copy.putBoolean(true, crd);
+		}
+		
+		return copy;
+	}
+	
+	@Override
+	public BitIndex view(Layout lay)
+	{
+		return new BitIndex(lay, data);
+	}
+	
+	@Override
+	public void copy(ArrayLike<long[], Boolean> src, int[] from, int[] to, int[] dim)
+	{
+		int[] max = new int[dim.length];
+		for(int i = 0; i < dim.length; i++)
+		{
+			max[i] = from[i] + dim[i] - 1;
+		}
+		
+		// Bits do not span whole array elements.
+		int[] crds = new int[dim.length];
+		IndexCursor<Boolean> crs = new IndexCursor<>(src, Ordering(), from, max);
+		while(crs.next())
+		{
+			for(int i = 0; i < crds.length; i++)
+			{
+				crds[i] = crs.Coordinates()[i] - from[i] + to[i];
+			}
+			
+			put(crs.Value(), crds);
+		}
+	}
+	
+	
+	@Override
+	public Boolean get(int... crds)
+	{
+		return getBoolean(crds);
+	}
+	
+	@Override
+	public Boolean get(int r, int c, int a)
+	{
+		return getBoolean(r, c, a);
+	}
+	
+	@Override
+	public Boolean get(int r, int c)
+	{
+		return getBoolean(r, c);
+	}
+	
+	@Override
+	public Boolean get(int i)
+	{
+		return getBoolean(i);
+	}
+	
+	@Override
+	public Boolean put(Boolean val, int... crds)
+	{
+		if(val == null)
+		{
+			return removeBoolean(crds);
+		}
+		
+		return putBoolean(val, crds);
+	}
+	
+	@Override
+	public Boolean put(Boolean val, int r, int c, int a)
+	{
+		if(val == null)
+		{
+			return removeBoolean(r, c, a);
+		}
+		
+		return putBoolean(val, r, c, a);
+	}
+	
+	@Override
+	public Boolean put(Boolean val, int r, int c)
+	{
+		if(val == null)
+		{
+			return removeBoolean(r, c);
+		}
+		
+		return putBoolean(val, r, c);
+	}
+	
+	@Override
+	public Boolean put(Boolean val, int i)
+	{
+		if(val == null)
+		{
+			return putBoolean(false, i);
+		}
+		
+		return putBoolean(val, i);
+	}
+	
+	@Override
+	public Boolean remove(int... crds)
+	{
+		return removeBoolean(crds);
+	}
+	
+	@Override
+	public Boolean remove(int r, int c, int a)
+	{
+		return removeBoolean(r, c, a);
+	}
+	
+	@Override
+	public Boolean remove(int r, int c)
+	{
+		return removeBoolean(r, c);
+	}
+	
+	
+	@Override
+	public final int toIndex(Order ord, int... crds)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(crds);
+		}
+		
+		return ArrayLike.super.toIndex(ord, crds);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int r, int c, int a)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(r, c, a);
+		}
+		
+		return ArrayLike.super.toIndex(ord, r, c, a);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int r, int c)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(r, c);
+		}
+		
+		return ArrayLike.super.toIndex(ord, r, c);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int i)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(i);
+		}
+		
+		return ArrayLike.super.toIndex(ord, i);
+	}
+	
+	@Override
+	public final int[] toCoord(Order ord, int idx)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toCoord(idx);
+		}
+		
+		return ArrayLike.super.toCoord(ord, idx);
+	}
+	
+	
+	@Override
+	public long[] Array()
+	{
+		return data;
+	}
+	
+	@Override
+	public Layout Layout()
+	{
+		return layout;
+	}
+	
+	@Override
+	public int[] Dimensions()
+	{
+		return layout.Dimensions();
+	}
+	
+	@Override
+	public Order Ordering()
+	{
+		return layout.Ordering();
+	}
+	
+	@Override
+	public void clear()
+	{
+		// Views have to clear their data in place.
+		if(!isPacked())
+		{
+			ArrayLike.super.clear();
+			return;
+		}
+		
+		int bits = layout.Size();
+		for(int i = 0; i < words(bits); i++)
+		{
+			data[i] &= ~mask(i, bits);
+		}
+	}
+}
\ No newline at end of file
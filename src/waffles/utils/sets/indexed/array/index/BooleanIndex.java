@@ -1,10 +1,16 @@
 package waffles.utils.sets.indexed.array.index;
 
+import java.util.Arrays;
+
+import waffles.utils.sets.indexed.array.Layout;
+import waffles.utils.sets.indexed.array.Strided;
 import waffles.utils.sets.indexed.array.like.BooleanArray;
-import waffles.utils.tools.primitives.Array;
 
 /**
  * A {@code BooleanIndex} provides a primitive-friendly alternative for an {@code ObjectIndex<Boolean>}.
+ * Its coordinates are mapped onto the data array through a {@code Layout}
+ * which is computed once at construction. Views on the index share
+ * its data array through a different layout.
  *
  * @author Waffles
  * @since Feb 03, 2020
@@ -12,12 +18,44 @@ import waffles.utils.tools.primitives.Array;
  * 
  * 
  * @see BooleanArray
+ * @see Strided
+ * @see Layout
  */
-public class BooleanIndex implements BooleanArray
+public class BooleanIndex implements BooleanArray, Strided<BooleanIndex>
 {
-	private Order order;
-	private int[] dimension;
+	private Layout layout;
 	private boolean[] data;
+	private boolean empty;
+	
+	/**
+	 * Creates a new {@code BooleanIndex}.
+	 * 
+	 * @param lay  an index layout
+	 * @param dat  an index data
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public BooleanIndex(Layout lay, boolean[] dat)
+	{
+		layout = lay;
+		data = dat;
+	}
+	
+	/**
+	 * Creates a new {@code BooleanIndex}.
+	 * A data array is allocated to
+	 * fit the given layout.
+	 * 
+	 * @param lay  an index layout
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public BooleanIndex(Layout lay)
+	{
+		this(lay, new boolean[lay.Size()]);
+	}
 	
 	/**
 	 * Creates a new {@code BooleanIndex}.
@@ -28,8 +66,7 @@ public class BooleanIndex implements BooleanArray
 	 */
 	public BooleanIndex(Order ord, boolean[] dat, int... dim)
 	{
-		dimension = dim;
-		order = ord;
+		layout = new Layout(ord, dim);
 		data = dat;
 	}
 	
@@ -52,9 +89,8 @@ public class BooleanIndex implements BooleanArray
 	 */
 	public BooleanIndex(Order ord, int... dim)
 	{
-		order = ord;
-		dimension = dim;
-		data = new boolean[Count()];
+		layout = new Layout(ord, dim);
+		data = new boolean[layout.Size()];
 	}
 		
 	/**
@@ -67,21 +103,177 @@ public class BooleanIndex implements BooleanArray
 		this(Order.COL_MAJOR, dim);
 	}
 
-				
+	/**
+	 * Changes the default value of the {@code BooleanIndex}.
+	 * Values already stored in the index are left as is,
+	 * the new default is applied by subsequent
+	 * removals and {@link #clear()} calls.
+	 * 
+	 * @param def  a default value
+	 */
+	public void setDefault(boolean def)
+	{
+		empty = def;
+	}
+	
+
 	@Override
 	public BooleanIndex instance()
 	{
-		return new BooleanIndex(order, dimension);
+		BooleanIndex index = new BooleanIndex(layout.compact());
+		if(empty)
+		{
+			index.setDefault(empty);
+			index.clear();
+		}
+		
+		return index;
 	}
 	
 	@Override
 	public BooleanIndex copy()
 	{
 		BooleanIndex copy = instance();
-		copy.data = Array.copy.of(data);
+		if(layout.isDense() || layout.isCurved())
+		{
+			int count = layout.Size();
+			System.arraycopy(data, 0, copy.data, 0, count);
+			return copy;
+		}
+		
+		for(int[] crd : Keys())
+		{
+			copy.putBoolean(getBoolean(crd), crd);
+		}
+		
 		return copy;
 	}
-
+	
+	@Override
+	public BooleanIndex view(Layout lay)
+	{
+		BooleanIndex view = new BooleanIndex(lay, data);
+		view.setDefault(empty);
+		return view;
+	}
+	
+	
+	@Override
+	public final boolean getBoolean(int... crds)
+	{
+		return data[layout.toIndex(crds)];
+	}
+	
+	@Override
+	public final boolean getBoolean(int r, int c, int a)
+	{
+		return data[layout.toIndex(r, c, a)];
+	}
+	
+	@Override
+	public final boolean getBoolean(int r, int c)
+	{
+		return data[layout.toIndex(r, c)];
+	}
+	
+	@Override
+	public final boolean getBoolean(int i)
+	{
+		return data[layout.toIndex(i)];
+	}
+	
+	@Override
+	public final boolean putBoolean(boolean val, int... crds)
+	{
+		int index = layout.toIndex(crds);
+		boolean prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final boolean putBoolean(boolean val, int r, int c, int a)
+	{
+		int index = layout.toIndex(r, c, a);
+		boolean prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final boolean putBoolean(boolean val, int r, int c)
+	{
+		int index = layout.toIndex(r, c);
+		boolean prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final boolean putBoolean(boolean val, int i)
+	{
+		int index = layout.toIndex(i);
+		boolean prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	
+	@Override
+	public final int toIndex(Order ord, int... crds)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(crds);
+		}
+		
+		return BooleanArray.super.toIndex(ord, crds);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int r, int c, int a)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(r, c, a);
+		}
+		
+		return BooleanArray.super.toIndex(ord, r, c, a);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int r, int c)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(r, c);
+		}
+		
+		return BooleanArray.super.toIndex(ord, r, c);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int i)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(i);
+		}
+		
+		return BooleanArray.super.toIndex(ord, i);
+	}
+	
+	@Override
+	public final int[] toCoord(Order ord, int idx)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toCoord(idx);
+		}
+		
+		return BooleanArray.super.toCoord(ord, idx);
+	}
+	
 	
 	@Override
 	public boolean[] Array()
@@ -89,21 +281,40 @@ public class BooleanIndex implements BooleanArray
 		return data;
 	}
 	
+	@Override
+	public Layout Layout()
+	{
+		return layout;
+	}
+	
 	@Override
 	public int[] Dimensions()
 	{
-		return dimension;
+		return layout.Dimensions();
 	}
 	
 	@Override
 	public Order Ordering()
 	{
-		return order;
+		return layout.Ordering();
+	}
+	
+	@Override
+	public boolean Default()
+	{
+		return empty;
 	}
 	
 	@Override
 	public void clear()
 	{
-		data = new boolean[Count()];
+		// Views have to clear their data in place.
+		if(!layout.isDense() && !layout.isCurved())
+		{
+			BooleanArray.super.clear();
+			return;
+		}
+		
+		Arrays.fill(data, 0, layout.Size(), empty);
 	}
 }
\ No newline at end of file
@@ -1,10 +1,16 @@
 package waffles.utils.sets.indexed.array.index;
 
+import java.util.Arrays;
+
+import waffles.utils.sets.indexed.array.Layout;
+import waffles.utils.sets.indexed.array.Strided;
 import waffles.utils.sets.indexed.array.like.ByteArray;
-import waffles.utils.tools.primitives.Array;
 
 /**
  * A {@code ByteIndex} provides a primitive-friendly alternative for an {@code ObjectIndex<Byte>}.
+ * Its coordinates are mapped onto the data array through a {@code Layout}
+ * which is computed once at construction. Views on the index share
+ * its data array through a different layout.
  *
  * @author Waffles
  * @since Feb 03, 2020
@@ -12,12 +18,44 @@ import waffles.utils.tools.primitives.Array;
  * 
  * 
  * @see ByteArray
+ * @see Strided
+ * @see Layout
  */
-public class ByteIndex implements ByteArray
+public class ByteIndex implements ByteArray, Strided<ByteIndex>
 {
-	private Order order;
-	private int[] dimension;
+	private Layout layout;
 	private byte[] data;
+	private byte empty;
+	
+	/**
+	 * Creates a new {@code ByteIndex}.
+	 * 
+	 * @param lay  an index layout
+	 * @param dat  an index data
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public ByteIndex(Layout lay, byte[] dat)
+	{
+		layout = lay;
+		data = dat;
+	}
+	
+	/**
+	 * Creates a new {@code ByteIndex}.
+	 * A data array is allocated to
+	 * fit the given layout.
+	 * 
+	 * @param lay  an index layout
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public ByteIndex(Layout lay)
+	{
+		this(lay, new byte[lay.Size()]);
+	}
 	
 	/**
 	 * Creates a new {@code ByteIndex}.
@@ -28,8 +66,7 @@ public class ByteIndex implements ByteArray
 	 */
 	public ByteIndex(Order ord, byte[] dat, int... dim)
 	{
-		dimension = dim;
-		order = ord;
+		layout = new Layout(ord, dim);
 		data = dat;
 	}
 	
@@ -52,9 +89,8 @@ public class ByteIndex implements ByteArray
 	 */
 	public ByteIndex(Order ord, int... dim)
 	{
-		order = ord;
-		dimension = dim;
-		data = new byte[Count()];
+		layout = new Layout(ord, dim);
+		data = new byte[layout.Size()];
 	}
 		
 	/**
@@ -67,21 +103,177 @@ public class ByteIndex implements ByteArray
 		this(Order.COL_MAJOR, dim);
 	}
 
+	/**
+	 * Changes the default value of the {@code ByteIndex}.
+	 * Values already stored in the index are left as is,
+	 * the new default is applied by subsequent
+	 * removals and {@link #clear()} calls.
+	 * 
+	 * @param def  a default value
+	 */
+	public void setDefault(byte def)
+	{
+		empty = def;
+	}
+	
 
 	@Override
 	public ByteIndex instance()
 	{
-		return new ByteIndex(order, dimension);
+		ByteIndex index = new ByteIndex(layout.compact());
+		if(empty != 0)
+		{
+			index.setDefault(empty);
+			index.clear();
+		}
+		
+		return index;
 	}
 	
 	@Override
 	public ByteIndex copy()
 	{
 		ByteIndex copy = instance();
-		copy.data = Array.copy.of(data);
+		if(layout.isDense() || layout.isCurved())
+		{
+			int count = layout.Size();
+			System.arraycopy(data, 0, copy.data, 0, count);
+			return copy;
+		}
+		
+		for(int[] crd : Keys())
+		{
+			copy.putByte(getByte(crd), crd);
+		}
+		
 		return copy;
 	}
 	
+	@Override
+	public ByteIndex view(Layout lay)
+	{
+		ByteIndex view = new ByteIndex(lay, data);
+		view.setDefault(empty);
+		return view;
+	}
+	
+	
+	@Override
+	public final byte getByte(int... crds)
+	{
+		return data[layout.toIndex(crds)];
+	}
+	
+	@Override
+	public final byte getByte(int r, int c, int a)
+	{
+		return data[layout.toIndex(r, c, a)];
+	}
+	
+	@Override
+	public final byte getByte(int r, int c)
+	{
+		return data[layout.toIndex(r, c)];
+	}
+	
+	@Override
+	public final byte getByte(int i)
+	{
+		return data[layout.toIndex(i)];
+	}
+	
+	@Override
+	public final byte putByte(byte val, int... crds)
+	{
+		int index = layout.toIndex(crds);
+		byte prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final byte putByte(byte val, int r, int c, int a)
+	{
+		int index = layout.toIndex(r, c, a);
+		byte prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final byte putByte(byte val, int r, int c)
+	{
+		int index = layout.toIndex(r, c);
+		byte prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final byte putByte(byte val, int i)
+	{
+		int index = layout.toIndex(i);
+		byte prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	
+	@Override
+	public final int toIndex(Order ord, int... crds)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(crds);
+		}
+		
+		return ByteArray.super.toIndex(ord, crds);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int r, int c, int a)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(r, c, a);
+		}
+		
+		return ByteArray.super.toIndex(ord, r, c, a);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int r, int c)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(r, c);
+		}
+		
+		return ByteArray.super.toIndex(ord, r, c);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int i)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(i);
+		}
+		
+		return ByteArray.super.toIndex(ord, i);
+	}
+	
+	@Override
+	public final int[] toCoord(Order ord, int idx)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toCoord(idx);
+		}
+		
+		return ByteArray.super.toCoord(ord, idx);
+	}
+	
 	
 	@Override
 	public byte[] Array()
@@ -89,21 +281,40 @@ public class ByteIndex implements ByteArray
 		return data;
 	}
 	
+	@Override
+	public Layout Layout()
+	{
+		return layout;
+	}
+	
 	@Override
 	public int[] Dimensions()
 	{
-		return dimension;
+		return layout.Dimensions();
 	}
 	
 	@Override
 	public Order Ordering()
 	{
-		return order;
+		return layout.Ordering();
+	}
+	
+	@Override
+	public byte Default()
+	{
+		return empty;
 	}
 	
 	@Override
 	public void clear()
 	{
-		data = new byte[Count()];
+		// Views have to clear their data in place.
+		if(!layout.isDense() && !layout.isCurved())
+		{
+			ByteArray.super.clear();
+			return;
+		}
+		
+		Arrays.fill(data, 0, layout.Size(), empty);
 	}
 }
\ No newline at end of file
@@ -1,10 +1,16 @@
 package waffles.utils.sets.indexed.array.index;
 
+import java.util.Arrays;
+
+import waffles.utils.sets.indexed.array.Layout;
+import waffles.utils.sets.indexed.array.Strided;
 import waffles.utils.sets.indexed.array.like.DoubleArray;
-import waffles.utils.tools.primitives.Array;
 
 /**
  * A {@code DoubleIndex} provides a primitive-friendly alternative for an {@code ObjectIndex<Double>}.
+ * Its coordinates are mapped onto the data array through a {@code Layout}
+ * which is computed once at construction. Views on the index share
+ * its data array through a different layout.
  *
  * @author Waffles
  * @since Feb 03, 2020
@@ -12,12 +18,44 @@ import waffles.utils.tools.primitives.Array;
  * 
  * 
  * @see DoubleArray
+ * @see Strided
+ * @see Layout
  */
-public class DoubleIndex implements DoubleArray
+public class DoubleIndex implements DoubleArray, Strided<DoubleIndex>
 {
-	private Order order;
-	private int[] dimension;
+	private Layout layout;
 	private double[] data;
+	private double empty;
+	
+	/**
+	 * Creates a new {@code DoubleIndex}.
+	 * 
+	 * @param lay  an index layout
+	 * @param dat  an index data
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public DoubleIndex(Layout lay, double[] dat)
+	{
+		layout = lay;
+		data = dat;
+	}
+	
+	/**
+	 * Creates a new {@code DoubleIndex}.
+	 * A data array is allocated to
+	 * fit the given layout.
+	 * 
+	 * @param lay  an index layout
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public DoubleIndex(Layout lay)
+	{
+		this(lay, new double[lay.Size()]);
+	}
 	
 	/**
 	 * Creates a new {@code DoubleIndex}.
@@ -28,8 +66,7 @@ public class DoubleIndex implements DoubleArray
 	 */
 	public DoubleIndex(Order ord, double[] dat, int... dim)
 	{
-		dimension = dim;
-		order = ord;
+		layout = new Layout(ord, dim);
 		data = dat;
 	}
 	
@@ -52,9 +89,8 @@ public class DoubleIndex implements DoubleArray
 	 */
 	public DoubleIndex(Order ord, int... dim)
 	{
-		order = ord;
-		dimension = dim;
-		data = new double[Count()];
+		layout = new Layout(ord, dim);
+		data = new double[layout.Size()];
 	}
 		
 	/**
@@ -67,21 +103,177 @@ public class DoubleIndex implements DoubleArray
 		this(Order.COL_MAJOR, dim);
 	}
 
-		
+	/**
+	 * Changes the default value of the {@code DoubleIndex}.
+	 * Values already stored in the index are left as is,
+	 * the new default is applied by subsequent
+	 * removals and {@link #clear()} calls.
+	 * 
+	 * @param def  a default value
+	 */
+	public void setDefault(double def)
+	{
+		empty = def;
+	}
+	
+
 	@Override
 	public DoubleIndex instance()
 	{
-		return new DoubleIndex(order, dimension);
+		DoubleIndex index = new DoubleIndex(layout.compact());
+		if(empty != 0)
+		{
+			index.setDefault(empty);
+			index.clear();
+		}
+		
+		return index;
 	}
 	
 	@Override
 	public DoubleIndex copy()
 	{
 		DoubleIndex copy = instance();
-		copy.data = Array.copy.of(data);
+		if(layout.isDense() || layout.isCurved())
+		{
+			int count = layout.Size();
+			System.arraycopy(data, 0, copy.data, 0, count);
+			return copy;
+		}
+		
+		for(int[] crd : Keys())
+		{
+			copy.putDouble(getDouble(crd), crd);
+		}
+		
 		return copy;
 	}
 	
+	@Override
+	public DoubleIndex view(Layout lay)
+	{
+		DoubleIndex view = new DoubleIndex(lay, data);
+		view.setDefault(empty);
+		return view;
+	}
+	
+	
+	@Override
+	public final double getDouble(int... crds)
+	{
+		return data[layout.toIndex(crds)];
+	}
+	
+	@Override
+	public final double getDouble(int r, int c, int a)
+	{
+		return data[layout.toIndex(r, c, a)];
+	}
+	
+	@Override
+	public final double getDouble(int r, int c)
+	{
+		return data[layout.toIndex(r, c)];
+	}
+	
+	@Override
+	public final double getDouble(int i)
+	{
+		return data[layout.toIndex(i)];
+	}
+	
+	@Override
+	public final double putDouble(double val, int... crds)
+	{
+		int index = layout.toIndex(crds);
+		double prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final double putDouble(double val, int r, int c, int a)
+	{
+		int index = layout.toIndex(r, c, a);
+		double prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final double putDouble(double val, int r, int c)
+	{
+		int index = layout.toIndex(r, c);
+		double prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final double putDouble(double val, int i)
+	{
+		int index = layout.toIndex(i);
+		double prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	
+	@Override
+	public final int toIndex(Order ord, int... crds)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(crds);
+		}
+		
+		return DoubleArray.super.toIndex(ord, crds);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int r, int c, int a)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(r, c, a);
+		}
+		
+		return DoubleArray.super.toIndex(ord, r, c, a);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int r, int c)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(r, c);
+		}
+		
+		return DoubleArray.super.toIndex(ord, r, c);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int i)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(i);
+		}
+		
+		return DoubleArray.super.toIndex(ord, i);
+	}
+	
+	@Override
+	public final int[] toCoord(Order ord, int idx)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toCoord(idx);
+		}
+		
+		return DoubleArray.super.toCoord(ord, idx);
+	}
+	
 	
 	@Override
 	public double[] Array()
@@ -89,21 +281,40 @@ public class DoubleIndex implements DoubleArray
 		return data;
 	}
 	
+	@Override
+	public Layout Layout()
+	{
+		return layout;
+	}
+	
 	@Override
 	public int[] Dimensions()
 	{
-		return dimension;
+		return layout.Dimensions();
 	}
 	
 	@Override
 	public Order Ordering()
 	{
-		return order;
+		return layout.Ordering();
+	}
+	
+	@Override
+	public double Default()
+	{
+		return empty;
 	}
 	
 	@Override
 	public void clear()
 	{
-		data = new double[Count()];
+		// Views have to clear their data in place.
+		if(!layout.isDense() && !layout.isCurved())
+		{
+			DoubleArray.super.clear();
+			return;
+		}
+		
+		Arrays.fill(data, 0, layout.Size(), empty);
 	}
 }
\ No newline at end of file
@@ -1,10 +1,16 @@
 package waffles.utils.sets.indexed.array.index;
 
+import java.util.Arrays;
+
+import waffles.utils.sets.indexed.array.Layout;
+import waffles.utils.sets.indexed.array.Strided;
 import waffles.utils.sets.indexed.array.like.FloatArray;
-import waffles.utils.tools.primitives.Array;
 
 /**
  * A {@code FloatIndex} provides a primitive-friendly alternative for an {@code ObjectIndex<Float>}.
+ * Its coordinates are mapped onto the data array through a {@code Layout}
+ * which is computed once at construction. Views on the index share
+ * its data array through a different layout.
  *
  * @author Waffles
  * @since Feb 03, 2020
@@ -12,12 +18,44 @@ import waffles.utils.tools.primitives.Array;
  * 
  * 
  * @see FloatArray
+ * @see Strided
+ * @see Layout
  */
-public class FloatIndex implements FloatArray
+public class FloatIndex implements FloatArray, Strided<FloatIndex>
 {
-	private Order order;
-	private int[] dimension;
+	private Layout layout;
 	private float[] data;
+	private float empty;
+	
+	/**
+	 * Creates a new {@code FloatIndex}.
+	 * 
+	 * @param lay  an index layout
+	 * @param dat  an index data
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public FloatIndex(Layout lay, float[] dat)
+	{
+		layout = lay;
+		data = dat;
+	}
+	
+	/**
+	 * Creates a new {@code FloatIndex}.
+	 * A data array is allocated to
+	 * fit the given layout.
+	 * 
+	 * @param lay  an index layout
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public FloatIndex(Layout lay)
+	{
+		this(lay, new float[lay.Size()]);
+	}
 	
 	/**
 	 * Creates a new {@code FloatIndex}.
@@ -28,8 +66,7 @@ public class FloatIndex implements FloatArray
 	 */
 	public FloatIndex(Order ord, float[] dat, int... dim)
 	{
-		order = ord;
-		dimension = dim;
+		layout = new Layout(ord, dim);
 		data = dat;
 	}
 	
@@ -52,9 +89,8 @@ public class FloatIndex implements FloatArray
 	 */
 	public FloatIndex(Order ord, int... dim)
 	{
-		order = ord;
-		dimension = dim;
-		data = new float[Count()];
+		layout = new Layout(ord, dim);
+		data = new float[layout.Size()];
 	}
 		
 	/**
@@ -67,21 +103,177 @@ public class FloatIndex implements FloatArray
 		this(Order.COL_MAJOR, dim);
 	}
 
+	/**
+	 * Changes the default value of the {@code FloatIndex}.
+	 * Values already stored in the index are left as is,
+	 * the new default is applied by subsequent
+	 * removals and {@link #clear()} calls.
+	 * 
+	 * @param def  a default value
+	 */
+	public void setDefault(float def)
+	{
+		empty = def;
+	}
+	
 
 	@Override
 	public FloatIndex instance()
 	{
-		return new FloatIndex(order, dimension);
+		FloatIndex index = new FloatIndex(layout.compact());
+		if(empty != 0)
+		{
+			index.setDefault(empty);
+			index.clear();
+		}
+		
+		return index;
 	}
 	
 	@Override
 	public FloatIndex copy()
 	{
 		FloatIndex copy = instance();
-		copy.data = Array.copy.of(data);
+		if(layout.isDense() || layout.isCurved())
+		{
+			int count = layout.Size();
+			System.arraycopy(data, 0, copy.data, 0, count);
+			return copy;
+		}
+		
+		for(int[] crd : Keys())
+		{
+			copy.putFloat(getFloat(crd), crd);
+		}
+		
 		return copy;
 	}
 	
+	@Override
+	public FloatIndex view(Layout lay)
+	{
+		FloatIndex view = new FloatIndex(lay, data);
+		view.setDefault(empty);
+		return view;
+	}
+	
+	
+	@Override
+	public final float getFloat(int... crds)
+	{
+		return data[layout.toIndex(crds)];
+	}
+	
+	@Override
+	public final float getFloat(int r, int c, int a)
+	{
+		return data[layout.toIndex(r, c, a)];
+	}
+	
+	@Override
+	public final float getFloat(int r, int c)
+	{
+		return data[layout.toIndex(r, c)];
+	}
+	
+	@Override
+	public final float getFloat(int i)
+	{
+		return data[layout.toIndex(i)];
+	}
+	
+	@Override
+	public final float putFloat(float val, int... crds)
+	{
+		int index = layout.toIndex(crds);
+		float prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final float putFloat(float val, int r, int c, int a)
+	{
+		int index = layout.toIndex(r, c, a);
+		float prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final float putFloat(float val, int r, int c)
+	{
+		int index = layout.toIndex(r, c);
+		float prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final float putFloat(float val, int i)
+	{
+		int index = layout.toIndex(i);
+		float prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	
+	@Override
+	public final int toIndex(Order ord, int... crds)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(crds);
+		}
+		
+		return FloatArray.super.toIndex(ord, crds);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int r, int c, int a)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(r, c, a);
+		}
+		
+		return FloatArray.super.toIndex(ord, r, c, a);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int r, int c)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(r, c);
+		}
+		
+		return FloatArray.super.toIndex(ord, r, c);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int i)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(i);
+		}
+		
+		return FloatArray.super.toIndex(ord, i);
+	}
+	
+	@Override
+	public final int[] toCoord(Order ord, int idx)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toCoord(idx);
+		}
+		
+		return FloatArray.super.toCoord(ord, idx);
+	}
+	
 	
 	@Override
 	public float[] Array()
@@ -89,21 +281,40 @@ public class FloatIndex implements FloatArray
 		return data;
 	}
 	
+	@Override
+	public Layout Layout()
+	{
+		return layout;
+	}
+	
 	@Override
 	public int[] Dimensions()
 	{
-		return dimension;
+		return layout.Dimensions();
 	}
 	
 	@Override
 	public Order Ordering()
 	{
-		return order;
+		return layout.Ordering();
+	}
+	
+	@Override
+	public float Default()
+	{
+		return empty;
 	}
 	
 	@Override
 	public void clear()
 	{
-		data = new float[Count()];
+		// Views have to clear their data in place.
+		if(!layout.isDense() && !layout.isCurved())
+		{
+			FloatArray.super.clear();
+			return;
+		}
+		
+		Arrays.fill(data, 0, layout.Size(), empty);
 	}
 }
\ No newline at end of file
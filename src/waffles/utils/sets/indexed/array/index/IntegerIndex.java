@@ -1,10 +1,16 @@
 package waffles.utils.sets.indexed.array.index;
 
+import java.util.Arrays;
+
+import waffles.utils.sets.indexed.array.Layout;
+import waffles.utils.sets.indexed.array.Strided;
 import waffles.utils.sets.indexed.array.like.IntegerArray;
-import waffles.utils.tools.primitives.Array;
 
 /**
  * An {@code IntegerIndex} provides a primitive-friendly alternative for an {@code ObjectIndex<Integer>}.
+ * Its coordinates are mapped onto the data array through a {@code Layout}
+ * which is computed once at construction. Views on the index share
+ * its data array through a different layout.
  *
  * @author Waffles
  * @since Feb 03, 2020
@@ -12,12 +18,44 @@ import waffles.utils.tools.primitives.Array;
  * 
  * 
  * @see IntegerArray
+ * @see Strided
+ * @see Layout
  */
-public class IntegerIndex implements IntegerArray
+public class IntegerIndex implements IntegerArray, Strided<IntegerIndex>
 {
-	private Order order;
-	private int[] dimension;
+	private Layout layout;
 	private int[] data;
+	private int empty;
+	
+	/**
+	 * Creates a new {@code IntegerIndex}.
+	 * 
+	 * @param lay  an index layout
+	 * @param dat  an index data
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public IntegerIndex(Layout lay, int[] dat)
+	{
+		layout = lay;
+		data = dat;
+	}
+	
+	/**
+	 * Creates a new {@code IntegerIndex}.
+	 * A data array is allocated to
+	 * fit the given layout.
+	 * 
+	 * @param lay  an index layout
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public IntegerIndex(Layout lay)
+	{
+		this(lay, new int[lay.Size()]);
+	}
 	
 	/**
 	 * Creates a new {@code IntegerIndex}.
@@ -28,8 +66,7 @@ public class IntegerIndex implements IntegerArray
 	 */
 	public IntegerIndex(Order ord, int[] dat, int... dim)
 	{
-		dimension = dim;
-		order = ord;
+		layout = new Layout(ord, dim);
 		data = dat;
 	}
 	
@@ -52,9 +89,8 @@ public class IntegerIndex implements IntegerArray
 	 */
 	public IntegerIndex(Order ord, int... dim)
 	{
-		order = ord;
-		dimension = dim;
-		data = new int[Count()];
+		layout = new Layout(ord, dim);
+		data = new int[layout.Size()];
 	}
 		
 	/**
@@ -67,21 +103,177 @@ public class IntegerIndex implements IntegerArray
 		this(Order.COL_MAJOR, dim);
 	}
 
+	/**
+	 * Changes the default value of the {@code IntegerIndex}.
+	 * Values already stored in the index are left as is,
+	 * the new default is applied by subsequent
+	 * removals and {@link #clear()} calls.
+	 * 
+	 * @param def  a default value
+	 */
+	public void setDefault(int def)
+	{
+		empty = def;
+	}
+	
 
 	@Override
 	public IntegerIndex instance()
 	{
-		return new IntegerIndex(order, dimension);
+		IntegerIndex index = new IntegerIndex(layout.compact());
+		if(empty != 0)
+		{
+			index.setDefault(empty);
+			index.clear();
+		}
+		
+		return index;
 	}
 	
 	@Override
 	public IntegerIndex copy()
 	{
 		IntegerIndex copy = instance();
-		copy.data = Array.copy.of(data);
+		if(layout.isDense() || layout.isCurved())
+		{
+			int count = layout.Size();
+			System.arraycopy(data, 0, copy.data, 0, count);
+			return copy;
+		}
+		
+		for(int[] crd : Keys())
+		{
+			copy.putInt(getInt(crd), crd);
+		}
+		
 		return copy;
 	}
 	
+	@Override
+	public IntegerIndex view(Layout lay)
+	{
+		IntegerIndex view = new IntegerIndex(lay, data);
+		view.setDefault(empty);
+		return view;
+	}
+	
+	
+	@Override
+	public final int getInt(int... crds)
+	{
+		return data[layout.toIndex(crds)];
+	}
+	
+	@Override
+	public final int getInt(int r, int c, int a)
+	{
+		return data[layout.toIndex(r, c, a)];
+	}
+	
+	@Override
+	public final int getInt(int r, int c)
+	{
+		return data[layout.toIndex(r, c)];
+	}
+	
+	@Override
+	public final int getInt(int i)
+	{
+		return data[layout.toIndex(i)];
+	}
+	
+	@Override
+	public final int putInt(int val, int... crds)
+	{
+		int index = layout.toIndex(crds);
+		int prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final int putInt(int val, int r, int c, int a)
+	{
+		int index = layout.toIndex(r, c, a);
+		int prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final int putInt(int val, int r, int c)
+	{
+		int index = layout.toIndex(r, c);
+		int prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final int putInt(int val, int i)
+	{
+		int index = layout.toIndex(i);
+		int prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	
+	@Override
+	public final int toIndex(Order ord, int... crds)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(crds);
+		}
+		
+		return IntegerArray.super.toIndex(ord, crds);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int r, int c, int a)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(r, c, a);
+		}
+		
+		return IntegerArray.super.toIndex(ord, r, c, a);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int r, int c)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(r, c);
+		}
+		
+		return IntegerArray.super.toIndex(ord, r, c);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int i)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(i);
+		}
+		
+		return IntegerArray.super.toIndex(ord, i);
+	}
+	
+	@Override
+	public final int[] toCoord(Order ord, int idx)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toCoord(idx);
+		}
+		
+		return IntegerArray.super.toCoord(ord, idx);
+	}
+	
 	
 	@Override
 	public int[] Array()
@@ -89,21 +281,40 @@ public class IntegerIndex implements IntegerArray
 		return data;
 	}
 	
+	@Override
+	public Layout Layout()
+	{
+		return layout;
+	}
+	
 	@Override
 	public int[] Dimensions()
 	{
-		return dimension;
+		return layout.Dimensions();
 	}
 	
 	@Override
 	public Order Ordering()
 	{
-		return order;
+		return layout.Ordering();
+	}
+	
+	@Override
+	public int Default()
+	{
+		return empty;
 	}
 	
 	@Override
 	public void clear()
 	{
-		data = new int[Count()];
+		// Views have to clear their data in place.
+		if(!layout.isDense() && !layout.isCurved())
+		{
+			IntegerArray.super.clear();
+			return;
+		}
+		
+		Arrays.fill(data, 0, layout.Size(), empty);
 	}
 }
\ No newline at end of file
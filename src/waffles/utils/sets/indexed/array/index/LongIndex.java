@@ -1,10 +1,16 @@
 package waffles.utils.sets.indexed.array.index;
 
+import java.util.Arrays;
+
+import waffles.utils.sets.indexed.array.Layout;
+import waffles.utils.sets.indexed.array.Strided;
 import waffles.utils.sets.indexed.array.like.LongArray;
-import waffles.utils.tools.primitives.Array;
 
 /**
- * An {@code LongIndex} provides a primitive-friendly alternative for an {@code ObjectIndex<Long>}.
+ * A {@code LongIndex} provides a primitive-friendly alternative for an {@code ObjectIndex<Long>}.
+ * Its coordinates are mapped onto the data array through a {@code Layout}
+ * which is computed once at construction. Views on the index share
+ * its data array through a different layout.
  *
  * @author Waffles
  * @since Feb 03, 2020
@@ -12,12 +18,44 @@ import waffles.utils.tools.primitives.Array;
  * 
  * 
  * @see LongArray
+ * @see Strided
+ * @see Layout
  */
-public class LongIndex implements LongArray
+public class LongIndex implements LongArray, Strided<LongIndex>
 {
-	private Order order;
-	private int[] dimension;
+	private Layout layout;
 	private long[] data;
+	private long empty;
+	
+	/**
+	 * Creates a new {@code LongIndex}.
+	 * 
+	 * @param lay  an index layout
+	 * @param dat  an index data
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public LongIndex(Layout lay, long[] dat)
+	{
+		layout = lay;
+		data = dat;
+	}
+	
+	/**
+	 * Creates a new {@code LongIndex}.
+	 * A data array is allocated to
+	 * fit the given layout.
+	 * 
+	 * @param lay  an index layout
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public LongIndex(Layout lay)
+	{
+		this(lay, new long[lay.Size()]);
+	}
 	
 	/**
 	 * Creates a new {@code LongIndex}.
@@ -28,8 +66,7 @@ public class LongIndex implements LongArray
 	 */
 	public LongIndex(Order ord, long[] dat, int... dim)
 	{
-		dimension = dim;
-		order = ord;
+		layout = new Layout(ord, dim);
 		data = dat;
 	}
 	
@@ -52,9 +89,8 @@ public class LongIndex implements LongArray
 	 */
 	public LongIndex(Order ord, int... dim)
 	{
-		order = ord;
-		dimension = dim;
-		data = new long[Count()];
+		layout = new Layout(ord, dim);
+		data = new long[layout.Size()];
 	}
 		
 	/**
@@ -67,21 +103,177 @@ public class LongIndex implements LongArray
 		this(Order.COL_MAJOR, dim);
 	}
 
+	/**
+	 * Changes the default value of the {@code LongIndex}.
+	 * Values already stored in the index are left as is,
+	 * the new default is applied by subsequent
+	 * removals and {@link #clear()} calls.
+	 * 
+	 * @param def  a default value
+	 */
+	public void setDefault(long def)
+	{
+		empty = def;
+	}
+	
 
 	@Override
 	public LongIndex instance()
 	{
-		return new LongIndex(order, dimension);
+		LongIndex index = new LongIndex(layout.compact());
+		if(empty != 0)
+		{
+			index.setDefault(empty);
+			index.clear();
+		}
+		
+		return index;
 	}
 	
 	@Override
 	public LongIndex copy()
 	{
 		LongIndex copy = instance();
-		copy.data = Array.copy.of(data);
+		if(layout.isDense() || layout.isCurved())
+		{
+			int count = layout.Size();
+			System.arraycopy(data, 0, copy.data, 0, count);
+			return copy;
+		}
+		
+		for(int[] crd : Keys())
+		{
+			copy.putLong(getLong(crd), crd);
+		}
+		
 		return copy;
 	}
 	
+	@Override
+	public LongIndex view(Layout lay)
+	{
+		LongIndex view = new LongIndex(lay, data);
+		view.setDefault(empty);
+		return view;
+	}
+	
+	
+	@Override
+	public final long getLong(int... crds)
+	{
+		return data[layout.toIndex(crds)];
+	}
+	
+	@Override
+	public final long getLong(int r, int c, int a)
+	{
+		return data[layout.toIndex(r, c, a)];
+	}
+	
+	@Override
+	public final long getLong(int r, int c)
+	{
+		return data[layout.toIndex(r, c)];
+	}
+	
+	@Override
+	public final long getLong(int i)
+	{
+		return data[layout.toIndex(i)];
+	}
+	
+	@Override
+	public final long putLong(long val, int... crds)
+	{
+		int index = layout.toIndex(crds);
+		long prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final long putLong(long val, int r, int c, int a)
+	{
+		int index = layout.toIndex(r, c, a);
+		long prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final long putLong(long val, int r, int c)
+	{
+		int index = layout.toIndex(r, c);
+		long prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final long putLong(long val, int i)
+	{
+		int index = layout.toIndex(i);
+		long prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	
+	@Override
+	public final int toIndex(Order ord, int... crds)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(crds);
+		}
+		
+		return LongArray.super.toIndex(ord, crds);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int r, int c, int a)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(r, c, a);
+		}
+		
+		return LongArray.super.toIndex(ord, r, c, a);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int r, int c)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(r, c);
+		}
+		
+		return LongArray.super.toIndex(ord, r, c);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int i)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(i);
+		}
+		
+		return LongArray.super.toIndex(ord, i);
+	}
+	
+	@Override
+	public final int[] toCoord(Order ord, int idx)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toCoord(idx);
+		}
+		
+		return LongArray.super.toCoord(ord, idx);
+	}
+	
 	
 	@Override
 	public long[] Array()
@@ -89,21 +281,40 @@ public class LongIndex implements LongArray
 		return data;
 	}
 	
+	@Override
+	public Layout Layout()
+	{
+		return layout;
+	}
+	
 	@Override
 	public int[] Dimensions()
 	{
-		return dimension;
+		return layout.Dimensions();
 	}
 	
 	@Override
 	public Order Ordering()
 	{
-		return order;
+		return layout.Ordering();
+	}
+	
+	@Override
+	public long Default()
+	{
+		return empty;
 	}
 	
 	@Override
 	public void clear()
 	{
-		data = new long[Count()];
+		// Views have to clear their data in place.
+		if(!layout.isDense() && !layout.isCurved())
+		{
+			LongArray.super.clear();
+			return;
+		}
+		
+		Arrays.fill(data, 0, layout.Size(), empty);
 	}
 }
\ No newline at end of file
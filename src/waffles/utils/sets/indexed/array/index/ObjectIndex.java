@@ -1,9 +1,22 @@
 package waffles.utils.sets.indexed.array.index;
 
+import java.util.Arrays;
+
+import waffles.utils.sets.indexed.array.ArrayLike;
+import waffles.utils.sets.indexed.array.Layout;
+import waffles.utils.sets.indexed.array.Spans;
+import waffles.utils.sets.indexed.array.Strided;
 import waffles.utils.sets.indexed.array.like.ObjectArray;
+import waffles.utils.sets.utilities.indexed.iterators.IndexValues;
+import waffles.utils.sets.utilities.indexed.iterators.arrays.ObjectValues;
 
 /**
  * An {@code ObjectIndex} implements a basic {@code ObjectArray}.
+ * Its coordinates are mapped onto the data array through a {@code Layout}
+ * which is computed once at construction. Views on the index share
+ * its data array through a different layout. Optionally, the index
+ * keeps an occupancy bitmap of its data array, which lets value
+ * iteration skip empty cells in bulk.
  *
  * @author Waffles
  * @since Feb 03, 2020
@@ -12,13 +25,30 @@ import waffles.utils.sets.indexed.array.like.ObjectArray;
  * 
  * @param <O>  an object type
  * @see ObjectArray
+ * @see Strided
+ * @see Layout
  */
-public class ObjectIndex<O> implements ObjectArray<O>
+public class ObjectIndex<O> implements ObjectArray<O>, Strided<ObjectIndex<O>>
 {
-	private Order order;
+	private Layout layout;
+	private long[] occupancy;
 	private Object[] data;
-	private int[] dimension;
 
+	/**
+	 * Creates a new {@code ObjectIndex}.
+	 * 
+	 * @param lay  an index layout
+	 * @param dat  an index data
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public ObjectIndex(Layout lay, Object[] dat)
+	{
+		layout = lay;
+		data = dat;
+	}
+	
 	/**
 	 * Creates a new {@code ObjectIndex}.
 	 * 
@@ -28,8 +58,7 @@ public class ObjectIndex<O> implements ObjectArray<O>
 	 */
 	public ObjectIndex(Order ord, Object[] dat, int... dim)
 	{
-		dimension = dim;
-		order = ord;
+		layout = new Layout(ord, dim);
 		data = dat;
 	}
 	
@@ -52,9 +81,8 @@ public class ObjectIndex<O> implements ObjectArray<O>
 	 */
 	public ObjectIndex(Order ord, int... dim)
 	{		
-		dimension = dim;
-		data = new Object[Count()];
-		order = ord;
+		layout = new Layout(ord, dim);
+		data = new Object[layout.Size()];
 	}
 		
 	/**
@@ -68,16 +96,218 @@ public class ObjectIndex<O> implements ObjectArray<O>
 	}
 
 	
+	/**
+	 * Changes the occupancy tracking of the {@code ObjectIndex}.
+	 * While enabled, every write keeps a bitmap of non-null cells
+	 * up to date. Views created afterwards share the bitmap,
+	 * so tracking should be enabled on the source index.
+	 * 
+	 * @param track  an occupancy state
+	 */
+	public void setOccupancy(boolean track)
+	{
+		occupancy = null;
+		if(track)
+		{
+			occupancy = new long[(data.length + 63) >>> 6];
+			for(int i = 0; i < data.length; i++)
+			{
+				if(data[i] != null)
+				{
+					occupancy[i >>> 6] |= 1L << i;
+				}
+			}
+		}
+	}
+	
+	
+	private O swap(O val, int index)
+	{
+		O prev = (O) data[index];
+		data[index] = val;
+		if(occupancy != null)
+		{
+			if(val != null)
+				occupancy[index >>> 6] |= 1L << index;
+			else
+				occupancy[index >>> 6] &= ~(1L << index);
+		}
+		
+		return prev;
+	}
+	
+	
+	@Override
+	public void copy(ArrayLike<Object[], O> src, int[] from, int[] to, int[] dim)
+	{
+		ObjectArray.super.copy(src, from, to, dim);
+		if(occupancy == null)
+		{
+			return;
+		}
+		
+		int[] max = new int[dim.length];
+		for(int i = 0; i < dim.length; i++)
+		{
+			max[i] = to[i] + dim[i] - 1;
+		}
+		
+		// Spans are copied past the bitmap,
+		// so refresh its bits afterwards.
+		Spans spans = layout.spans(to, max);
+		while(spans != null && spans.next())
+		{
+			int off = spans.Offset();
+			for(int i = off; i < off + spans.Length(); i++)
+			{
+				if(data[i] != null)
+					occupancy[i >>> 6] |= 1L << i;
+				else
+					occupancy[i >>> 6] &= ~(1L << i);
+			}
+		}
+	}
+	
+	@Override
+	public Iterable<O> Values(int[] min, int[] max)
+	{
+		if(layout.isCurved())
+		{
+			return () -> new IndexValues<>(this, layout.Ordering(), min, max);
+		}
+		
+		return () -> new ObjectValues<>(this, occupancy, min, max);
+	}
+	
+	@Override
+	public ObjectIndex<O> view(Layout lay)
+	{
+		ObjectIndex<O> view = new ObjectIndex<>(lay, data);
+		view.occupancy = occupancy;
+		return view;
+	}
+	
+	@Override
+	public final O get(int... crds)
+	{
+		return (O) data[layout.toIndex(crds)];
+	}
+	
+	@Override
+	public final O get(int r, int c, int a)
+	{
+		return (O) data[layout.toIndex(r, c, a)];
+	}
+	
+	@Override
+	public final O get(int r, int c)
+	{
+		return (O) data[layout.toIndex(r, c)];
+	}
+	
+	@Override
+	public final O get(int i)
+	{
+		return (O) data[layout.toIndex(i)];
+	}
+	
+	@Override
+	public final O put(O val, int... crds)
+	{
+		return swap(val, layout.toIndex(crds));
+	}
+	
+	@Override
+	public final O put(O val, int r, int c, int a)
+	{
+		return swap(val, layout.toIndex(r, c, a));
+	}
+	
+	@Override
+	public final O put(O val, int r, int c)
+	{
+		return swap(val, layout.toIndex(r, c));
+	}
+	
+	@Override
+	public final O put(O val, int i)
+	{
+		return swap(val, layout.toIndex(i));
+	}
+	
+	
+	@Override
+	public final int toIndex(Order ord, int... crds)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(crds);
+		}
+		
+		return ObjectArray.super.toIndex(ord, crds);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int r, int c, int a)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(r, c, a);
+		}
+		
+		return ObjectArray.super.toIndex(ord, r, c, a);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int r, int c)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(r, c);
+		}
+		
+		return ObjectArray.super.toIndex(ord, r, c);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int i)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(i);
+		}
+		
+		return ObjectArray.super.toIndex(ord, i);
+	}
+	
+	@Override
+	public final int[] toCoord(Order ord, int idx)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toCoord(idx);
+		}
+		
+		return ObjectArray.super.toCoord(ord, idx);
+	}
+	
+	
 	@Override
 	public Order Ordering()
 	{
-		return order;
+		return layout.Ordering();
+	}
+	
+	@Override
+	public Layout Layout()
+	{
+		return layout;
 	}
 			
 	@Override
 	public int[] Dimensions()
 	{
-		return dimension;
+		return layout.Dimensions();
 	}
 
 	@Override
@@ -89,6 +319,22 @@ public class ObjectIndex<O> implements ObjectArray<O>
 	@Override
 	public void clear()
 	{
-		data = new Object[Count()];
+		// Views have to clear their data in place.
+		if(!layout.isDense() && !layout.isCurved())
+		{
+			ObjectArray.super.clear();
+			return;
+		}
+		
+		Arrays.fill(data, 0, layout.Size(), null);
+		if(occupancy != null)
+		{
+			int size = layout.Size();
+			Arrays.fill(occupancy, 0, size >>> 6, 0L);
+			if((size & 63) != 0)
+			{
+				occupancy[size >>> 6] &= -1L << size;
+			}
+		}
 	}
 }
\ No newline at end of file
@@ -1,10 +1,16 @@
 package waffles.utils.sets.indexed.array.index;
 
+import java.util.Arrays;
+
+import waffles.utils.sets.indexed.array.Layout;
+import waffles.utils.sets.indexed.array.Strided;
 import waffles.utils.sets.indexed.array.like.ShortArray;
-import waffles.utils.tools.primitives.Array;
 
 /**
- * An {@code ShortIndex} provides a primitive-friendly alternative for an {@code ObjectIndex<Short>}.
+ * A {@code ShortIndex} provides a primitive-friendly alternative for an {@code ObjectIndex<Short>}.
+ * Its coordinates are mapped onto the data array through a {@code Layout}
+ * which is computed once at construction. Views on the index share
+ * its data array through a different layout.
  *
  * @author Waffles
  * @since Feb 03, 2020
@@ -12,12 +18,44 @@ import waffles.utils.tools.primitives.Array;
  * 
  * 
  * @see ShortArray
+ * @see Strided
+ * @see Layout
  */
-public class ShortIndex implements ShortArray
+public class ShortIndex implements ShortArray, Strided<ShortIndex>
 {
-	private Order order;
-	private int[] dimension;
+	private Layout layout;
 	private short[] data;
+	private short empty;
+	
+	/**
+	 * Creates a new {@code ShortIndex}.
+	 * 
+	 * @param lay  an index layout
+	 * @param dat  an index data
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public ShortIndex(Layout lay, short[] dat)
+	{
+		layout = lay;
+		data = dat;
+	}
+	
+	/**
+	 * Creates a new {@code ShortIndex}.
+	 * A data array is allocated to
+	 * fit the given layout.
+	 * 
+	 * @param lay  an index layout
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public ShortIndex(Layout lay)
+	{
+		this(lay, new short[lay.Size()]);
+	}
 	
 	/**
 	 * Creates a new {@code ShortIndex}.
@@ -28,8 +66,7 @@ public class ShortIndex implements ShortArray
 	 */
 	public ShortIndex(Order ord, short[] dat, int... dim)
 	{
-		dimension = dim;
-		order = ord;
+		layout = new Layout(ord, dim);
 		data = dat;
 	}
 	
@@ -52,9 +89,8 @@ public class ShortIndex implements ShortArray
 	 */
 	public ShortIndex(Order ord, int... dim)
 	{
-		order = ord;
-		dimension = dim;
-		data = new short[Count()];
+		layout = new Layout(ord, dim);
+		data = new short[layout.Size()];
 	}
 		
 	/**
@@ -67,21 +103,177 @@ public class ShortIndex implements ShortArray
 		this(Order.COL_MAJOR, dim);
 	}
 
-		
+	/**
+	 * Changes the default value of the {@code ShortIndex}.
+	 * Values already stored in the index are left as is,
+	 * the new default is applied by subsequent
+	 * removals and {@link #clear()} calls.
+	 * 
+	 * @param def  a default value
+	 */
+	public void setDefault(short def)
+	{
+		empty = def;
+	}
+	
+
 	@Override
 	public ShortIndex instance()
 	{
-		return new ShortIndex(order, dimension);
+		ShortIndex index = new ShortIndex(layout.compact());
+		if(empty != 0)
+		{
+			index.setDefault(empty);
+			index.clear();
+		}
+		
+		return index;
 	}
 	
 	@Override
 	public ShortIndex copy()
 	{
 		ShortIndex copy = instance();
-		copy.data = Array.copy.of(data);
+		if(layout.isDense() || layout.isCurved())
+		{
+			int count = layout.Size();
+			System.arraycopy(data, 0, copy.data, 0, count);
+			return copy;
+		}
+		
+		for(int[] crd : Keys())
+		{
+			copy.putShort(getShort(crd), crd);
+		}
+		
 		return copy;
 	}
 	
+	@Override
+	public ShortIndex view(Layout lay)
+	{
+		ShortIndex view = new ShortIndex(lay, data);
+		view.setDefault(empty);
+		return view;
+	}
+	
+	
+	@Override
+	public final short getShort(int... crds)
+	{
+		return data[layout.toIndex(crds)];
+	}
+	
+	@Override
+	public final short getShort(int r, int c, int a)
+	{
+		return data[layout.toIndex(r, c, a)];
+	}
+	
+	@Override
+	public final short getShort(int r, int c)
+	{
+		return data[layout.toIndex(r, c)];
+	}
+	
+	@Override
+	public final short getShort(int i)
+	{
+		return data[layout.toIndex(i)];
+	}
+	
+	@Override
+	public final short putShort(short val, int... crds)
+	{
+		int index = layout.toIndex(crds);
+		short prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final short putShort(short val, int r, int c, int a)
+	{
+		int index = layout.toIndex(r, c, a);
+		short prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final short putShort(short val, int r, int c)
+	{
+		int index = layout.toIndex(r, c);
+		short prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	@Override
+	public final short putShort(short val, int i)
+	{
+		int index = layout.toIndex(i);
+		short prev = data[index];
+		data[index] = val;
+		return prev;
+	}
+	
+	
+	@Override
+	public final int toIndex(Order ord, int... crds)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(crds);
+		}
+		
+		return ShortArray.super.toIndex(ord, crds);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int r, int c, int a)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(r, c, a);
+		}
+		
+		return ShortArray.super.toIndex(ord, r, c, a);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int r, int c)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(r, c);
+		}
+		
+		return ShortArray.super.toIndex(ord, r, c);
+	}
+	
+	@Override
+	public final int toIndex(Order ord, int i)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(i);
+		}
+		
+		return ShortArray.super.toIndex(ord, i);
+	}
+	
+	@Override
+	public final int[] toCoord(Order ord, int idx)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toCoord(idx);
+		}
+		
+		return ShortArray.super.toCoord(ord, idx);
+	}
+	
 	
 	@Override
 	public short[] Array()
@@ -89,21 +281,40 @@ public class ShortIndex implements ShortArray
 		return data;
 	}
 	
+	@Override
+	public Layout Layout()
+	{
+		return layout;
+	}
+	
 	@Override
 	public int[] Dimensions()
 	{
-		return dimension;
+		return layout.Dimensions();
 	}
 	
 	@Override
 	public Order Ordering()
 	{
-		return order;
+		return layout.Ordering();
+	}
+	
+	@Override
+	public short Default()
+	{
+		return empty;
 	}
 	
 	@Override
 	public void clear()
 	{
-		data = new short[Count()];
+		// Views have to clear their data in place.
+		if(!layout.isDense() && !layout.isCurved())
+		{
+			ShortArray.super.clear();
+			return;
+		}
+		
+		Arrays.fill(data, 0, layout.Size(), empty);
 	}
 }
\ No newline at end of file
@@ -5,6 +5,9 @@ import waffles.utils.tools.patterns.properties.values.Copyable;
 
 /**
  * A {@code BooleanArray} manages a primitive boolean array as an {@code ArrayLike}.
+ * Next to the boxed {@code MutableIndex} methods, it provides primitive
+ * accessors which operate on its array directly. Removing a value
+ * from the array resets it to the {@link #Default()} value.
  *
  * @author Waffles
  * @since 11 Nov 2023
@@ -16,25 +19,248 @@ import waffles.utils.tools.patterns.properties.values.Copyable;
  */
 public interface BooleanArray extends ArrayLike<boolean[], Boolean>, Copyable<BooleanArray>
 {
+	/**
+	 * Returns the default value of the {@code BooleanArray}.
+	 * This value is written into the array
+	 * whenever a value is removed.
+	 * 
+	 * @return  a default value
+	 */
+	public default boolean Default()
+	{
+		return false;
+	}
+	
+	
+	/**
+	 * Returns a primitive value from the {@code BooleanArray}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  an index value
+	 */
+	public default boolean getBoolean(int... crds)
+	{
+		return Array()[toIndex(Ordering(), crds)];
+	}
+	
+	/**
+	 * Returns a three-dimensional primitive value from the {@code BooleanArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  an index value
+	 */
+	public default boolean getBoolean(int r, int c, int a)
+	{
+		return Array()[toIndex(Ordering(), r, c, a)];
+	}
+	
+	/**
+	 * Returns a two-dimensional primitive value from the {@code BooleanArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  an index value
+	 */
+	public default boolean getBoolean(int r, int c)
+	{
+		return Array()[toIndex(Ordering(), r, c)];
+	}
+	
+	/**
+	 * Returns a one-dimensional primitive value from the {@code BooleanArray}.
+	 * 
+	 * @param i  an index coordinate
+	 * @return  an index value
+	 */
+	public default boolean getBoolean(int i)
+	{
+		return Array()[toIndex(Ordering(), i)];
+	}
+	
+	
+	/**
+	 * Changes a primitive value in the {@code BooleanArray}.
+	 * 
+	 * @param val   an index value
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public default boolean putBoolean(boolean val, int... crds)
+	{
+		return swap(val, toIndex(Ordering(), crds));
+	}
+	
+	/**
+	 * Changes a three-dimensional primitive value in the {@code BooleanArray}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @param a    an index aisle
+	 * @return  a previous index value
+	 */
+	public default boolean putBoolean(boolean val, int r, int c, int a)
+	{
+		return swap(val, toIndex(Ordering(), r, c, a));
+	}
+	
+	/**
+	 * Changes a two-dimensional primitive value in the {@code BooleanArray}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @return  a previous index value
+	 */
+	public default boolean putBoolean(boolean val, int r, int c)
+	{
+		return swap(val, toIndex(Ordering(), r, c));
+	}
+	
+	/**
+	 * Changes a one-dimensional primitive value in the {@code BooleanArray}.
+	 * 
+	 * @param val  an index value
+	 * @param i    an index coordinate
+	 * @return  a previous index value
+	 */
+	public default boolean putBoolean(boolean val, int i)
+	{
+		return swap(val, toIndex(Ordering(), i));
+	}
+	
+	
+	/**
+	 * Removes a primitive value from the {@code BooleanArray}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public default boolean removeBoolean(int... crds)
+	{
+		return putBoolean(Default(), crds);
+	}
+	
+	/**
+	 * Removes a three-dimensional primitive value from the {@code BooleanArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  a previous index value
+	 */
+	public default boolean removeBoolean(int r, int c, int a)
+	{
+		return putBoolean(Default(), r, c, a);
+	}
+	
+	/**
+	 * Removes a two-dimensional primitive value from the {@code BooleanArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  a previous index value
+	 */
+	public default boolean removeBoolean(int r, int c)
+	{
+		return putBoolean(Default(), r, c);
+	}
+	
+	
+	private boolean swap(boolean val, int index)
+	{
+		boolean prev = Array()[index];
+		Array()[index] = val;
+		return prev;
+	}
+	
+	
 	@Override
 	public default Boolean get(int... crds)
 	{
-		return Array()[toIndex(Ordering(), crds)];
+		return getBoolean(crds);
+	}
+	
+	@Override
+	public default Boolean get(int r, int c, int a)
+	{
+		return getBoolean(r, c, a);
+	}
+	
+	@Override
+	public default Boolean get(int r, int c)
+	{
+		return getBoolean(r, c);
+	}
+	
+	@Override
+	public default Boolean get(int i)
+	{
+		return getBoolean(i);
 	}
 	
 	@Override
 	public default Boolean put(Boolean val, int... crds)
 	{
-		int index = toIndex(Ordering(), crds);
-		Boolean prev = Array()[index];
-		Array()[index] = val;
-		return prev;
+		if(val == null)
+		{
+			return removeBoolean(crds);
+		}
+		
+		return putBoolean(val, crds);
+	}
+	
+	@Override
+	public default Boolean put(Boolean val, int r, int c, int a)
+	{
+		if(val == null)
+		{
+			return removeBoolean(r, c, a);
+		}
+		
+		return putBoolean(val, r, c, a);
+	}
+	
+	@Override
+	public default Boolean put(Boolean val, int r, int c)
+	{
+		if(val == null)
+		{
+			return removeBoolean(r, c);
+		}
+		
+		return putBoolean(val, r, c);
+	}
+	
+	@Override
+	public default Boolean put(Boolean val, int i)
+	{
+		if(val == null)
+		{
+			return putBoolean(Default(), i);
+		}
+		
+		return putBoolean(val, i);
 	}
 	
 	@Override
 	public default Boolean remove(int... crds)
 	{
-		return put(null, crds);
+		return removeBoolean(crds);
+	}
+	
+	@Override
+	public default Boolean remove(int r, int c, int a)
+	{
+		return removeBoolean(r, c, a);
+	}
+	
+	@Override
+	public default Boolean remove(int r, int c)
+	{
+		return removeBoolean(r, c);
 	}
 	
 	@Override
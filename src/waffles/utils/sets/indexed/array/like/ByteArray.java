@@ -5,6 +5,9 @@ import waffles.utils.tools.patterns.properties.values.Copyable;
 
 /**
  * A {@code ByteArray} manages a primitive byte array as an {@code ArrayLike}.
+ * Next to the boxed {@code MutableIndex} methods, it provides primitive
+ * accessors which operate on its array directly. Removing a value
+ * from the array resets it to the {@link #Default()} value.
  *
  * @author Waffles
  * @since 11 Nov 2023
@@ -16,25 +19,248 @@ import waffles.utils.tools.patterns.properties.values.Copyable;
  */
 public interface ByteArray extends ArrayLike<byte[], Byte>, Copyable<ByteArray>
 {
+	/**
+	 * Returns the default value of the {@code ByteArray}.
+	 * This value is written into the array
+	 * whenever a value is removed.
+	 * 
+	 * @return  a default value
+	 */
+	public default byte Default()
+	{
+		return (byte) 0;
+	}
+	
+	
+	/**
+	 * Returns a primitive value from the {@code ByteArray}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  an index value
+	 */
+	public default byte getByte(int... crds)
+	{
+		return Array()[toIndex(Ordering(), crds)];
+	}
+	
+	/**
+	 * Returns a three-dimensional primitive value from the {@code ByteArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  an index value
+	 */
+	public default byte getByte(int r, int c, int a)
+	{
+		return Array()[toIndex(Ordering(), r, c, a)];
+	}
+	
+	/**
+	 * Returns a two-dimensional primitive value from the {@code ByteArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  an index value
+	 */
+	public default byte getByte(int r, int c)
+	{
+		return Array()[toIndex(Ordering(), r, c)];
+	}
+	
+	/**
+	 * Returns a one-dimensional primitive value from the {@code ByteArray}.
+	 * 
+	 * @param i  an index coordinate
+	 * @return  an index value
+	 */
+	public default byte getByte(int i)
+	{
+		return Array()[toIndex(Ordering(), i)];
+	}
+	
+	
+	/**
+	 * Changes a primitive value in the {@code ByteArray}.
+	 * 
+	 * @param val   an index value
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public default byte putByte(byte val, int... crds)
+	{
+		return swap(val, toIndex(Ordering(), crds));
+	}
+	
+	/**
+	 * Changes a three-dimensional primitive value in the {@code ByteArray}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @param a    an index aisle
+	 * @return  a previous index value
+	 */
+	public default byte putByte(byte val, int r, int c, int a)
+	{
+		return swap(val, toIndex(Ordering(), r, c, a));
+	}
+	
+	/**
+	 * Changes a two-dimensional primitive value in the {@code ByteArray}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @return  a previous index value
+	 */
+	public default byte putByte(byte val, int r, int c)
+	{
+		return swap(val, toIndex(Ordering(), r, c));
+	}
+	
+	/**
+	 * Changes a one-dimensional primitive value in the {@code ByteArray}.
+	 * 
+	 * @param val  an index value
+	 * @param i    an index coordinate
+	 * @return  a previous index value
+	 */
+	public default byte putByte(byte val, int i)
+	{
+		return swap(val, toIndex(Ordering(), i));
+	}
+	
+	
+	/**
+	 * Removes a primitive value from the {@code ByteArray}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public default byte removeByte(int... crds)
+	{
+		return putByte(Default(), crds);
+	}
+	
+	/**
+	 * Removes a three-dimensional primitive value from the {@code ByteArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  a previous index value
+	 */
+	public default byte removeByte(int r, int c, int a)
+	{
+		return putByte(Default(), r, c, a);
+	}
+	
+	/**
+	 * Removes a two-dimensional primitive value from the {@code ByteArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  a previous index value
+	 */
+	public default byte removeByte(int r, int c)
+	{
+		return putByte(Default(), r, c);
+	}
+	
+	
+	private byte swap(byte val, int index)
+	{
+		byte prev = Array()[index];
+		Array()[index] = val;
+		return prev;
+	}
+	
+	
 	@Override
 	public default Byte get(int... crds)
 	{
-		return Array()[toIndex(Ordering(), crds)];
+		return getByte(crds);
+	}
+	
+	@Override
+	public default Byte get(int r, int c, int a)
+	{
+		return getByte(r, c, a);
+	}
+	
+	@Override
+	public default Byte get(int r, int c)
+	{
+		return getByte(r, c);
+	}
+	
+	@Override
+	public default Byte get(int i)
+	{
+		return getByte(i);
 	}
 	
 	@Override
 	public default Byte put(Byte val, int... crds)
 	{
-		int index = toIndex(Ordering(), crds);
-		Byte prev = Array()[index];
-		Array()[index] = val;
-		return prev;
+		if(val == null)
+		{
+			return removeByte(crds);
+		}
+		
+		return putByte(val, crds);
+	}
+	
+	@Override
+	public default Byte put(Byte val, int r, int c, int a)
+	{
+		if(val == null)
+		{
+			return removeByte(r, c, a);
+		}
+		
+		return putByte(val, r, c, a);
+	}
+	
+	@Override
+	public default Byte put(Byte val, int r, int c)
+	{
+		if(val == null)
+		{
+			return removeByte(r, c);
+		}
+		
+		return putByte(val, r, c);
+	}
+	
+	@Override
+	public default Byte put(Byte val, int i)
+	{
+		if(val == null)
+		{
+			return putByte(Default(), i);
+		}
+		
+		return putByte(val, i);
 	}
 	
 	@Override
 	public default Byte remove(int... crds)
 	{
-		return put(null, crds);
+		return removeByte(crds);
+	}
+	
+	@Override
+	public default Byte remove(int r, int c, int a)
+	{
+		return removeByte(r, c, a);
+	}
+	
+	@Override
+	public default Byte remove(int r, int c)
+	{
+		return removeByte(r, c);
 	}
 	
 	@Override
@@ -1,10 +1,23 @@
 package waffles.utils.sets.indexed.array.like;
 
+import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+import waffles.utils.sets.indexed.MutableIndex.Order;
 import waffles.utils.sets.indexed.array.ArrayLike;
+import waffles.utils.sets.indexed.array.Blocks;
+import waffles.utils.sets.indexed.array.Layout;
+import waffles.utils.sets.indexed.array.Spans;
+import waffles.utils.sets.utilities.indexed.iterators.IndexCursor;
 import waffles.utils.tools.patterns.properties.values.Copyable;
 
 /**
  * A {@code DoubleArray} manages a primitive double array as an {@code ArrayLike}.
+ * Next to the boxed {@code MutableIndex} methods, it provides primitive
+ * accessors which operate on its array directly. Removing a value
+ * from the array resets it to the {@link #Default()} value.
  *
  * @author Waffles
  * @since 11 Nov 2023
@@ -16,25 +29,677 @@ import waffles.utils.tools.patterns.properties.values.Copyable;
  */
 public interface DoubleArray extends ArrayLike<double[], Double>, Copyable<DoubleArray>
 {
+	/**
+	 * Returns the default value of the {@code DoubleArray}.
+	 * This value is written into the array
+	 * whenever a value is removed.
+	 * 
+	 * @return  a default value
+	 */
+	public default double Default()
+	{
+		return 0d;
+	}
+	
+	
+	/**
+	 * Returns a primitive value from the {@code DoubleArray}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  an index value
+	 */
+	public default double getDouble(int... crds)
+	{
+		return Array()[toIndex(Ordering(), crds)];
+	}
+	
+	/**
+	 * Returns a three-dimensional primitive value from the {@code DoubleArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  an index value
+	 */
+	public default double getDouble(int r, int c, int a)
+	{
+		return Array()[toIndex(Ordering(), r, c, a)];
+	}
+	
+	/**
+	 * Returns a two-dimensional primitive value from the {@code DoubleArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  an index value
+	 */
+	public default double getDouble(int r, int c)
+	{
+		return Array()[toIndex(Ordering(), r, c)];
+	}
+	
+	/**
+	 * Returns a one-dimensional primitive value from the {@code DoubleArray}.
+	 * 
+	 * @param i  an index coordinate
+	 * @return  an index value
+	 */
+	public default double getDouble(int i)
+	{
+		return Array()[toIndex(Ordering(), i)];
+	}
+	
+	
+	/**
+	 * Changes a primitive value in the {@code DoubleArray}.
+	 * 
+	 * @param val   an index value
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public default double putDouble(double val, int... crds)
+	{
+		return swap(val, toIndex(Ordering(), crds));
+	}
+	
+	/**
+	 * Changes a three-dimensional primitive value in the {@code DoubleArray}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @param a    an index aisle
+	 * @return  a previous index value
+	 */
+	public default double putDouble(double val, int r, int c, int a)
+	{
+		return swap(val, toIndex(Ordering(), r, c, a));
+	}
+	
+	/**
+	 * Changes a two-dimensional primitive value in the {@code DoubleArray}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @return  a previous index value
+	 */
+	public default double putDouble(double val, int r, int c)
+	{
+		return swap(val, toIndex(Ordering(), r, c));
+	}
+	
+	/**
+	 * Changes a one-dimensional primitive value in the {@code DoubleArray}.
+	 * 
+	 * @param val  an index value
+	 * @param i    an index coordinate
+	 * @return  a previous index value
+	 */
+	public default double putDouble(double val, int i)
+	{
+		return swap(val, toIndex(Ordering(), i));
+	}
+	
+	
+	/**
+	 * Removes a primitive value from the {@code DoubleArray}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public default double removeDouble(int... crds)
+	{
+		return putDouble(Default(), crds);
+	}
+	
+	/**
+	 * Removes a three-dimensional primitive value from the {@code DoubleArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  a previous index value
+	 */
+	public default double removeDouble(int r, int c, int a)
+	{
+		return putDouble(Default(), r, c, a);
+	}
+	
+	/**
+	 * Removes a two-dimensional primitive value from the {@code DoubleArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  a previous index value
+	 */
+	public default double removeDouble(int r, int c)
+	{
+		return putDouble(Default(), r, c);
+	}
+	
+	
+	/**
+	 * Changes every value in the {@code DoubleArray}.
+	 * 
+	 * @param val  a fill value
+	 */
+	public default void fill(double val)
+	{
+		fill(val, 0, Layout().Count());
+	}
+	
+	/**
+	 * Changes every value in the {@code DoubleArray} in parallel.
+	 * 
+	 * @param val  a fill value
+	 * @param blk  a block split
+	 * 
+	 * 
+	 * @see Blocks
+	 */
+	public default void fill(double val, Blocks blk)
+	{
+		blk.run((lo, hi) -> fill(val, lo, hi));
+	}
+	
+	/**
+	 * Changes every value in a region of the {@code DoubleArray}.
+	 * Unless the array is curved, the region is
+	 * filled one contiguous span at a time.
+	 * 
+	 * @param val  a fill value
+	 * @param min  a minimum coordinate
+	 * @param max  a maximum coordinate
+	 */
+	public default void fill(double val, int[] min, int[] max)
+	{
+		Spans spans = Layout().spans(min, max);
+		if(spans == null)
+		{
+			IndexCursor<Double> crs = new IndexCursor<>(this, Ordering(), min, max);
+			while(crs.next())
+			{
+				putDouble(val, crs.Coordinates());
+			}
+			
+			return;
+		}
+		
+		double[] arr = Array();
+		while(spans.next())
+		{
+			int off = spans.Offset();
+			Arrays.fill(arr, off, off + spans.Length(), val);
+		}
+	}
+	
+	/**
+	 * Changes every value in the {@code DoubleArray}
+	 * to the result of an operator.
+	 * 
+	 * @param op  a unary operator
+	 * 
+	 * 
+	 * @see DoubleUnaryOperator
+	 */
+	public default void map(DoubleUnaryOperator op)
+	{
+		map(op, 0, Layout().Count());
+	}
+	
+	/**
+	 * Changes every value in the {@code DoubleArray}
+	 * to the result of an operator in parallel.
+	 * 
+	 * @param op   a unary operator
+	 * @param blk  a block split
+	 * 
+	 * 
+	 * @see DoubleUnaryOperator
+	 * @see Blocks
+	 */
+	public default void map(DoubleUnaryOperator op, Blocks blk)
+	{
+		blk.run((lo, hi) -> map(op, lo, hi));
+	}
+	
+	/**
+	 * Combines every value in the {@code DoubleArray} with
+	 * the value at the same coordinate in another array.
+	 * Both arrays are expected to have the same dimensions.
+	 * 
+	 * @param src  a source array
+	 * @param op   a binary operator
+	 * 
+	 * 
+	 * @see DoubleBinaryOperator
+	 */
+	public default void zip(DoubleArray src, DoubleBinaryOperator op)
+	{
+		zip(src, op, 0, Layout().Count());
+	}
+	
+	/**
+	 * Combines every value in the {@code DoubleArray} with the value
+	 * at the same coordinate in another array in parallel.
+	 * Both arrays are expected to have the same dimensions.
+	 * 
+	 * @param src  a source array
+	 * @param op   a binary operator
+	 * @param blk  a block split
+	 * 
+	 * 
+	 * @see DoubleBinaryOperator
+	 * @see Blocks
+	 */
+	public default void zip(DoubleArray src, DoubleBinaryOperator op, Blocks blk)
+	{
+		blk.run((lo, hi) -> zip(src, op, lo, hi));
+	}
+	
+	/**
+	 * Returns the sum of the values in the {@code DoubleArray}.
+	 * 
+	 * @return  a value sum
+	 */
+	public default double sum()
+	{
+		return sum(0, Layout().Count());
+	}
+	
+	/**
+	 * Returns the sum of the values in the {@code DoubleArray},
+	 * computed in parallel.
+	 * 
+	 * @param blk  a block split
+	 * @return  a value sum
+	 * 
+	 * 
+	 * @see Blocks
+	 */
+	public default double sum(Blocks blk)
+	{
+		Double sum = blk.fold(this::sum, Double::sum);
+		return sum == null ? 0 : sum;
+	}
+	
+	/**
+	 * Returns the minimum value in the {@code DoubleArray}.
+	 * If the array is empty, its default value is returned.
+	 * 
+	 * @return  a minimum value
+	 */
+	public default double min()
+	{
+		return min(0, Layout().Count());
+	}
+	
+	/**
+	 * Returns the minimum value in the {@code DoubleArray}, computed in parallel.
+	 * If the array is empty, its default value is returned.
+	 * 
+	 * @param blk  a block split
+	 * @return  a minimum value
+	 * 
+	 * 
+	 * @see Blocks
+	 */
+	public default double min(Blocks blk)
+	{
+		Double min = blk.fold(this::min, Math::min);
+		return min == null ? Default() : min;
+	}
+	
+	/**
+	 * Returns the maximum value in the {@code DoubleArray}.
+	 * If the array is empty, its default value is returned.
+	 * 
+	 * @return  a maximum value
+	 */
+	public default double max()
+	{
+		return max(0, Layout().Count());
+	}
+	
+	/**
+	 * Returns the maximum value in the {@code DoubleArray}, computed in parallel.
+	 * If the array is empty, its default value is returned.
+	 * 
+	 * @param blk  a block split
+	 * @return  a maximum value
+	 * 
+	 * 
+	 * @see Blocks
+	 */
+	public default double max(Blocks blk)
+	{
+		Double max = blk.fold(this::max, Math::max);
+		return max == null ? Default() : max;
+	}
+	
+	/**
+	 * Counts the values in the {@code DoubleArray} which satisfy a predicate.
+	 * 
+	 * @param p  a value predicate
+	 * @return  a value count
+	 * 
+	 * 
+	 * @see DoublePredicate
+	 */
+	public default int count(DoublePredicate p)
+	{
+		return count(p, 0, Layout().Count());
+	}
+	
+	/**
+	 * Counts the values in the {@code DoubleArray} which
+	 * satisfy a predicate in parallel.
+	 * 
+	 * @param p    a value predicate
+	 * @param blk  a block split
+	 * @return  a value count
+	 * 
+	 * 
+	 * @see DoublePredicate
+	 * @see Blocks
+	 */
+	public default int count(DoublePredicate p, Blocks blk)
+	{
+		Integer n = blk.fold((lo, hi) -> count(p, lo, hi), Integer::sum);
+		return n == null ? 0 : n;
+	}
+	
+	/**
+	 * Returns the dot product of the {@code DoubleArray} with another array.
+	 * Both arrays are expected to have the same dimensions.
+	 * 
+	 * @param src  a source array
+	 * @return  a dot product
+	 */
+	public default double dot(DoubleArray src)
+	{
+		return dot(src, 0, Layout().Count());
+	}
+	
+	/**
+	 * Returns the dot product of the {@code DoubleArray} with another array,
+	 * computed in parallel. Both arrays are expected to have the same dimensions.
+	 * 
+	 * @param src  a source array
+	 * @param blk  a block split
+	 * @return  a dot product
+	 * 
+	 * 
+	 * @see Blocks
+	 */
+	public default double dot(DoubleArray src, Blocks blk)
+	{
+		Double dot = blk.fold((lo, hi) -> dot(src, lo, hi), Double::sum);
+		return dot == null ? 0 : dot;
+	}
+	
+	
+	private void fill(double val, int lo, int hi)
+	{
+		double[] arr = Array();
+		Layout lay = Layout();
+		if(lay.isDense())
+		{
+			Arrays.fill(arr, lo, hi, val);
+			return;
+		}
+		
+		for(int i = lo; i < hi; i++)
+		{
+			arr[lay.toOffset(i)] = val;
+		}
+	}
+	
+	private void map(DoubleUnaryOperator op, int lo, int hi)
+	{
+		double[] arr = Array();
+		Layout lay = Layout();
+		if(lay.isDense())
+		{
+			for(int i = lo; i < hi; i++)
+			{
+				arr[i] = op.applyAsDouble(arr[i]);
+			}
+			
+			return;
+		}
+		
+		for(int i = lo; i < hi; i++)
+		{
+			int j = lay.toOffset(i);
+			arr[j] = op.applyAsDouble(arr[j]);
+		}
+	}
+	
+	private void zip(DoubleArray src, DoubleBinaryOperator op, int lo, int hi)
+	{
+		double[] arr = Array();
+		double[] oth = src.Array();
+		Layout lay = Layout();
+		Layout sly = src.Layout();
+		
+		Order ord = lay.Ordering();
+		if(lay.isDense() && sly.isDense() && ord == sly.Ordering())
+		{
+			for(int i = lo; i < hi; i++)
+			{
+				arr[i] = op.applyAsDouble(arr[i], oth[i]);
+			}
+			
+			return;
+		}
+		
+		for(int i = lo; i < hi; i++)
+		{
+			int j = lay.toOffset(ord, i);
+			int k = sly.toOffset(ord, i);
+			arr[j] = op.applyAsDouble(arr[j], oth[k]);
+		}
+	}
+	
+	private double sum(int lo, int hi)
+	{
+		double sum = 0;
+		double[] arr = Array();
+		Layout lay = Layout();
+		if(lay.isDense())
+		{
+			for(int i = lo; i < hi; i++)
+			{
+				sum += arr[i];
+			}
+			
+			return sum;
+		}
+		
+		for(int i = lo; i < hi; i++)
+		{
+			sum += arr[lay.toOffset(i)];
+		}
+		
+		return sum;
+	}
+	
+	private double min(int lo, int hi)
+	{
+		if(hi <= lo)
+		{
+			return Default();
+		}
+		
+		double[] arr = Array();
+		Layout lay = Layout();
+		double min = arr[lay.toOffset(lo)];
+		for(int i = lo + 1; i < hi; i++)
+		{
+			min = Math.min(min, arr[lay.toOffset(i)]);
+		}
+		
+		return min;
+	}
+	
+	private double max(int lo, int hi)
+	{
+		if(hi <= lo)
+		{
+			return Default();
+		}
+		
+		double[] arr = Array();
+		Layout lay = Layout();
+		double max = arr[lay.toOffset(lo)];
+		for(int i = lo + 1; i < hi; i++)
+		{
+			max = Math.max(max, arr[lay.toOffset(i)]);
+		}
+		
+		return max;
+	}
+	
+	private int count(DoublePredicate p, int lo, int hi)
+	{
+		int n = 0;
+		double[] arr = Array();
+		Layout lay = Layout();
+		for(int i = lo; i < hi; i++)
+		{
+			if(p.test(arr[lay.toOffset(i)]))
+			{
+				n++;
+			}
+		}
+		
+		return n;
+	}
+	
+	private double dot(DoubleArray src, int lo, int hi)
+	{
+		double dot = 0;
+		double[] arr = Array();
+		double[] oth = src.Array();
+		Layout lay = Layout();
+		Layout sly = src.Layout();
+		
+		Order ord = lay.Ordering();
+		if(lay.isDense() && sly.isDense() && ord == sly.Ordering())
+		{
+			for(int i = lo; i < hi; i++)
+			{
+				dot += arr[i] * oth[i];
+			}
+			
+			return dot;
+		}
+		
+		for(int i = lo; i < hi; i++)
+		{
+			int j = lay.toOffset(ord, i);
+			int k = sly.toOffset(ord, i);
+			dot += arr[j] * oth[k];
+		}
+		
+		return dot;
+	}
+	
+	
+	private double swap(double val, int index)
+	{
+		double prev = Array()[index];
+		Array()[index] = val;
+		return prev;
+	}
+	
+	
 	@Override
 	public default Double get(int... crds)
 	{
-		return Array()[toIndex(Ordering(), crds)];
+		return getDouble(crds);
+	}
+	
+	@Override
+	public default Double get(int r, int c, int a)
+	{
+		return getDouble(r, c, a);
+	}
+	
+	@Override
+	public default Double get(int r, int c)
+	{
+		return getDouble(r, c);
+	}
+	
+	@Override
+	public default Double get(int i)
+	{
+		return getDouble(i);
 	}
 	
 	@Override
 	public default Double put(Double val, int... crds)
 	{
-		int index = toIndex(Ordering(), crds);
-		Double prev = Array()[index];
-		Array()[index] = val;
-		return prev;
+		if(val == null)
+		{
+			return removeDouble(crds);
+		}
+		
+		return putDouble(val, crds);
+	}
+	
+	@Override
+	public default Double put(Double val, int r, int c, int a)
+	{
+		if(val == null)
+		{
+			return removeDouble(r, c, a);
+		}
+		
+		return putDouble(val, r, c, a);
+	}
+	
+	@Override
+	public default Double put(Double val, int r, int c)
+	{
+		if(val == null)
+		{
+			return removeDouble(r, c);
+		}
+		
+		return putDouble(val, r, c);
+	}
+	
+	@Override
+	public default Double put(Double val, int i)
+	{
+		if(val == null)
+		{
+			return putDouble(Default(), i);
+		}
+		
+		return putDouble(val, i);
 	}
 	
 	@Override
 	public default Double remove(int... crds)
 	{
-		return put(null, crds);
+		return removeDouble(crds);
+	}
+	
+	@Override
+	public default Double remove(int r, int c, int a)
+	{
+		return removeDouble(r, c, a);
+	}
+	
+	@Override
+	public default Double remove(int r, int c)
+	{
+		return removeDouble(r, c);
 	}
 	
 	@Override
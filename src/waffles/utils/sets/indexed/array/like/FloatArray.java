@@ -1,10 +1,20 @@
 package waffles.utils.sets.indexed.array.like;
 
+import java.util.Arrays;
+
+import waffles.utils.sets.indexed.MutableIndex.Order;
 import waffles.utils.sets.indexed.array.ArrayLike;
+import waffles.utils.sets.indexed.array.Blocks;
+import waffles.utils.sets.indexed.array.Layout;
+import waffles.utils.sets.indexed.array.Spans;
+import waffles.utils.sets.utilities.indexed.iterators.IndexCursor;
 import waffles.utils.tools.patterns.properties.values.Copyable;
 
 /**
  * A {@code FloatArray} manages a primitive float array as an {@code ArrayLike}.
+ * Next to the boxed {@code MutableIndex} methods, it provides primitive
+ * accessors which operate on its array directly. Removing a value
+ * from the array resets it to the {@link #Default()} value.
  *
  * @author Waffles
  * @since 11 Nov 2023
@@ -16,25 +26,736 @@ import waffles.utils.tools.patterns.properties.values.Copyable;
  */
 public interface FloatArray extends ArrayLike<float[], Float>, Copyable<FloatArray>
 {
+	/**
+	 * A {@code Unary} operator maps a primitive float onto another.
+	 *
+	 * @author Waffles
+	 * @since 17 Oct 2026
+	 * @version 1.1
+	 */
+	@FunctionalInterface
+	public static interface Unary
+	{
+		/**
+		 * Applies the {@code Unary} operator.
+		 * 
+		 * @param val  an operand
+		 * @return  a result
+		 */
+		public abstract float apply(float val);
+	}
+	
+	/**
+	 * A {@code Binary} operator combines two primitive floats into one.
+	 *
+	 * @author Waffles
+	 * @since 17 Oct 2026
+	 * @version 1.1
+	 */
+	@FunctionalInterface
+	public static interface Binary
+	{
+		/**
+		 * Applies the {@code Binary} operator.
+		 * 
+		 * @param v1  a first operand
+		 * @param v2  a second operand
+		 * @return  a result
+		 */
+		public abstract float apply(float v1, float v2);
+	}
+	
+	/**
+	 * A {@code Predicate} tests a condition on a primitive float.
+	 *
+	 * @author Waffles
+	 * @since 17 Oct 2026
+	 * @version 1.1
+	 */
+	@FunctionalInterface
+	public static interface Predicate
+	{
+		/**
+		 * Tests the {@code Predicate} on a value.
+		 * 
+		 * @param val  a float value
+		 * @return  {@code true} if the value satisfies the predicate
+		 */
+		public abstract boolean test(float val);
+	}
+	
+	
+	/**
+	 * Returns the default value of the {@code FloatArray}.
+	 * This value is written into the array
+	 * whenever a value is removed.
+	 * 
+	 * @return  a default value
+	 */
+	public default float Default()
+	{
+		return 0f;
+	}
+	
+	
+	/**
+	 * Returns a primitive value from the {@code FloatArray}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  an index value
+	 */
+	public default float getFloat(int... crds)
+	{
+		return Array()[toIndex(Ordering(), crds)];
+	}
+	
+	/**
+	 * Returns a three-dimensional primitive value from the {@code FloatArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  an index value
+	 */
+	public default float getFloat(int r, int c, int a)
+	{
+		return Array()[toIndex(Ordering(), r, c, a)];
+	}
+	
+	/**
+	 * Returns a two-dimensional primitive value from the {@code FloatArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  an index value
+	 */
+	public default float getFloat(int r, int c)
+	{
+		return Array()[toIndex(Ordering(), r, c)];
+	}
+	
+	/**
+	 * Returns a one-dimensional primitive value from the {@code FloatArray}.
+	 * 
+	 * @param i  an index coordinate
+	 * @return  an index value
+	 */
+	public default float getFloat(int i)
+	{
+		return Array()[toIndex(Ordering(), i)];
+	}
+	
+	
+	/**
+	 * Changes a primitive value in the {@code FloatArray}.
+	 * 
+	 * @param val   an index value
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public default float putFloat(float val, int... crds)
+	{
+		return swap(val, toIndex(Ordering(), crds));
+	}
+	
+	/**
+	 * Changes a three-dimensional primitive value in the {@code FloatArray}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @param a    an index aisle
+	 * @return  a previous index value
+	 */
+	public default float putFloat(float val, int r, int c, int a)
+	{
+		return swap(val, toIndex(Ordering(), r, c, a));
+	}
+	
+	/**
+	 * Changes a two-dimensional primitive value in the {@code FloatArray}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @return  a previous index value
+	 */
+	public default float putFloat(float val, int r, int c)
+	{
+		return swap(val, toIndex(Ordering(), r, c));
+	}
+	
+	/**
+	 * Changes a one-dimensional primitive value in the {@code FloatArray}.
+	 * 
+	 * @param val  an index value
+	 * @param i    an index coordinate
+	 * @return  a previous index value
+	 */
+	public default float putFloat(float val, int i)
+	{
+		return swap(val, toIndex(Ordering(), i));
+	}
+	
+	
+	/**
+	 * Removes a primitive value from the {@code FloatArray}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public default float removeFloat(int... crds)
+	{
+		return putFloat(Default(), crds);
+	}
+	
+	/**
+	 * Removes a three-dimensional primitive value from the {@code FloatArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  a previous index value
+	 */
+	public default float removeFloat(int r, int c, int a)
+	{
+		return putFloat(Default(), r, c, a);
+	}
+	
+	/**
+	 * Removes a two-dimensional primitive value from the {@code FloatArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  a previous index value
+	 */
+	public default float removeFloat(int r, int c)
+	{
+		return putFloat(Default(), r, c);
+	}
+	
+	
+	/**
+	 * Changes every value in the {@code FloatArray}.
+	 * 
+	 * @param val  a fill value
+	 */
+	public default void fill(float val)
+	{
+		fill(val, 0, Layout().Count());
+	}
+	
+	/**
+	 * Changes every value in the {@code FloatArray} in parallel.
+	 * 
+	 * @param val  a fill value
+	 * @param blk  a block split
+	 * 
+	 * 
+	 * @see Blocks
+	 */
+	public default void fill(float val, Blocks blk)
+	{
+		blk.run((lo, hi) -> fill(val, lo, hi));
+	}
+	
+	/**
+	 * Changes every value in a region of the {@code FloatArray}.
+	 * Unless the array is curved, the region is
+	 * filled one contiguous span at a time.
+	 * 
+	 * @param val  a fill value
+	 * @param min  a minimum coordinate
+	 * @param max  a maximum coordinate
+	 */
+	public default void fill(float val, int[] min, int[] max)
+	{
+		Spans spans = Layout().spans(min, max);
+		if(spans == null)
+		{
+			IndexCursor<Float> crs = new IndexCursor<>(this, Ordering(), min, max);
+			while(crs.next())
+			{
+				putFloat(val, crs.Coordinates());
+			}
+			
+			return;
+		}
+		
+		float[] arr = Array();
+		while(spans.next())
+		{
+			int off = spans.Offset();
+			Arrays.fill(arr, off, off + spans.Length(), val);
+		}
+	}
+	
+	/**
+	 * Changes every value in the {@code FloatArray}
+	 * to the result of an operator.
+	 * 
+	 * @param op  a unary operator
+	 * 
+	 * 
+	 * @see Unary
+	 */
+	public default void map(Unary op)
+	{
+		map(op, 0, Layout().Count());
+	}
+	
+	/**
+	 * Changes every value in the {@code FloatArray}
+	 * to the result of an operator in parallel.
+	 * 
+	 * @param op   a unary operator
+	 * @param blk  a block split
+	 * 
+	 * 
+	 * @see Unary
+	 * @see Blocks
+	 */
+	public default void map(Unary op, Blocks blk)
+	{
+		blk.run((lo, hi) -> map(op, lo, hi));
+	}
+	
+	/**
+	 * Combines every value in the {@code FloatArray} with
+	 * the value at the same coordinate in another array.
+	 * Both arrays are expected to have the same dimensions.
+	 * 
+	 * @param src  a source array
+	 * @param op   a binary operator
+	 * 
+	 * 
+	 * @see Binary
+	 */
+	public default void zip(FloatArray src, Binary op)
+	{
+		zip(src, op, 0, Layout().Count());
+	}
+	
+	/**
+	 * Combines every value in the {@code FloatArray} with the value
+	 * at the same coordinate in another array in parallel.
+	 * Both arrays are expected to have the same dimensions.
+	 * 
+	 * @param src  a source array
+	 * @param op   a binary operator
+	 * @param blk  a block split
+	 * 
+	 * 
+	 * @see Binary
+	 * @see Blocks
+	 */
+	public default void zip(FloatArray src, Binary op, Blocks blk)
+	{
+		blk.run((lo, hi) -> zip(src, op, lo, hi));
+	}
+	
+	/**
+	 * Returns the sum of the values in the {@code FloatArray}.
+	 * 
+	 * @return  a value sum
+	 */
+	public default double sum()
+	{
+		return sum(0, Layout().Count());
+	}
+	
+	/**
+	 * Returns the sum of the values in the {@code FloatArray},
+	 * computed in parallel.
+	 * 
+	 * @param blk  a block split
+	 * @return  a value sum
+	 * 
+	 * 
+	 * @see Blocks
+	 */
+	public default double sum(Blocks blk)
+	{
+		Double sum = blk.fold(this::sum, Double::sum);
+		return sum == null ? 0 : sum;
+	}
+	
+	/**
+	 * Returns the minimum value in the {@code FloatArray}.
+	 * If the array is empty, its default value is returned.
+	 * 
+	 * @return  a minimum value
+	 */
+	public default float min()
+	{
+		return min(0, Layout().Count());
+	}
+	
+	/**
+	 * Returns the minimum value in the {@code FloatArray}, computed in parallel.
+	 * If the array is empty, its default value is returned.
+	 * 
+	 * @param blk  a block split
+	 * @return  a minimum value
+	 * 
+	 * 
+	 * @see Blocks
+	 */
+	public default float min(Blocks blk)
+	{
+		Float min = blk.fold(this::min, Math::min);
+		return min == null ? Default() : min;
+	}
+	
+	/**
+	 * Returns the maximum value in the {@code FloatArray}.
+	 * If the array is empty, its default value is returned.
+	 * 
+	 * @return  a maximum value
+	 */
+	public default float max()
+	{
+		return max(0, Layout().Count());
+	}
+	
+	/**
+	 * Returns the maximum value in the {@code FloatArray}, computed in parallel.
+	 * If the array is empty, its default value is returned.
+	 * 
+	 * @param blk  a block split
+	 * @return  a maximum value
+	 * 
+	 * 
+	 * @see Blocks
+	 */
+	public default float max(Blocks blk)
+	{
+		Float max = blk.fold(this::max, Math::max);
+		return max == null ? Default() : max;
+	}
+	
+	/**
+	 * Counts the values in the {@code FloatArray} which satisfy a predicate.
+	 * 
+	 * @param p  a value predicate
+	 * @return  a value count
+	 * 
+	 * 
+	 * @see Predicate
+	 */
+	public default int count(Predicate p)
+	{
+		return count(p, 0, Layout().Count());
+	}
+	
+	/**
+	 * Counts the values in the {@code FloatArray} which
+	 * satisfy a predicate in parallel.
+	 * 
+	 * @param p    a value predicate
+	 * @param blk  a block split
+	 * @return  a value count
+	 * 
+	 * 
+	 * @see Predicate
+	 * @see Blocks
+	 */
+	public default int count(Predicate p, Blocks blk)
+	{
+		Integer n = blk.fold((lo, hi) -> count(p, lo, hi), Integer::sum);
+		return n == null ? 0 : n;
+	}
+	
+	/**
+	 * Returns the dot product of the {@code FloatArray} with another array.
+	 * Both arrays are expected to have the same dimensions.
+	 * 
+	 * @param src  a source array
+	 * @return  a dot product
+	 */
+	public default double dot(FloatArray src)
+	{
+		return dot(src, 0, Layout().Count());
+	}
+	
+	/**
+	 * Returns the dot product of the {@code FloatArray} with another array,
+	 * computed in parallel. Both arrays are expected to have the same dimensions.
+	 * 
+	 * @param src  a source array
+	 * @param blk  a block split
+	 * @return  a dot product
+	 * 
+	 * 
+	 * @see Blocks
+	 */
+	public default double dot(FloatArray src, Blocks blk)
+	{
+		Double dot = blk.fold((lo, hi) -> dot(src, lo, hi), Double::sum);
+		return dot == null ? 0 : dot;
+	}
+	
+	
+	private void fill(float val, int lo, int hi)
+	{
+		float[] arr = Array();
+		Layout lay = Layout();
+		if(lay.isDense())
+		{
+			Arrays.fill(arr, lo, hi, val);
+			return;
+		}
+		
+		for(int i = lo; i < hi; i++)
+		{
+			arr[lay.toOffset(i)] = val;
+		}
+	}
+	
+	private void map(Unary op, int lo, int hi)
+	{
+		float[] arr = Array();
+		Layout lay = Layout();
+		if(lay.isDense())
+		{
+			for(int i = lo; i < hi; i++)
+			{
+				arr[i] = op.apply(arr[i]);
+			}
+			
+			return;
+		}
+		
+		for(int i = lo; i < hi; i++)
+		{
+			int j = lay.toOffset(i);
+			arr[j] = op.apply(arr[j]);
+		}
+	}
+	
+	private void zip(FloatArray src, Binary op, int lo, int hi)
+	{
+		float[] arr = Array();
+		float[] oth = src.Array();
+		Layout lay = Layout();
+		Layout sly = src.Layout();
+		
+		Order ord = lay.Ordering();
+		if(lay.isDense() && sly.isDense() && ord == sly.Ordering())
+		{
+			for(int i = lo; i < hi; i++)
+			{
+				arr[i] = op.apply(arr[i], oth[i]);
+			}
+			
+			return;
+		}
+		
+		for(int i = lo; i < hi; i++)
+		{
+			int j = lay.toOffset(ord, i);
+			int k = sly.toOffset(ord, i);
+			arr[j] = op.apply(arr[j], oth[k]);
+		}
+	}
+	
+	private double sum(int lo, int hi)
+	{
+		double sum = 0;
+		float[] arr = Array();
+		Layout lay = Layout();
+		if(lay.isDense())
+		{
+			for(int i = lo; i < hi; i++)
+			{
+				sum += arr[i];
+			}
+			
+			return sum;
+		}
+		
+		for(int i = lo; i < hi; i++)
+		{
+			sum += arr[lay.toOffset(i)];
+		}
+		
+		return sum;
+	}
+	
+	private float min(int lo, int hi)
+	{
+		if(hi <= lo)
+		{
+			return Default();
+		}
+		
+		float[] arr = Array();
+		Layout lay = Layout();
+		float min = arr[lay.toOffset(lo)];
+		for(int i = lo + 1; i < hi; i++)
+		{
+			min = Math.min(min, arr[lay.toOffset(i)]);
+		}
+		
+		return min;
+	}
+	
+	private float max(int lo, int hi)
+	{
+		if(hi <= lo)
+		{
+			return Default();
+		}
+		
+		float[] arr = Array();
+		Layout lay = Layout();
+		float max = arr[lay.toOffset(lo)];
+		for(int i = lo + 1; i < hi; i++)
+		{
+			max = Math.max(max, arr[lay.toOffset(i)]);
+		}
+		
+		return max;
+	}
+	
+	private int count(Predicate p, int lo, int hi)
+	{
+		int n = 0;
+		float[] arr = Array();
+		Layout lay = Layout();
+		for(int i = lo; i < hi; i++)
+		{
+			if(p.test(arr[lay.toOffset(i)]))
+			{
+				n++;
+			}
+		}
+		
+		return n;
+	}
+	
+	private double dot(FloatArray src, int lo, int hi)
+	{
+		double dot = 0;
+		float[] arr = Array();
+		float[] oth = src.Array();
+		Layout lay = Layout();
+		Layout sly = src.Layout();
+		
+		Order ord = lay.Ordering();
+		if(lay.isDense() && sly.isDense() && ord == sly.Ordering())
+		{
+			for(int i = lo; i < hi; i++)
+			{
+				dot += (double) arr[i] * oth[i];
+			}
+			
+			return dot;
+		}
+		
+		for(int i = lo; i < hi; i++)
+		{
+			int j = lay.toOffset(ord, i);
+			int k = sly.toOffset(ord, i);
+			dot += (double) arr[j] * oth[k];
+		}
+		
+		return dot;
+	}
+	
+	
+	private float swap(float val, int index)
+	{
+		float prev = Array()[index];
+		Array()[index] = val;
+		return prev;
+	}
+	
+	
 	@Override
 	public default Float get(int... crds)
 	{
-		return Array()[toIndex(Ordering(), crds)];
+		return getFloat(crds);
+	}
+	
+	@Override
+	public default Float get(int r, int c, int a)
+	{
+		return getFloat(r, c, a);
+	}
+	
+	@Override
+	public default Float get(int r, int c)
+	{
+		return getFloat(r, c);
+	}
+	
+	@Override
+	public default Float get(int i)
+	{
+		return getFloat(i);
 	}
 	
 	@Override
 	public default Float put(Float val, int... crds)
 	{
-		int index = toIndex(Ordering(), crds);
-		Float prev = Array()[index];
-		Array()[index] = val;
-		return prev;
+		if(val == null)
+		{
+			return removeFloat(crds);
+		}
+		
+		return putFloat(val, crds);
+	}
+	
+	@Override
+	public default Float put(Float val, int r, int c, int a)
+	{
+		if(val == null)
+		{
+			return removeFloat(r, c, a);
+		}
+		
+		return putFloat(val, r, c, a);
+	}
+	
+	@Override
+	public default Float put(Float val, int r, int c)
+	{
+		if(val == null)
+		{
+			return removeFloat(r, c);
+		}
+		
+		return putFloat(val, r, c);
+	}
+	
+	@Override
+	public default Float put(Float val, int i)
+	{
+		if(val == null)
+		{
+			return putFloat(Default(), i);
+		}
+		
+		return putFloat(val, i);
 	}
 	
 	@Override
 	public default Float remove(int... crds)
 	{
-		return put(null, crds);
+		return removeFloat(crds);
+	}
+	
+	@Override
+	public default Float remove(int r, int c, int a)
+	{
+		return removeFloat(r, c, a);
+	}
+	
+	@Override
+	public default Float remove(int r, int c)
+	{
+		return removeFloat(r, c);
 	}
 	
 	@Override
@@ -1,10 +1,23 @@
 package waffles.utils.sets.indexed.array.like;
 
+import java.util.Arrays;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+import waffles.utils.sets.indexed.MutableIndex.Order;
 import waffles.utils.sets.indexed.array.ArrayLike;
+import waffles.utils.sets.indexed.array.Blocks;
+import waffles.utils.sets.indexed.array.Layout;
+import waffles.utils.sets.indexed.array.Spans;
+import waffles.utils.sets.utilities.indexed.iterators.IndexCursor;
 import waffles.utils.tools.patterns.properties.values.Copyable;
 
 /**
  * A {@code LongArray} manages a primitive long array as an {@code ArrayLike}.
+ * Next to the boxed {@code MutableIndex} methods, it provides primitive
+ * accessors which operate on its array directly. Removing a value
+ * from the array resets it to the {@link #Default()} value.
  *
  * @author Waffles
  * @since 11 Nov 2023
@@ -16,25 +29,677 @@ import waffles.utils.tools.patterns.properties.values.Copyable;
  */
 public interface LongArray extends ArrayLike<long[], Long>, Copyable<LongArray>
 {
+	/**
+	 * Returns the default value of the {@code LongArray}.
+	 * This value is written into the array
+	 * whenever a value is removed.
+	 * 
+	 * @return  a default value
+	 */
+	public default long Default()
+	{
+		return 0L;
+	}
+	
+	
+	/**
+	 * Returns a primitive value from the {@code LongArray}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  an index value
+	 */
+	public default long getLong(int... crds)
+	{
+		return Array()[toIndex(Ordering(), crds)];
+	}
+	
+	/**
+	 * Returns a three-dimensional primitive value from the {@code LongArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  an index value
+	 */
+	public default long getLong(int r, int c, int a)
+	{
+		return Array()[toIndex(Ordering(), r, c, a)];
+	}
+	
+	/**
+	 * Returns a two-dimensional primitive value from the {@code LongArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  an index value
+	 */
+	public default long getLong(int r, int c)
+	{
+		return Array()[toIndex(Ordering(), r, c)];
+	}
+	
+	/**
+	 * Returns a one-dimensional primitive value from the {@code LongArray}.
+	 * 
+	 * @param i  an index coordinate
+	 * @return  an index value
+	 */
+	public default long getLong(int i)
+	{
+		return Array()[toIndex(Ordering(), i)];
+	}
+	
+	
+	/**
+	 * Changes a primitive value in the {@code LongArray}.
+	 * 
+	 * @param val   an index value
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public default long putLong(long val, int... crds)
+	{
+		return swap(val, toIndex(Ordering(), crds));
+	}
+	
+	/**
+	 * Changes a three-dimensional primitive value in the {@code LongArray}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @param a    an index aisle
+	 * @return  a previous index value
+	 */
+	public default long putLong(long val, int r, int c, int a)
+	{
+		return swap(val, toIndex(Ordering(), r, c, a));
+	}
+	
+	/**
+	 * Changes a two-dimensional primitive value in the {@code LongArray}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @return  a previous index value
+	 */
+	public default long putLong(long val, int r, int c)
+	{
+		return swap(val, toIndex(Ordering(), r, c));
+	}
+	
+	/**
+	 * Changes a one-dimensional primitive value in the {@code LongArray}.
+	 * 
+	 * @param val  an index value
+	 * @param i    an index coordinate
+	 * @return  a previous index value
+	 */
+	public default long putLong(long val, int i)
+	{
+		return swap(val, toIndex(Ordering(), i));
+	}
+	
+	
+	/**
+	 * Removes a primitive value from the {@code LongArray}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public default long removeLong(int... crds)
+	{
+		return putLong(Default(), crds);
+	}
+	
+	/**
+	 * Removes a three-dimensional primitive value from the {@code LongArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  a previous index value
+	 */
+	public default long removeLong(int r, int c, int a)
+	{
+		return putLong(Default(), r, c, a);
+	}
+	
+	/**
+	 * Removes a two-dimensional primitive value from the {@code LongArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  a previous index value
+	 */
+	public default long removeLong(int r, int c)
+	{
+		return putLong(Default(), r, c);
+	}
+	
+	
+	/**
+	 * Changes every value in the {@code LongArray}.
+	 * 
+	 * @param val  a fill value
+	 */
+	public default void fill(long val)
+	{
+		fill(val, 0, Layout().Count());
+	}
+	
+	/**
+	 * Changes every value in the {@code LongArray} in parallel.
+	 * 
+	 * @param val  a fill value
+	 * @param blk  a block split
+	 * 
+	 * 
+	 * @see Blocks
+	 */
+	public default void fill(long val, Blocks blk)
+	{
+		blk.run((lo, hi) -> fill(val, lo, hi));
+	}
+	
+	/**
+	 * Changes every value in a region of the {@code LongArray}.
+	 * Unless the array is curved, the region is
+	 * filled one contiguous span at a time.
+	 * 
+	 * @param val  a fill value
+	 * @param min  a minimum coordinate
+	 * @param max  a maximum coordinate
+	 */
+	public default void fill(long val, int[] min, int[] max)
+	{
+		Spans spans = Layout().spans(min, max);
+		if(spans == null)
+		{
+			IndexCursor<Long> crs = new IndexCursor<>(this, Ordering(), min, max);
+			while(crs.next())
+			{
+				putLong(val, crs.Coordinates());
+			}
+			
+			return;
+		}
+		
+		long[] arr = Array();
+		while(spans.next())
+		{
+			int off = spans.Offset();
+			Arrays.fill(arr, off, off + spans.Length(), val);
+		}
+	}
+	
+	/**
+	 * Changes every value in the {@code LongArray}
+	 * to the result of an operator.
+	 * 
+	 * @param op  a unary operator
+	 * 
+	 * 
+	 * @see LongUnaryOperator
+	 */
+	public default void map(LongUnaryOperator op)
+	{
+		map(op, 0, Layout().Count());
+	}
+	
+	/**
+	 * Changes every value in the {@code LongArray}
+	 * to the result of an operator in parallel.
+	 * 
+	 * @param op   a unary operator
+	 * @param blk  a block split
+	 * 
+	 * 
+	 * @see LongUnaryOperator
+	 * @see Blocks
+	 */
+	public default void map(LongUnaryOperator op, Blocks blk)
+	{
+		blk.run((lo, hi) -> map(op, lo, hi));
+	}
+	
+	/**
+	 * Combines every value in the {@code LongArray} with
+	 * the value at the same coordinate in another array.
+	 * Both arrays are expected to have the same dimensions.
+	 * 
+	 * @param src  a source array
+	 * @param op   a binary operator
+	 * 
+	 * 
+	 * @see LongBinaryOperator
+	 */
+	public default void zip(LongArray src, LongBinaryOperator op)
+	{
+		zip(src, op, 0, Layout().Count());
+	}
+	
+	/**
+	 * Combines every value in the {@code LongArray} with the value
+	 * at the same coordinate in another array in parallel.
+	 * Both arrays are expected to have the same dimensions.
+	 * 
+	 * @param src  a source array
+	 * @param op   a binary operator
+	 * @param blk  a block split
+	 * 
+	 * 
+	 * @see LongBinaryOperator
+	 * @see Blocks
+	 */
+	public default void zip(LongArray src, LongBinaryOperator op, Blocks blk)
+	{
+		blk.run((lo, hi) -> zip(src, op, lo, hi));
+	}
+	
+	/**
+	 * Returns the sum of the values in the {@code LongArray}.
+	 * 
+	 * @return  a value sum
+	 */
+	public default long sum()
+	{
+		return sum(0, Layout().Count());
+	}
+	
+	/**
+	 * Returns the sum of the values in the {@code LongArray},
+	 * computed in parallel.
+	 * 
+	 * @param blk  a block split
+	 * @return  a value sum
+	 * 
+	 * 
+	 * @see Blocks
+	 */
+	public default long sum(Blocks blk)
+	{
+		Long sum = blk.fold(this::sum, Long::sum);
+		return sum == null ? 0 : sum;
+	}
+	
+	/**
+	 * Returns the minimum value in the {@code LongArray}.
+	 * If the array is empty, its default value is returned.
+	 * 
+	 * @return  a minimum value
+	 */
+	public default long min()
+	{
+		return min(0, Layout().Count());
+	}
+	
+	/**
+	 * Returns the minimum value in the {@code LongArray}, computed in parallel.
+	 * If the array is empty, its default value is returned.
+	 * 
+	 * @param blk  a block split
+	 * @return  a minimum value
+	 * 
+	 * 
+	 * @see Blocks
+	 */
+	public default long min(Blocks blk)
+	{
+		Long min = blk.fold(this::min, Math::min);
+		return min == null ? Default() : min;
+	}
+	
+	/**
+	 * Returns the maximum value in the {@code LongArray}.
+	 * If the array is empty, its default value is returned.
+	 * 
+	 * @return  a maximum value
+	 */
+	public default long max()
+	{
+		return max(0, Layout().Count());
+	}
+	
+	/**
+	 * Returns the maximum value in the {@code LongArray}, computed in parallel.
+	 * If the array is empty, its default value is returned.
+	 * 
+	 * @param blk  a block split
+	 * @return  a maximum value
+	 * 
+	 * 
+	 * @see Blocks
+	 */
+	public default long max(Blocks blk)
+	{
+		Long max = blk.fold(this::max, Math::max);
+		return max == null ? Default() : max;
+	}
+	
+	/**
+	 * Counts the values in the {@code LongArray} which satisfy a predicate.
+	 * 
+	 * @param p  a value predicate
+	 * @return  a value count
+	 * 
+	 * 
+	 * @see LongPredicate
+	 */
+	public default int count(LongPredicate p)
+	{
+		return count(p, 0, Layout().Count());
+	}
+	
+	/**
+	 * Counts the values in the {@code LongArray} which
+	 * satisfy a predicate in parallel.
+	 * 
+	 * @param p    a value predicate
+	 * @param blk  a block split
+	 * @return  a value count
+	 * 
+	 * 
+	 * @see LongPredicate
+	 * @see Blocks
+	 */
+	public default int count(LongPredicate p, Blocks blk)
+	{
+		Integer n = blk.fold((lo, hi) -> count(p, lo, hi), Integer::sum);
+		return n == null ? 0 : n;
+	}
+	
+	/**
+	 * Returns the dot product of the {@code LongArray} with another array.
+	 * Both arrays are expected to have the same dimensions.
+	 * 
+	 * @param src  a source array
+	 * @return  a dot product
+	 */
+	public default long dot(LongArray src)
+	{
+		return dot(src, 0, Layout().Count());
+	}
+	
+	/**
+	 * Returns the dot product of the {@code LongArray} with another array,
+	 * computed in parallel. Both arrays are expected to have the same dimensions.
+	 * 
+	 * @param src  a source array
+	 * @param blk  a block split
+	 * @return  a dot product
+	 * 
+	 * 
+	 * @see Blocks
+	 */
+	public default long dot(LongArray src, Blocks blk)
+	{
+		Long dot = blk.fold((lo, hi) -> dot(src, lo, hi), Long::sum);
+		return dot == null ? 0 : dot;
+	}
+	
+	
+	private void fill(long val, int lo, int hi)
+	{
+		long[] arr = Array();
+		Layout lay = Layout();
+		if(lay.isDense())
+		{
+			Arrays.fill(arr, lo, hi, val);
+			return;
+		}
+		
+		for(int i = lo; i < hi; i++)
+		{
+			arr[lay.toOffset(i)] = val;
+		}
+	}
+	
+	private void map(LongUnaryOperator op, int lo, int hi)
+	{
+		long[] arr = Array();
+		Layout lay = Layout();
+		if(lay.isDense())
+		{
+			for(int i = lo; i < hi; i++)
+			{
+				arr[i] = op.applyAsLong(arr[i]);
+			}
+			
+			return;
+		}
+		
+		for(int i = lo; i < hi; i++)
+		{
+			int j = lay.toOffset(i);
+			arr[j] = op.applyAsLong(arr[j]);
+		}
+	}
+	
+	private void zip(LongArray src, LongBinaryOperator op, int lo, int hi)
+	{
+		long[] arr = Array();
+		long[] oth = src.Array();
+		Layout lay = Layout();
+		Layout sly = src.Layout();
+		
+		Order ord = lay.Ordering();
+		if(lay.isDense() && sly.isDense() && ord == sly.Ordering())
+		{
+			for(int i = lo; i < hi; i++)
+			{
+				arr[i] = op.applyAsLong(arr[i], oth[i]);
+			}
+			
+			return;
+		}
+		
+		for(int i = lo; i < hi; i++)
+		{
+			int j = lay.toOffset(ord, i);
+			int k = sly.toOffset(ord, i);
+			arr[j] = op.applyAsLong(arr[j], oth[k]);
+		}
+	}
+	
+	private long sum(int lo, int hi)
+	{
+		long sum = 0;
+		long[] arr = Array();
+		Layout lay = Layout();
+		if(lay.isDense())
+		{
+			for(int i = lo; i < hi; i++)
+			{
+				sum += arr[i];
+			}
+			
+			return sum;
+		}
+		
+		for(int i = lo; i < hi; i++)
+		{
+			sum += arr[lay.toOffset(i)];
+		}
+		
+		return sum;
+	}
+	
+	private long min(int lo, int hi)
+	{
+		if(hi <= lo)
+		{
+			return Default();
+		}
+		
+		long[] arr = Array();
+		Layout lay = Layout();
+		long min = arr[lay.toOffset(lo)];
+		for(int i = lo + 1; i < hi; i++)
+		{
+			min = Math.min(min, arr[lay.toOffset(i)]);
+		}
+		
+		return min;
+	}
+	
+	private long max(int lo, int hi)
+	{
+		if(hi <= lo)
+		{
+			return Default();
+		}
+		
+		long[] arr = Array();
+		Layout lay = Layout();
+		long max = arr[lay.toOffset(lo)];
+		for(int i = lo + 1; i < hi; i++)
+		{
+			max = Math.max(max, arr[lay.toOffset(i)]);
+		}
+		
+		return max;
+	}
+	
+	private int count(LongPredicate p, int lo, int hi)
+	{
+		int n = 0;
+		long[] arr = Array();
+		Layout lay = Layout();
+		for(int i = lo; i < hi; i++)
+		{
+			if(p.test(arr[lay.toOffset(i)]))
+			{
+				n++;
+			}
+		}
+		
+		return n;
+	}
+	
+	private long dot(LongArray src, int lo, int hi)
+	{
+		long dot = 0;
+		long[] arr = Array();
+		long[] oth = src.Array();
+		Layout lay = Layout();
+		Layout sly = src.Layout();
+		
+		Order ord = lay.Ordering();
+		if(lay.isDense() && sly.isDense() && ord == sly.Ordering())
+		{
+			for(int i = lo; i < hi; i++)
+			{
+				dot += arr[i] * oth[i];
+			}
+			
+			return dot;
+		}
+		
+		for(int i = lo; i < hi; i++)
+		{
+			int j = lay.toOffset(ord, i);
+			int k = sly.toOffset(ord, i);
+			dot += arr[j] * oth[k];
+		}
+		
+		return dot;
+	}
+	
+	
+	private long swap(long val, int index)
+	{
+		long prev = Array()[index];
+		Array()[index] = val;
+		return prev;
+	}
+	
+	
 	@Override
 	public default Long get(int... crds)
 	{
-		return Array()[toIndex(Ordering(), crds)];
+		return getLong(crds);
+	}
+	
+	@Override
+	public default Long get(int r, int c, int a)
+	{
+		return getLong(r, c, a);
+	}
+	
+	@Override
+	public default Long get(int r, int c)
+	{
+		return getLong(r, c);
+	}
+	
+	@Override
+	public default Long get(int i)
+	{
+		return getLong(i);
 	}
 	
 	@Override
 	public default Long put(Long val, int... crds)
 	{
-		int index = toIndex(Ordering(), crds);
-		Long prev = Array()[index];
-		Array()[index] = val;
-		return prev;
+		if(val == null)
+		{
+			return removeLong(crds);
+		}
+		
+		return putLong(val, crds);
+	}
+	
+	@Override
+	public default Long put(Long val, int r, int c, int a)
+	{
+		if(val == null)
+		{
+			return removeLong(r, c, a);
+		}
+		
+		return putLong(val, r, c, a);
+	}
+	
+	@Override
+	public default Long put(Long val, int r, int c)
+	{
+		if(val == null)
+		{
+			return removeLong(r, c);
+		}
+		
+		return putLong(val, r, c);
+	}
+	
+	@Override
+	public default Long put(Long val, int i)
+	{
+		if(val == null)
+		{
+			return putLong(Default(), i);
+		}
+		
+		return putLong(val, i);
 	}
 	
 	@Override
 	public default Long remove(int... crds)
 	{
-		return put(null, crds);
+		return removeLong(crds);
+	}
+	
+	@Override
+	public default Long remove(int r, int c, int a)
+	{
+		return removeLong(r, c, a);
+	}
+	
+	@Override
+	public default Long remove(int r, int c)
+	{
+		return removeLong(r, c);
 	}
 	
 	@Override
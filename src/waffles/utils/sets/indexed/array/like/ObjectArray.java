@@ -1,6 +1,8 @@
 package waffles.utils.sets.indexed.array.like;
 
 import waffles.utils.sets.indexed.array.ArrayLike;
+import waffles.utils.sets.utilities.indexed.iterators.IndexValues;
+import waffles.utils.sets.utilities.indexed.iterators.arrays.ObjectValues;
 
 /**
  * An {@code ObjectArray} manages an object array as an {@code ArrayLike}.
@@ -16,19 +18,80 @@ import waffles.utils.sets.indexed.array.ArrayLike;
 @FunctionalInterface
 public interface ObjectArray<O> extends ArrayLike<Object[], O>
 {
+	/**
+	 * Iterates over the values of the {@code ObjectArray} in a region.
+	 * Unless the array is curved, its data array
+	 * is scanned directly, row by row.
+	 * 
+	 * @param min  a minimum coordinate
+	 * @param max  a maximum coordinate
+	 * @return  a value iterable
+	 * 
+	 * 
+	 * @see Iterable
+	 */
+	public default Iterable<O> Values(int[] min, int[] max)
+	{
+		if(Layout().isCurved())
+		{
+			return () -> new IndexValues<>(this, Ordering(), min, max);
+		}
+		
+		return () -> new ObjectValues<>(this, null, min, max);
+	}
+	
+	@Override
+	public default Iterable<O> Values()
+	{
+		return Values(Minimum(), Maximum());
+	}
+	
 	@Override
 	public default O get(int... crds)
 	{
 		return (O) Array()[toIndex(Ordering(), crds)];
 	}
 	
+	@Override
+	public default O get(int r, int c, int a)
+	{
+		return (O) Array()[toIndex(Ordering(), r, c, a)];
+	}
+	
+	@Override
+	public default O get(int r, int c)
+	{
+		return (O) Array()[toIndex(Ordering(), r, c)];
+	}
+	
+	@Override
+	public default O get(int i)
+	{
+		return (O) Array()[toIndex(Ordering(), i)];
+	}
+	
 	@Override
 	public default O put(O val, int... crds)
 	{
-		int index = toIndex(Ordering(), crds);
-		O prev = (O) Array()[index];
-		Array()[index] = val;
-		return prev;
+		return swap(val, toIndex(Ordering(), crds));
+	}
+	
+	@Override
+	public default O put(O val, int r, int c, int a)
+	{
+		return swap(val, toIndex(Ordering(), r, c, a));
+	}
+	
+	@Override
+	public default O put(O val, int r, int c)
+	{
+		return swap(val, toIndex(Ordering(), r, c));
+	}
+	
+	@Override
+	public default O put(O val, int i)
+	{
+		return swap(val, toIndex(Ordering(), i));
 	}
 	
 	@Override
@@ -36,4 +99,24 @@ public interface ObjectArray<O> extends ArrayLike<Object[], O>
 	{
 		return put(null, crds);
 	}
+	
+	@Override
+	public default O remove(int r, int c, int a)
+	{
+		return put(null, r, c, a);
+	}
+	
+	@Override
+	public default O remove(int r, int c)
+	{
+		return put(null, r, c);
+	}
+	
+	
+	private O swap(O val, int index)
+	{
+		O prev = (O) Array()[index];
+		Array()[index] = val;
+		return prev;
+	}
 }
\ No newline at end of file
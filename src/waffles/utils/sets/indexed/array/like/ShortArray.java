@@ -5,6 +5,9 @@ import waffles.utils.tools.patterns.properties.values.Copyable;
 
 /**
  * A {@code ShortArray} manages a primitive short array as an {@code ArrayLike}.
+ * Next to the boxed {@code MutableIndex} methods, it provides primitive
+ * accessors which operate on its array directly. Removing a value
+ * from the array resets it to the {@link #Default()} value.
  *
  * @author Waffles
  * @since 11 Nov 2023
@@ -16,25 +19,248 @@ import waffles.utils.tools.patterns.properties.values.Copyable;
  */
 public interface ShortArray extends ArrayLike<short[], Short>, Copyable<ShortArray>
 {
+	/**
+	 * Returns the default value of the {@code ShortArray}.
+	 * This value is written into the array
+	 * whenever a value is removed.
+	 * 
+	 * @return  a default value
+	 */
+	public default short Default()
+	{
+		return (short) 0;
+	}
+	
+	
+	/**
+	 * Returns a primitive value from the {@code ShortArray}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  an index value
+	 */
+	public default short getShort(int... crds)
+	{
+		return Array()[toIndex(Ordering(), crds)];
+	}
+	
+	/**
+	 * Returns a three-dimensional primitive value from the {@code ShortArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  an index value
+	 */
+	public default short getShort(int r, int c, int a)
+	{
+		return Array()[toIndex(Ordering(), r, c, a)];
+	}
+	
+	/**
+	 * Returns a two-dimensional primitive value from the {@code ShortArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  an index value
+	 */
+	public default short getShort(int r, int c)
+	{
+		return Array()[toIndex(Ordering(), r, c)];
+	}
+	
+	/**
+	 * Returns a one-dimensional primitive value from the {@code ShortArray}.
+	 * 
+	 * @param i  an index coordinate
+	 * @return  an index value
+	 */
+	public default short getShort(int i)
+	{
+		return Array()[toIndex(Ordering(), i)];
+	}
+	
+	
+	/**
+	 * Changes a primitive value in the {@code ShortArray}.
+	 * 
+	 * @param val   an index value
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public default short putShort(short val, int... crds)
+	{
+		return swap(val, toIndex(Ordering(), crds));
+	}
+	
+	/**
+	 * Changes a three-dimensional primitive value in the {@code ShortArray}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @param a    an index aisle
+	 * @return  a previous index value
+	 */
+	public default short putShort(short val, int r, int c, int a)
+	{
+		return swap(val, toIndex(Ordering(), r, c, a));
+	}
+	
+	/**
+	 * Changes a two-dimensional primitive value in the {@code ShortArray}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @return  a previous index value
+	 */
+	public default short putShort(short val, int r, int c)
+	{
+		return swap(val, toIndex(Ordering(), r, c));
+	}
+	
+	/**
+	 * Changes a one-dimensional primitive value in the {@code ShortArray}.
+	 * 
+	 * @param val  an index value
+	 * @param i    an index coordinate
+	 * @return  a previous index value
+	 */
+	public default short putShort(short val, int i)
+	{
+		return swap(val, toIndex(Ordering(), i));
+	}
+	
+	
+	/**
+	 * Removes a primitive value from the {@code ShortArray}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public default short removeShort(int... crds)
+	{
+		return putShort(Default(), crds);
+	}
+	
+	/**
+	 * Removes a three-dimensional primitive value from the {@code ShortArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  a previous index value
+	 */
+	public default short removeShort(int r, int c, int a)
+	{
+		return putShort(Default(), r, c, a);
+	}
+	
+	/**
+	 * Removes a two-dimensional primitive value from the {@code ShortArray}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  a previous index value
+	 */
+	public default short removeShort(int r, int c)
+	{
+		return putShort(Default(), r, c);
+	}
+	
+	
+	private short swap(short val, int index)
+	{
+		short prev = Array()[index];
+		Array()[index] = val;
+		return prev;
+	}
+	
+	
 	@Override
 	public default Short get(int... crds)
 	{
-		return Array()[toIndex(Ordering(), crds)];
+		return getShort(crds);
+	}
+	
+	@Override
+	public default Short get(int r, int c, int a)
+	{
+		return getShort(r, c, a);
+	}
+	
+	@Override
+	public default Short get(int r, int c)
+	{
+		return getShort(r, c);
+	}
+	
+	@Override
+	public default Short get(int i)
+	{
+		return getShort(i);
 	}
 	
 	@Override
 	public default Short put(Short val, int... crds)
 	{
-		int index = toIndex(Ordering(), crds);
-		Short prev = Array()[index];
-		Array()[index] = val;
-		return prev;
+		if(val == null)
+		{
+			return removeShort(crds);
+		}
+		
+		return putShort(val, crds);
+	}
+	
+	@Override
+	public default Short put(Short val, int r, int c, int a)
+	{
+		if(val == null)
+		{
+			return removeShort(r, c, a);
+		}
+		
+		return putShort(val, r, c, a);
+	}
+	
+	@Override
+	public default Short put(Short val, int r, int c)
+	{
+		if(val == null)
+		{
+			return removeShort(r, c);
+		}
+		
+		return putShort(val, r, c);
+	}
+	
+	@Override
+	public default Short put(Short val, int i)
+	{
+		if(val == null)
+		{
+			return putShort(Default(), i);
+		}
+		
+		return putShort(val, i);
 	}
 	
 	@Override
 	public default Short remove(int... crds)
 	{
-		return put(null, crds);
+		return removeShort(crds);
+	}
+	
+	@Override
+	public default Short remove(int r, int c, int a)
+	{
+		return removeShort(r, c, a);
+	}
+	
+	@Override
+	public default Short remove(int r, int c)
+	{
+		return removeShort(r, c);
 	}
 	
 	@Override
@@ -0,0 +1,338 @@
+package waffles.utils.sets.indexed.array.list;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import waffles.utils.sets.indexed.AtomicIndex;
+import waffles.utils.sets.indexed.array.set.BooleanSet;
+import waffles.utils.sets.utilities.indexed.iterators.arrays.ArrayValues;
+
+/**
+ * A {@code BooleanList} defines a growable list of primitive boolean values.
+ * Its values are kept unboxed in a backing array, which is exposed through {@link #Array()}.
+ * The backing array grows by half its length whenever it runs out of space,
+ * so adding values takes amortized constant time. Only the first {@link #Count()}
+ * values of the array belong to the list.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see AtomicIndex
+ * @see BooleanSet
+ */
+public class BooleanList implements BooleanSet, AtomicIndex<Boolean>
+{
+	/**
+	 * Creates a new {@code BooleanList} holding a set of values.
+	 * Unlike the capacity constructor, a single
+	 * value is added to the list as an element.
+	 * 
+	 * @param vals  a set of initial values
+	 * @return  a new list
+	 */
+	public static BooleanList of(boolean... vals)
+	{
+		BooleanList list = new BooleanList(vals.length);
+		System.arraycopy(vals, 0, list.data, 0, vals.length);
+		list.size = vals.length;
+		return list;
+	}
+	
+	
+	private boolean[] data;
+	private int size;
+	
+	/**
+	 * Creates a new {@code BooleanList}.
+	 * 
+	 * @param cap  an initial capacity
+	 */
+	public BooleanList(int cap)
+	{
+		data = new boolean[cap];
+	}
+	
+	/**
+	 * Creates a new {@code BooleanList}.
+	 */
+	public BooleanList()
+	{
+		this(10);
+	}
+	
+	
+	/**
+	 * Adds a value to the end of the {@code BooleanList}.
+	 * 
+	 * @param val  a list value
+	 */
+	public void addBoolean(boolean val)
+	{
+		ensureCapacity(size + 1);
+		data[size++] = val;
+	}
+	
+	/**
+	 * Adds a set of values to the end of the {@code BooleanList}.
+	 * 
+	 * @param vals  a set of list values
+	 */
+	public void addAll(boolean... vals)
+	{
+		insert(size, vals);
+	}
+	
+	/**
+	 * Adds the values of another list to the end of the {@code BooleanList}.
+	 * 
+	 * @param list  a source list
+	 */
+	public void addAll(BooleanList list)
+	{
+		ensureCapacity(size + list.size);
+		System.arraycopy(list.data, 0, data, size, list.size);
+		size += list.size;
+	}
+	
+	/**
+	 * Inserts a set of values into the {@code BooleanList}.
+	 * The values from the index onwards are shifted back.
+	 * Indices outside the list are ignored.
+	 * 
+	 * @param i     a list index
+	 * @param vals  a set of list values
+	 */
+	public void insert(int i, boolean... vals)
+	{
+		if(i < 0 || size < i)
+		{
+			return;
+		}
+		
+		ensureCapacity(size + vals.length);
+		System.arraycopy(data, i, data, i + vals.length, size - i);
+		System.arraycopy(vals, 0, data, i, vals.length);
+		size += vals.length;
+	}
+	
+	/**
+	 * Removes a range of values from the {@code BooleanList}.
+	 * The values after the range are shifted forward.
+	 * Ranges outside the list are ignored.
+	 * 
+	 * @param lo  a first list index
+	 * @param hi  a list index past the last
+	 */
+	public void removeRange(int lo, int hi)
+	{
+		if(lo < 0 || hi < lo || size < hi)
+		{
+			return;
+		}
+		
+		System.arraycopy(data, hi, data, lo, size - hi);
+		size -= hi - lo;
+	}
+	
+	/**
+	 * Removes a value from the {@code BooleanList}.
+	 * The values after the index are shifted forward.
+	 * 
+	 * @param i  a list index
+	 * @return  a removed value
+	 */
+	public boolean removeAt(int i)
+	{
+		boolean val = getBoolean(i);
+		removeRange(i, i + 1);
+		return val;
+	}
+	
+	/**
+	 * Ensures the {@code BooleanList} can hold a number of values without growing.
+	 * 
+	 * @param cap  a minimum capacity
+	 */
+	public void ensureCapacity(int cap)
+	{
+		if(data.length < cap)
+		{
+			int grow = data.length + (data.length >> 1) + 1;
+			data = Arrays.copyOf(data, Math.max(cap, grow));
+		}
+	}
+	
+	/**
+	 * Shrinks the backing array of the {@code BooleanList} to its value count.
+	 */
+	public void trimToSize()
+	{
+		if(size < data.length)
+		{
+			data = Arrays.copyOf(data, size);
+		}
+	}
+	
+	/**
+	 * Returns the capacity of the {@code BooleanList}.
+	 * 
+	 * @return  a list capacity
+	 */
+	public int Capacity()
+	{
+		return data.length;
+	}
+	
+	
+	@Override
+	public boolean getBoolean(int... crds)
+	{
+		if(defines(crds))
+		{
+			return data[crds[0]];
+		}
+		
+		return Default();
+	}
+	
+	@Override
+	public boolean getBoolean(int r, int c, int a)
+	{
+		return getBoolean(new int[]{r, c, a});
+	}
+	
+	@Override
+	public boolean getBoolean(int r, int c)
+	{
+		return getBoolean(new int[]{r, c});
+	}
+	
+	@Override
+	public boolean getBoolean(int i)
+	{
+		if(0 <= i && i < size)
+		{
+			return data[i];
+		}
+		
+		return Default();
+	}
+	
+	@Override
+	public boolean putBoolean(boolean val, int... crds)
+	{
+		return putBoolean(val, crds[0]);
+	}
+	
+	@Override
+	public boolean putBoolean(boolean val, int r, int c, int a)
+	{
+		return putBoolean(val, new int[]{r, c, a});
+	}
+	
+	@Override
+	public boolean putBoolean(boolean val, int r, int c)
+	{
+		return putBoolean(val, new int[]{r, c});
+	}
+	
+	@Override
+	public boolean putBoolean(boolean val, int i)
+	{
+		// Pad the list up to the index.
+		if(size <= i)
+		{
+			ensureCapacity(i + 1);
+			Arrays.fill(data, size, i + 1, Default());
+			size = i + 1;
+		}
+		
+		boolean prev = data[i];
+		data[i] = val;
+		return prev;
+	}
+	
+	@Override
+	public boolean removeBoolean(int... crds)
+	{
+		if(defines(crds))
+		{
+			return removeAt(crds[0]);
+		}
+		
+		return Default();
+	}
+	
+	@Override
+	public boolean removeBoolean(int r, int c, int a)
+	{
+		return removeBoolean(new int[]{r, c, a});
+	}
+	
+	@Override
+	public boolean removeBoolean(int r, int c)
+	{
+		return removeBoolean(new int[]{r, c});
+	}
+	
+	
+	@Override
+	public int[] indexOf(Boolean val)
+	{
+		if(val == null)
+		{
+			return null;
+		}
+		
+		for(int i = 0; i < size; i++)
+		{
+			if(data[i] == val)
+			{
+				return new int[]{i};
+			}
+		}
+		
+		return null;
+	}
+	
+	@Override
+	public Iterator<Boolean> iterator()
+	{
+		return new ArrayValues<>(this);
+	}
+	
+	@Override
+	public BooleanList instance()
+	{
+		return new BooleanList();
+	}
+	
+	@Override
+	public BooleanList copy()
+	{
+		BooleanList copy = new BooleanList(size);
+		System.arraycopy(data, 0, copy.data, 0, size);
+		copy.size = size;
+		return copy;
+	}
+	
+	@Override
+	public boolean[] Array()
+	{
+		return data;
+	}
+	
+	@Override
+	public void clear()
+	{
+		size = 0;
+	}
+	
+	@Override
+	public int Count()
+	{
+		return size;
+	}
+}
\ No newline at end of file
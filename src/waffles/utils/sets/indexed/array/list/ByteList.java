@@ -0,0 +1,338 @@
+package waffles.utils.sets.indexed.array.list;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import waffles.utils.sets.indexed.AtomicIndex;
+import waffles.utils.sets.indexed.array.set.ByteSet;
+import waffles.utils.sets.utilities.indexed.iterators.arrays.ArrayValues;
+
+/**
+ * A {@code ByteList} defines a growable list of primitive byte values.
+ * Its values are kept unboxed in a backing array, which is exposed through {@link #Array()}.
+ * The backing array grows by half its length whenever it runs out of space,
+ * so adding values takes amortized constant time. Only the first {@link #Count()}
+ * values of the array belong to the list.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see AtomicIndex
+ * @see ByteSet
+ */
+public class ByteList implements ByteSet, AtomicIndex<Byte>
+{
+	/**
+	 * Creates a new {@code ByteList} holding a set of values.
+	 * Unlike the capacity constructor, a single
+	 * value is added to the list as an element.
+	 * 
+	 * @param vals  a set of initial values
+	 * @return  a new list
+	 */
+	public static ByteList of(byte... vals)
+	{
+		ByteList list = new ByteList(vals.length);
+		System.arraycopy(vals, 0, list.data, 0, vals.length);
+		list.size = vals.length;
+		return list;
+	}
+	
+	
+	private byte[] data;
+	private int size;
+	
+	/**
+	 * Creates a new {@code ByteList}.
+	 * 
+	 * @param cap  an initial capacity
+	 */
+	public ByteList(int cap)
+	{
+		data = new byte[cap];
+	}
+	
+	/**
+	 * Creates a new {@code ByteList}.
+	 */
+	public ByteList()
+	{
+		this(10);
+	}
+	
+	
+	/**
+	 * Adds a value to the end of the {@code ByteList}.
+	 * 
+	 * @param val  a list value
+	 */
+	public void addByte(byte val)
+	{
+		ensureCapacity(size + 1);
+		data[size++] = val;
+	}
+	
+	/**
+	 * Adds a set of values to the end of the {@code ByteList}.
+	 * 
+	 * @param vals  a set of list values
+	 */
+	public void addAll(byte... vals)
+	{
+		insert(size, vals);
+	}
+	
+	/**
+	 * Adds the values of another list to the end of the {@code ByteList}.
+	 * 
+	 * @param list  a source list
+	 */
+	public void addAll(ByteList list)
+	{
+		ensureCapacity(size + list.size);
+		System.arraycopy(list.data, 0, data, size, list.size);
+		size += list.size;
+	}
+	
+	/**
+	 * Inserts a set of values into the {@code ByteList}.
+	 * The values from the index onwards are shifted back.
+	 * Indices outside the list are ignored.
+	 * 
+	 * @param i     a list index
+	 * @param vals  a set of list values
+	 */
+	public void insert(int i, byte... vals)
+	{
+		if(i < 0 || size < i)
+		{
+			return;
+		}
+		
+		ensureCapacity(size + vals.length);
+		System.arraycopy(data, i, data, i + vals.length, size - i);
+		System.arraycopy(vals, 0, data, i, vals.length);
+		size += vals.length;
+	}
+	
+	/**
+	 * Removes a range of values from the {@code ByteList}.
+	 * The values after the range are shifted forward.
+	 * Ranges outside the list are ignored.
+	 * 
+	 * @param lo  a first list index
+	 * @param hi  a list index past the last
+	 */
+	public void removeRange(int lo, int hi)
+	{
+		if(lo < 0 || hi < lo || size < hi)
+		{
+			return;
+		}
+		
+		System.arraycopy(data, hi, data, lo, size - hi);
+		size -= hi - lo;
+	}
+	
+	/**
+	 * Removes a value from the {@code ByteList}.
+	 * The values after the index are shifted forward.
+	 * 
+	 * @param i  a list index
+	 * @return  a removed value
+	 */
+	public byte removeAt(int i)
+	{
+		byte val = getByte(i);
+		removeRange(i, i + 1);
+		return val;
+	}
+	
+	/**
+	 * Ensures the {@code ByteList} can hold a number of values without growing.
+	 * 
+	 * @param cap  a minimum capacity
+	 */
+	public void ensureCapacity(int cap)
+	{
+		if(data.length < cap)
+		{
+			int grow = data.length + (data.length >> 1) + 1;
+			data = Arrays.copyOf(data, Math.max(cap, grow));
+		}
+	}
+	
+	/**
+	 * Shrinks the backing array of the {@code ByteList} to its value count.
+	 */
+	public void trimToSize()
+	{
+		if(size < data.length)
+		{
+			data = Arrays.copyOf(data, size);
+		}
+	}
+	
+	/**
+	 * Returns the capacity of the {@code ByteList}.
+	 * 
+	 * @return  a list capacity
+	 */
+	public int Capacity()
+	{
+		return data.length;
+	}
+	
+	
+	@Override
+	public byte getByte(int... crds)
+	{
+		if(defines(crds))
+		{
+			return data[crds[0]];
+		}
+		
+		return Default();
+	}
+	
+	@Override
+	public byte getByte(int r, int c, int a)
+	{
+		return getByte(new int[]{r, c, a});
+	}
+	
+	@Override
+	public byte getByte(int r, int c)
+	{
+		return getByte(new int[]{r, c});
+	}
+	
+	@Override
+	public byte getByte(int i)
+	{
+		if(0 <= i && i < size)
+		{
+			return data[i];
+		}
+		
+		return Default();
+	}
+	
+	@Override
+	public byte putByte(byte val, int... crds)
+	{
+		return putByte(val, crds[0]);
+	}
+	
+	@Override
+	public byte putByte(byte val, int r, int c, int a)
+	{
+		return putByte(val, new int[]{r, c, a});
+	}
+	
+	@Override
+	public byte putByte(byte val, int r, int c)
+	{
+		return putByte(val, new int[]{r, c});
+	}
+	
+	@Override
+	public byte putByte(byte val, int i)
+	{
+		// Pad the list up to the index.
+		if(size <= i)
+		{
+			ensureCapacity(i + 1);
+			Arrays.fill(data, size, i + 1, Default());
+			size = i + 1;
+		}
+		
+		byte prev = data[i];
+		data[i] = val;
+		return prev;
+	}
+	
+	@Override
+	public byte removeByte(int... crds)
+	{
+		if(defines(crds))
+		{
+			return removeAt(crds[0]);
+		}
+		
+		return Default();
+	}
+	
+	@Override
+	public byte removeByte(int r, int c, int a)
+	{
+		return removeByte(new int[]{r, c, a});
+	}
+	
+	@Override
+	public byte removeByte(int r, int c)
+	{
+		return removeByte(new int[]{r, c});
+	}
+	
+	
+	@Override
+	public int[] indexOf(Byte val)
+	{
+		if(val == null)
+		{
+			return null;
+		}
+		
+		for(int i = 0; i < size; i++)
+		{
+			if(data[i] == val)
+			{
+				return new int[]{i};
+			}
+		}
+		
+		return null;
+	}
+	
+	@Override
+	public Iterator<Byte> iterator()
+	{
+		return new ArrayValues<>(this);
+	}
+	
+	@Override
+	public ByteList instance()
+	{
+		return new ByteList();
+	}
+	
+	@Override
+	public ByteList copy()
+	{
+		ByteList copy = new ByteList(size);
+		System.arraycopy(data, 0, copy.data, 0, size);
+		copy.size = size;
+		return copy;
+	}
+	
+	@Override
+	public byte[] Array()
+	{
+		return data;
+	}
+	
+	@Override
+	public void clear()
+	{
+		size = 0;
+	}
+	
+	@Override
+	public int Count()
+	{
+		return size;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,338 @@
+package waffles.utils.sets.indexed.array.list;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import waffles.utils.sets.indexed.AtomicIndex;
+import waffles.utils.sets.indexed.array.set.DoubleSet;
+import waffles.utils.sets.utilities.indexed.iterators.arrays.ArrayValues;
+
+/**
+ * A {@code DoubleList} defines a growable list of primitive double values.
+ * Its values are kept unboxed in a backing array, which is exposed through {@link #Array()}.
+ * The backing array grows by half its length whenever it runs out of space,
+ * so adding values takes amortized constant time. Only the first {@link #Count()}
+ * values of the array belong to the list.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see AtomicIndex
+ * @see DoubleSet
+ */
+public class DoubleList implements DoubleSet, AtomicIndex<Double>
+{
+	/**
+	 * Creates a new {@code DoubleList} holding a set of values.
+	 * Unlike the capacity constructor, a single
+	 * value is added to the list as an element.
+	 * 
+	 * @param vals  a set of initial values
+	 * @return  a new list
+	 */
+	public static DoubleList of(double... vals)
+	{
+		DoubleList list = new DoubleList(vals.length);
+		System.arraycopy(vals, 0, list.data, 0, vals.length);
+		list.size = vals.length;
+		return list;
+	}
+	
+	
+	private double[] data;
+	private int size;
+	
+	/**
+	 * Creates a new {@code DoubleList}.
+	 * 
+	 * @param cap  an initial capacity
+	 */
+	public DoubleList(int cap)
+	{
+		data = new double[cap];
+	}
+	
+	/**
+	 * Creates a new {@code DoubleList}.
+	 */
+	public DoubleList()
+	{
+		this(10);
+	}
+	
+	
+	/**
+	 * Adds a value to the end of the {@code DoubleList}.
+	 * 
+	 * @param val  a list value
+	 */
+	public void addDouble(double val)
+	{
+		ensureCapacity(size + 1);
+		data[size++] = val;
+	}
+	
+	/**
+	 * Adds a set of values to the end of the {@code DoubleList}.
+	 * 
+	 * @param vals  a set of list values
+	 */
+	public void addAll(double... vals)
+	{
+		insert(size, vals);
+	}
+	
+	/**
+	 * Adds the values of another list to the end of the {@code DoubleList}.
+	 * 
+	 * @param list  a source list
+	 */
+	public void addAll(DoubleList list)
+	{
+		ensureCapacity(size + list.size);
+		System.arraycopy(list.data, 0, data, size, list.size);
+		size += list.size;
+	}
+	
+	/**
+	 * Inserts a set of values into the {@code DoubleList}.
+	 * The values from the index onwards are shifted back.
+	 * Indices outside the list are ignored.
+	 * 
+	 * @param i     a list index
+	 * @param vals  a set of list values
+	 */
+	public void insert(int i, double... vals)
+	{
+		if(i < 0 || size < i)
+		{
+			return;
+		}
+		
+		ensureCapacity(size + vals.length);
+		System.arraycopy(data, i, data, i + vals.length, size - i);
+		System.arraycopy(vals, 0, data, i, vals.length);
+		size += vals.length;
+	}
+	
+	/**
+	 * Removes a range of values from the {@code DoubleList}.
+	 * The values after the range are shifted forward.
+	 * Ranges outside the list are ignored.
+	 * 
+	 * @param lo  a first list index
+	 * @param hi  a list index past the last
+	 */
+	public void removeRange(int lo, int hi)
+	{
+		if(lo < 0 || hi < lo || size < hi)
+		{
+			return;
+		}
+		
+		System.arraycopy(data, hi, data, lo, size - hi);
+		size -= hi - lo;
+	}
+	
+	/**
+	 * Removes a value from the {@code DoubleList}.
+	 * The values after the index are shifted forward.
+	 * 
+	 * @param i  a list index
+	 * @return  a removed value
+	 */
+	public double removeAt(int i)
+	{
+		double val = getDouble(i);
+		removeRange(i, i + 1);
+		return val;
+	}
+	
+	/**
+	 * Ensures the {@code DoubleList} can hold a number of values without growing.
+	 * 
+	 * @param cap  a minimum capacity
+	 */
+	public void ensureCapacity(int cap)
+	{
+		if(data.length < cap)
+		{
+			int grow = data.length + (data.length >> 1) + 1;
+			data = Arrays.copyOf(data, Math.max(cap, grow));
+		}
+	}
+	
+	/**
+	 * Shrinks the backing array of the {@code DoubleList} to its value count.
+	 */
+	public void trimToSize()
+	{
+		if(size < data.length)
+		{
+			data = Arrays.copyOf(data, size);
+		}
+	}
+	
+	/**
+	 * Returns the capacity of the {@code DoubleList}.
+	 * 
+	 * @return  a list capacity
+	 */
+	public int Capacity()
+	{
+		return data.length;
+	}
+	
+	
+	@Override
+	public double getDouble(int... crds)
+	{
+		if(defines(crds))
+		{
+			return data[crds[0]];
+		}
+		
+		return Default();
+	}
+	
+	@Override
+	public double getDouble(int r, int c, int a)
+	{
+		return getDouble(new int[]{r, c, a});
+	}
+	
+	@Override
+	public double getDouble(int r, int c)
+	{
+		return getDouble(new int[]{r, c});
+	}
+	
+	@Override
+	public double getDouble(int i)
+	{
+		if(0 <= i && i < size)
+		{
+			return data[i];
+		}
+		
+		return Default();
+	}
+	
+	@Override
+	public double putDouble(double val, int... crds)
+	{
+		return putDouble(val, crds[0]);
+	}
+	
+	@Override
+	public double putDouble(double val, int r, int c, int a)
+	{
+		return putDouble(val, new int[]{r, c, a});
+	}
+	
+	@Override
+	public double putDouble(double val, int r, int c)
+	{
+		return putDouble(val, new int[]{r, c});
+	}
+	
+	@Override
+	public double putDouble(double val, int i)
+	{
+		// Pad the list up to the index.
+		if(size <= i)
+		{
+			ensureCapacity(i + 1);
+			Arrays.fill(data, size, i + 1, Default());
+			size = i + 1;
+		}
+		
+		double prev = data[i];
+		data[i] = val;
+		return prev;
+	}
+	
+	@Override
+	public double removeDouble(int... crds)
+	{
+		if(defines(crds))
+		{
+			return removeAt(crds[0]);
+		}
+		
+		return Default();
+	}
+	
+	@Override
+	public double removeDouble(int r, int c, int a)
+	{
+		return removeDouble(new int[]{r, c, a});
+	}
+	
+	@Override
+	public double removeDouble(int r, int c)
+	{
+		return removeDouble(new int[]{r, c});
+	}
+	
+	
+	@Override
+	public int[] indexOf(Double val)
+	{
+		if(val == null)
+		{
+			return null;
+		}
+		
+		for(int i = 0; i < size; i++)
+		{
+			if(data[i] == val)
+			{
+				return new int[]{i};
+			}
+		}
+		
+		return null;
+	}
+	
+	@Override
+	public Iterator<Double> iterator()
+	{
+		return new ArrayValues<>(this);
+	}
+	
+	@Override
+	public DoubleList instance()
+	{
+		return new DoubleList();
+	}
+	
+	@Override
+	public DoubleList copy()
+	{
+		DoubleList copy = new DoubleList(size);
+		System.arraycopy(data, 0, copy.data, 0, size);
+		copy.size = size;
+		return copy;
+	}
+	
+	@Override
+	public double[] Array()
+	{
+		return data;
+	}
+	
+	@Override
+	public void clear()
+	{
+		size = 0;
+	}
+	
+	@Override
+	public int Count()
+	{
+		return size;
+	}
+}
\ No newline at end of file
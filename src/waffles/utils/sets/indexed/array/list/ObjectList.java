@@ -0,0 +1,353 @@
+package waffles.utils.sets.indexed.array.list;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+
+import waffles.utils.sets.countable.AtomicSet;
+import waffles.utils.sets.indexed.AtomicIndex;
+import waffles.utils.sets.indexed.array.set.ObjectSet;
+import waffles.utils.sets.utilities.indexed.iterators.arrays.ArrayValues;
+import waffles.utils.tools.patterns.properties.values.Copyable;
+
+/**
+ * An {@code ObjectList} defines a growable list of objects.
+ * Unlike a {@code JavaList}, its backing array is exposed directly through {@link #Array()}
+ * rather than copied. The backing array grows by half its length whenever it runs out
+ * of space, so adding values takes amortized constant time. Only the first
+ * {@link #Count()} values of the array belong to the list.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @param <O>  an object type
+ * @see AtomicIndex
+ * @see AtomicSet
+ * @see ObjectSet
+ */
+public class ObjectList<O> implements ObjectSet<O>, AtomicIndex<O>, AtomicSet<O>, Copyable<ObjectList<O>>
+{
+	/**
+	 * Creates a new {@code ObjectList} holding a set of values.
+	 * Unlike the capacity constructor, a single
+	 * value is added to the list as an element.
+	 * 
+	 * @param vals  a set of initial values
+	 * @return  a new list
+	 */
+	@SafeVarargs
+	public static <O> ObjectList<O> of(O... vals)
+	{
+		ObjectList<O> list = new ObjectList<>(vals.length);
+		for(O val : vals)
+		{
+			list.data[list.size++] = val;
+		}
+		
+		return list;
+	}
+	
+	
+	private Object[] data;
+	private int size;
+	
+	/**
+	 * Creates a new {@code ObjectList}.
+	 * 
+	 * @param cap  an initial capacity
+	 */
+	public ObjectList(int cap)
+	{
+		data = new Object[cap];
+	}
+	
+	/**
+	 * Creates a new {@code ObjectList}.
+	 */
+	public ObjectList()
+	{
+		this(10);
+	}
+	
+	
+	/**
+	 * Adds a set of values to the end of the {@code ObjectList}.
+	 * 
+	 * @param vals  a set of list values
+	 */
+	@SuppressWarnings("unchecked")
+	public void addAll(O... vals)
+	{
+		insert(size, vals);
+	}
+	
+	/**
+	 * Adds the values of another list to the end of the {@code ObjectList}.
+	 * 
+	 * @param list  a source list
+	 */
+	public void addAll(ObjectList<? extends O> list)
+	{
+		ensureCapacity(size + list.size);
+		System.arraycopy(list.data, 0, data, size, list.size);
+		size += list.size;
+	}
+	
+	/**
+	 * Inserts a set of values into the {@code ObjectList}.
+	 * The values from the index onwards are shifted back.
+	 * Indices outside the list are ignored.
+	 * 
+	 * @param i     a list index
+	 * @param vals  a set of list values
+	 */
+	@SuppressWarnings("unchecked")
+	public void insert(int i, O... vals)
+	{
+		if(i < 0 || size < i)
+		{
+			return;
+		}
+		
+		ensureCapacity(size + vals.length);
+		System.arraycopy(data, i, data, i + vals.length, size - i);
+		System.arraycopy(vals, 0, data, i, vals.length);
+		size += vals.length;
+	}
+	
+	/**
+	 * Removes a range of values from the {@code ObjectList}.
+	 * The values after the range are shifted forward.
+	 * Ranges outside the list are ignored.
+	 * 
+	 * @param lo  a first list index
+	 * @param hi  a list index past the last
+	 */
+	public void removeRange(int lo, int hi)
+	{
+		if(lo < 0 || hi < lo || size < hi)
+		{
+			return;
+		}
+		
+		System.arraycopy(data, hi, data, lo, size - hi);
+		// Release the references past the new end.
+		Arrays.fill(data, size - (hi - lo), size, null);
+		size -= hi - lo;
+	}
+	
+	/**
+	 * Removes a value from the {@code ObjectList}.
+	 * The values after the index are shifted forward.
+	 * 
+	 * @param i  a list index
+	 * @return  a removed value
+	 */
+	public O removeAt(int i)
+	{
+		O val = get(i);
+		removeRange(i, i + 1);
+		return val;
+	}
+	
+	/**
+	 * Ensures the {@code ObjectList} can hold a number of values without growing.
+	 * 
+	 * @param cap  a minimum capacity
+	 */
+	public void ensureCapacity(int cap)
+	{
+		if(data.length < cap)
+		{
+			int grow = data.length + (data.length >> 1) + 1;
+			data = Arrays.copyOf(data, Math.max(cap, grow));
+		}
+	}
+	
+	/**
+	 * Shrinks the backing array of the {@code ObjectList} to its value count.
+	 */
+	public void trimToSize()
+	{
+		if(size < data.length)
+		{
+			data = Arrays.copyOf(data, size);
+		}
+	}
+	
+	/**
+	 * Returns the capacity of the {@code ObjectList}.
+	 * 
+	 * @return  a list capacity
+	 */
+	public int Capacity()
+	{
+		return data.length;
+	}
+	
+	
+	@Override
+	public void add(O obj)
+	{
+		ensureCapacity(size + 1);
+		data[size++] = obj;
+	}
+	
+	@Override
+	public void remove(O obj)
+	{
+		int[] index = indexOf(obj);
+		if(index != null)
+		{
+			removeAt(index[0]);
+		}
+	}
+	
+	@Override
+	public O get(int... crds)
+	{
+		if(defines(crds))
+		{
+			return get(crds[0]);
+		}
+		
+		return null;
+	}
+	
+	@Override
+	public O get(int r, int c, int a)
+	{
+		return get(new int[]{r, c, a});
+	}
+	
+	@Override
+	public O get(int r, int c)
+	{
+		return get(new int[]{r, c});
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public O get(int i)
+	{
+		if(0 <= i && i < size)
+		{
+			return (O) data[i];
+		}
+		
+		return null;
+	}
+	
+	@Override
+	public O put(O val, int... crds)
+	{
+		return put(val, crds[0]);
+	}
+	
+	@Override
+	public O put(O val, int r, int c, int a)
+	{
+		return put(val, new int[]{r, c, a});
+	}
+	
+	@Override
+	public O put(O val, int r, int c)
+	{
+		return put(val, new int[]{r, c});
+	}
+	
+	@Override
+	public O put(O val, int i)
+	{
+		// Pad the list up to the index.
+		if(size <= i)
+		{
+			ensureCapacity(i + 1);
+			size = i + 1;
+		}
+		
+		O prev = get(i);
+		data[i] = val;
+		return prev;
+	}
+	
+	@Override
+	public O remove(int... crds)
+	{
+		if(defines(crds))
+		{
+			return removeAt(crds[0]);
+		}
+		
+		return null;
+	}
+	
+	@Override
+	public O remove(int r, int c, int a)
+	{
+		return remove(new int[]{r, c, a});
+	}
+	
+	@Override
+	public O remove(int r, int c)
+	{
+		return remove(new int[]{r, c});
+	}
+	
+	
+	@Override
+	public int[] indexOf(O val)
+	{
+		for(int i = 0; i < size; i++)
+		{
+			if(Objects.equals(data[i], val))
+			{
+				return new int[]{i};
+			}
+		}
+		
+		return null;
+	}
+	
+	@Override
+	public Iterator<O> iterator()
+	{
+		return new ArrayValues<>(this);
+	}
+	
+	@Override
+	public ObjectList<O> instance()
+	{
+		return new ObjectList<>();
+	}
+	
+	@Override
+	public ObjectList<O> copy()
+	{
+		ObjectList<O> copy = new ObjectList<>(size);
+		System.arraycopy(data, 0, copy.data, 0, size);
+		copy.size = size;
+		return copy;
+	}
+	
+	@Override
+	public Object[] Array()
+	{
+		return data;
+	}
+	
+	@Override
+	public void clear()
+	{
+		Arrays.fill(data, 0, size, null);
+		size = 0;
+	}
+	
+	@Override
+	public int Count()
+	{
+		return size;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,346 @@
+package waffles.utils.sets.indexed.direct;
+
+import waffles.utils.sets.indexed.MutableIndex;
+
+/**
+ * A {@code DirectBooleanIndex} stores primitive boolean values in off-heap {@code Memory}.
+ * Next to the boxed {@code MutableIndex} methods, it provides primitive accessors
+ * by coordinate and by long index. Removing a value resets it to the
+ * {@link #Default()} value of the index.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see DirectIndex
+ * @see MutableIndex
+ */
+public class DirectBooleanIndex extends DirectIndex<Boolean>
+{
+	private boolean empty;
+	
+	/**
+	 * Creates a new {@code DirectBooleanIndex}.
+	 * 
+	 * @param mem  an index memory
+	 * @param ord  an index order
+	 * @param dim  an index dimension
+	 * 
+	 * 
+	 * @see Memory
+	 */
+	public DirectBooleanIndex(Memory mem, Order ord, int... dim)
+	{
+		super(mem, 0, ord, dim);
+	}
+	
+	/**
+	 * Creates a new {@code DirectBooleanIndex}.
+	 * 
+	 * @param ord  an index order
+	 * @param dim  an index dimension
+	 */
+	public DirectBooleanIndex(Order ord, int... dim)
+	{
+		super(0, ord, dim);
+	}
+	
+	/**
+	 * Creates a new {@code DirectBooleanIndex}.
+	 * 
+	 * @param dim  an index dimension
+	 */
+	public DirectBooleanIndex(int... dim)
+	{
+		this(Order.COL_MAJOR, dim);
+	}
+	
+	/**
+	 * Changes the default value of the {@code DirectBooleanIndex}.
+	 * Values already stored in the index are left as is,
+	 * the new default is applied by subsequent
+	 * removals and {@link #clear()} calls.
+	 * 
+	 * @param def  a default value
+	 */
+	public void setDefault(boolean def)
+	{
+		empty = def;
+	}
+	
+	/**
+	 * Returns the default value of the {@code DirectBooleanIndex}.
+	 * 
+	 * @return  a default value
+	 */
+	public boolean Default()
+	{
+		return empty;
+	}
+	
+	
+	/**
+	 * Returns a primitive value at a long index.
+	 * 
+	 * @param idx  a long index
+	 * @return  an index value
+	 */
+	public final boolean getBooleanAt(long idx)
+	{
+		return Memory().getByte(toPosition(idx)) != 0;
+	}
+	
+	/**
+	 * Changes a primitive value at a long index.
+	 * 
+	 * @param val  an index value
+	 * @param idx  a long index
+	 * @return  a previous index value
+	 */
+	public final boolean putBooleanAt(boolean val, long idx)
+	{
+		long pos = toPosition(idx);
+		boolean prev = Memory().getByte(pos) != 0;
+		Memory().putByte(pos, (byte) (val ? 1 : 0));
+		return prev;
+	}
+	
+	
+	/**
+	 * Returns a primitive value from the {@code DirectBooleanIndex}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  an index value
+	 */
+	public boolean getBoolean(int... crds)
+	{
+		return getBooleanAt(toLong(crds));
+	}
+	
+	/**
+	 * Returns a three-dimensional primitive value from the {@code DirectBooleanIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  an index value
+	 */
+	public boolean getBoolean(int r, int c, int a)
+	{
+		return getBooleanAt(toLong(r, c, a));
+	}
+	
+	/**
+	 * Returns a two-dimensional primitive value from the {@code DirectBooleanIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  an index value
+	 */
+	public boolean getBoolean(int r, int c)
+	{
+		return getBooleanAt(toLong(r, c));
+	}
+	
+	/**
+	 * Returns a one-dimensional primitive value from the {@code DirectBooleanIndex}.
+	 * 
+	 * @param i  an index coordinate
+	 * @return  an index value
+	 */
+	public boolean getBoolean(int i)
+	{
+		return getBooleanAt(toLong(i));
+	}
+	
+	
+	/**
+	 * Changes a primitive value in the {@code DirectBooleanIndex}.
+	 * 
+	 * @param val   an index value
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public boolean putBoolean(boolean val, int... crds)
+	{
+		return putBooleanAt(val, toLong(crds));
+	}
+	
+	/**
+	 * Changes a three-dimensional primitive value in the {@code DirectBooleanIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @param a    an index aisle
+	 * @return  a previous index value
+	 */
+	public boolean putBoolean(boolean val, int r, int c, int a)
+	{
+		return putBooleanAt(val, toLong(r, c, a));
+	}
+	
+	/**
+	 * Changes a two-dimensional primitive value in the {@code DirectBooleanIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @return  a previous index value
+	 */
+	public boolean putBoolean(boolean val, int r, int c)
+	{
+		return putBooleanAt(val, toLong(r, c));
+	}
+	
+	/**
+	 * Changes a one-dimensional primitive value in the {@code DirectBooleanIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param i    an index coordinate
+	 * @return  a previous index value
+	 */
+	public boolean putBoolean(boolean val, int i)
+	{
+		return putBooleanAt(val, toLong(i));
+	}
+	
+	
+	/**
+	 * Removes a primitive value from the {@code DirectBooleanIndex}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public boolean removeBoolean(int... crds)
+	{
+		return putBooleanAt(empty, toLong(crds));
+	}
+	
+	/**
+	 * Removes a three-dimensional primitive value from the {@code DirectBooleanIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  a previous index value
+	 */
+	public boolean removeBoolean(int r, int c, int a)
+	{
+		return putBooleanAt(empty, toLong(r, c, a));
+	}
+	
+	/**
+	 * Removes a two-dimensional primitive value from the {@code DirectBooleanIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  a previous index value
+	 */
+	public boolean removeBoolean(int r, int c)
+	{
+		return putBooleanAt(empty, toLong(r, c));
+	}
+	
+	
+	@Override
+	public Boolean get(int... crds)
+	{
+		return getBoolean(crds);
+	}
+	
+	@Override
+	public Boolean get(int r, int c, int a)
+	{
+		return getBoolean(r, c, a);
+	}
+	
+	@Override
+	public Boolean get(int r, int c)
+	{
+		return getBoolean(r, c);
+	}
+	
+	@Override
+	public Boolean get(int i)
+	{
+		return getBoolean(i);
+	}
+	
+	@Override
+	public Boolean put(Boolean val, int... crds)
+	{
+		if(val == null)
+		{
+			return removeBoolean(crds);
+		}
+		
+		return putBoolean(val, crds);
+	}
+	
+	@Override
+	public Boolean put(Boolean val, int r, int c, int a)
+	{
+		if(val == null)
+		{
+			return removeBoolean(r, c, a);
+		}
+		
+		return putBoolean(val, r, c, a);
+	}
+	
+	@Override
+	public Boolean put(Boolean val, int r, int c)
+	{
+		if(val == null)
+		{
+			return removeBoolean(r, c);
+		}
+		
+		return putBoolean(val, r, c);
+	}
+	
+	@Override
+	public Boolean put(Boolean val, int i)
+	{
+		if(val == null)
+		{
+			return putBoolean(empty, i);
+		}
+		
+		return putBoolean(val, i);
+	}
+	
+	@Override
+	public Boolean remove(int... crds)
+	{
+		return removeBoolean(crds);
+	}
+	
+	@Override
+	public Boolean remove(int r, int c, int a)
+	{
+		return removeBoolean(r, c, a);
+	}
+	
+	@Override
+	public Boolean remove(int r, int c)
+	{
+		return removeBoolean(r, c);
+	}
+	
+	@Override
+	public void clear()
+	{
+		super.clear();
+		if(empty)
+		{
+			long count = LongCount();
+			for(long i = 0; i < count; i++)
+			{
+				putBooleanAt(empty, i);
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,346 @@
+package waffles.utils.sets.indexed.direct;
+
+import waffles.utils.sets.indexed.MutableIndex;
+
+/**
+ * A {@code DirectByteIndex} stores primitive byte values in off-heap {@code Memory}.
+ * Next to the boxed {@code MutableIndex} methods, it provides primitive accessors
+ * by coordinate and by long index. Removing a value resets it to the
+ * {@link #Default()} value of the index.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see DirectIndex
+ * @see MutableIndex
+ */
+public class DirectByteIndex extends DirectIndex<Byte>
+{
+	private byte empty;
+	
+	/**
+	 * Creates a new {@code DirectByteIndex}.
+	 * 
+	 * @param mem  an index memory
+	 * @param ord  an index order
+	 * @param dim  an index dimension
+	 * 
+	 * 
+	 * @see Memory
+	 */
+	public DirectByteIndex(Memory mem, Order ord, int... dim)
+	{
+		super(mem, 0, ord, dim);
+	}
+	
+	/**
+	 * Creates a new {@code DirectByteIndex}.
+	 * 
+	 * @param ord  an index order
+	 * @param dim  an index dimension
+	 */
+	public DirectByteIndex(Order ord, int... dim)
+	{
+		super(0, ord, dim);
+	}
+	
+	/**
+	 * Creates a new {@code DirectByteIndex}.
+	 * 
+	 * @param dim  an index dimension
+	 */
+	public DirectByteIndex(int... dim)
+	{
+		this(Order.COL_MAJOR, dim);
+	}
+	
+	/**
+	 * Changes the default value of the {@code DirectByteIndex}.
+	 * Values already stored in the index are left as is,
+	 * the new default is applied by subsequent
+	 * removals and {@link #clear()} calls.
+	 * 
+	 * @param def  a default value
+	 */
+	public void setDefault(byte def)
+	{
+		empty = def;
+	}
+	
+	/**
+	 * Returns the default value of the {@code DirectByteIndex}.
+	 * 
+	 * @return  a default value
+	 */
+	public byte Default()
+	{
+		return empty;
+	}
+	
+	
+	/**
+	 * Returns a primitive value at a long index.
+	 * 
+	 * @param idx  a long index
+	 * @return  an index value
+	 */
+	public final byte getByteAt(long idx)
+	{
+		return Memory().getByte(toPosition(idx));
+	}
+	
+	/**
+	 * Changes a primitive value at a long index.
+	 * 
+	 * @param val  an index value
+	 * @param idx  a long index
+	 * @return  a previous index value
+	 */
+	public final byte putByteAt(byte val, long idx)
+	{
+		long pos = toPosition(idx);
+		byte prev = Memory().getByte(pos);
+		Memory().putByte(pos, val);
+		return prev;
+	}
+	
+	
+	/**
+	 * Returns a primitive value from the {@code DirectByteIndex}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  an index value
+	 */
+	public byte getByte(int... crds)
+	{
+		return getByteAt(toLong(crds));
+	}
+	
+	/**
+	 * Returns a three-dimensional primitive value from the {@code DirectByteIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  an index value
+	 */
+	public byte getByte(int r, int c, int a)
+	{
+		return getByteAt(toLong(r, c, a));
+	}
+	
+	/**
+	 * Returns a two-dimensional primitive value from the {@code DirectByteIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  an index value
+	 */
+	public byte getByte(int r, int c)
+	{
+		return getByteAt(toLong(r, c));
+	}
+	
+	/**
+	 * Returns a one-dimensional primitive value from the {@code DirectByteIndex}.
+	 * 
+	 * @param i  an index coordinate
+	 * @return  an index value
+	 */
+	public byte getByte(int i)
+	{
+		return getByteAt(toLong(i));
+	}
+	
+	
+	/**
+	 * Changes a primitive value in the {@code DirectByteIndex}.
+	 * 
+	 * @param val   an index value
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public byte putByte(byte val, int... crds)
+	{
+		return putByteAt(val, toLong(crds));
+	}
+	
+	/**
+	 * Changes a three-dimensional primitive value in the {@code DirectByteIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @param a    an index aisle
+	 * @return  a previous index value
+	 */
+	public byte putByte(byte val, int r, int c, int a)
+	{
+		return putByteAt(val, toLong(r, c, a));
+	}
+	
+	/**
+	 * Changes a two-dimensional primitive value in the {@code DirectByteIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @return  a previous index value
+	 */
+	public byte putByte(byte val, int r, int c)
+	{
+		return putByteAt(val, toLong(r, c));
+	}
+	
+	/**
+	 * Changes a one-dimensional primitive value in the {@code DirectByteIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param i    an index coordinate
+	 * @return  a previous index value
+	 */
+	public byte putByte(byte val, int i)
+	{
+		return putByteAt(val, toLong(i));
+	}
+	
+	
+	/**
+	 * Removes a primitive value from the {@code DirectByteIndex}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public byte removeByte(int... crds)
+	{
+		return putByteAt(empty, toLong(crds));
+	}
+	
+	/**
+	 * Removes a three-dimensional primitive value from the {@code DirectByteIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  a previous index value
+	 */
+	public byte removeByte(int r, int c, int a)
+	{
+		return putByteAt(empty, toLong(r, c, a));
+	}
+	
+	/**
+	 * Removes a two-dimensional primitive value from the {@code DirectByteIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  a previous index value
+	 */
+	public byte removeByte(int r, int c)
+	{
+		return putByteAt(empty, toLong(r, c));
+	}
+	
+	
+	@Override
+	public Byte get(int... crds)
+	{
+		return getByte(crds);
+	}
+	
+	@Override
+	public Byte get(int r, int c, int a)
+	{
+		return getByte(r, c, a);
+	}
+	
+	@Override
+	public Byte get(int r, int c)
+	{
+		return getByte(r, c);
+	}
+	
+	@Override
+	public Byte get(int i)
+	{
+		return getByte(i);
+	}
+	
+	@Override
+	public Byte put(Byte val, int... crds)
+	{
+		if(val == null)
+		{
+			return removeByte(crds);
+		}
+		
+		return putByte(val, crds);
+	}
+	
+	@Override
+	public Byte put(Byte val, int r, int c, int a)
+	{
+		if(val == null)
+		{
+			return removeByte(r, c, a);
+		}
+		
+		return putByte(val, r, c, a);
+	}
+	
+	@Override
+	public Byte put(Byte val, int r, int c)
+	{
+		if(val == null)
+		{
+			return removeByte(r, c);
+		}
+		
+		return putByte(val, r, c);
+	}
+	
+	@Override
+	public Byte put(Byte val, int i)
+	{
+		if(val == null)
+		{
+			return putByte(empty, i);
+		}
+		
+		return putByte(val, i);
+	}
+	
+	@Override
+	public Byte remove(int... crds)
+	{
+		return removeByte(crds);
+	}
+	
+	@Override
+	public Byte remove(int r, int c, int a)
+	{
+		return removeByte(r, c, a);
+	}
+	
+	@Override
+	public Byte remove(int r, int c)
+	{
+		return removeByte(r, c);
+	}
+	
+	@Override
+	public void clear()
+	{
+		super.clear();
+		if(empty != 0)
+		{
+			long count = LongCount();
+			for(long i = 0; i < count; i++)
+			{
+				putByteAt(empty, i);
+			}
+		}
+	}
+}
\ No newline at end of file
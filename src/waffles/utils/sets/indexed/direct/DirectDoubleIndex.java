@@ -0,0 +1,346 @@
+package waffles.utils.sets.indexed.direct;
+
+import waffles.utils.sets.indexed.MutableIndex;
+
+/**
+ * A {@code DirectDoubleIndex} stores primitive double values in off-heap {@code Memory}.
+ * Next to the boxed {@code MutableIndex} methods, it provides primitive accessors
+ * by coordinate and by long index. Removing a value resets it to the
+ * {@link #Default()} value of the index.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see DirectIndex
+ * @see MutableIndex
+ */
+public class DirectDoubleIndex extends DirectIndex<Double>
+{
+	private double empty;
+	
+	/**
+	 * Creates a new {@code DirectDoubleIndex}.
+	 * 
+	 * @param mem  an index memory
+	 * @param ord  an index order
+	 * @param dim  an index dimension
+	 * 
+	 * 
+	 * @see Memory
+	 */
+	public DirectDoubleIndex(Memory mem, Order ord, int... dim)
+	{
+		super(mem, 3, ord, dim);
+	}
+	
+	/**
+	 * Creates a new {@code DirectDoubleIndex}.
+	 * 
+	 * @param ord  an index order
+	 * @param dim  an index dimension
+	 */
+	public DirectDoubleIndex(Order ord, int... dim)
+	{
+		super(3, ord, dim);
+	}
+	
+	/**
+	 * Creates a new {@code DirectDoubleIndex}.
+	 * 
+	 * @param dim  an index dimension
+	 */
+	public DirectDoubleIndex(int... dim)
+	{
+		this(Order.COL_MAJOR, dim);
+	}
+	
+	/**
+	 * Changes the default value of the {@code DirectDoubleIndex}.
+	 * Values already stored in the index are left as is,
+	 * the new default is applied by subsequent
+	 * removals and {@link #clear()} calls.
+	 * 
+	 * @param def  a default value
+	 */
+	public void setDefault(double def)
+	{
+		empty = def;
+	}
+	
+	/**
+	 * Returns the default value of the {@code DirectDoubleIndex}.
+	 * 
+	 * @return  a default value
+	 */
+	public double Default()
+	{
+		return empty;
+	}
+	
+	
+	/**
+	 * Returns a primitive value at a long index.
+	 * 
+	 * @param idx  a long index
+	 * @return  an index value
+	 */
+	public final double getDoubleAt(long idx)
+	{
+		return Memory().getDouble(toPosition(idx));
+	}
+	
+	/**
+	 * Changes a primitive value at a long index.
+	 * 
+	 * @param val  an index value
+	 * @param idx  a long index
+	 * @return  a previous index value
+	 */
+	public final double putDoubleAt(double val, long idx)
+	{
+		long pos = toPosition(idx);
+		double prev = Memory().getDouble(pos);
+		Memory().putDouble(pos, val);
+		return prev;
+	}
+	
+	
+	/**
+	 * Returns a primitive value from the {@code DirectDoubleIndex}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  an index value
+	 */
+	public double getDouble(int... crds)
+	{
+		return getDoubleAt(toLong(crds));
+	}
+	
+	/**
+	 * Returns a three-dimensional primitive value from the {@code DirectDoubleIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  an index value
+	 */
+	public double getDouble(int r, int c, int a)
+	{
+		return getDoubleAt(toLong(r, c, a));
+	}
+	
+	/**
+	 * Returns a two-dimensional primitive value from the {@code DirectDoubleIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  an index value
+	 */
+	public double getDouble(int r, int c)
+	{
+		return getDoubleAt(toLong(r, c));
+	}
+	
+	/**
+	 * Returns a one-dimensional primitive value from the {@code DirectDoubleIndex}.
+	 * 
+	 * @param i  an index coordinate
+	 * @return  an index value
+	 */
+	public double getDouble(int i)
+	{
+		return getDoubleAt(toLong(i));
+	}
+	
+	
+	/**
+	 * Changes a primitive value in the {@code DirectDoubleIndex}.
+	 * 
+	 * @param val   an index value
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public double putDouble(double val, int... crds)
+	{
+		return putDoubleAt(val, toLong(crds));
+	}
+	
+	/**
+	 * Changes a three-dimensional primitive value in the {@code DirectDoubleIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @param a    an index aisle
+	 * @return  a previous index value
+	 */
+	public double putDouble(double val, int r, int c, int a)
+	{
+		return putDoubleAt(val, toLong(r, c, a));
+	}
+	
+	/**
+	 * Changes a two-dimensional primitive value in the {@code DirectDoubleIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @return  a previous index value
+	 */
+	public double putDouble(double val, int r, int c)
+	{
+		return putDoubleAt(val, toLong(r, c));
+	}
+	
+	/**
+	 * Changes a one-dimensional primitive value in the {@code DirectDoubleIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param i    an index coordinate
+	 * @return  a previous index value
+	 */
+	public double putDouble(double val, int i)
+	{
+		return putDoubleAt(val, toLong(i));
+	}
+	
+	
+	/**
+	 * Removes a primitive value from the {@code DirectDoubleIndex}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public double removeDouble(int... crds)
+	{
+		return putDoubleAt(empty, toLong(crds));
+	}
+	
+	/**
+	 * Removes a three-dimensional primitive value from the {@code DirectDoubleIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  a previous index value
+	 */
+	public double removeDouble(int r, int c, int a)
+	{
+		return putDoubleAt(empty, toLong(r, c, a));
+	}
+	
+	/**
+	 * Removes a two-dimensional primitive value from the {@code DirectDoubleIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  a previous index value
+	 */
+	public double removeDouble(int r, int c)
+	{
+		return putDoubleAt(empty, toLong(r, c));
+	}
+	
+	
+	@Override
+	public Double get(int... crds)
+	{
+		return getDouble(crds);
+	}
+	
+	@Override
+	public Double get(int r, int c, int a)
+	{
+		return getDouble(r, c, a);
+	}
+	
+	@Override
+	public Double get(int r, int c)
+	{
+		return getDouble(r, c);
+	}
+	
+	@Override
+	public Double get(int i)
+	{
+		return getDouble(i);
+	}
+	
+	@Override
+	public Double put(Double val, int... crds)
+	{
+		if(val == null)
+		{
+			return removeDouble(crds);
+		}
+		
+		return putDouble(val, crds);
+	}
+	
+	@Override
+	public Double put(Double val, int r, int c, int a)
+	{
+		if(val == null)
+		{
+			return removeDouble(r, c, a);
+		}
+		
+		return putDouble(val, r, c, a);
+	}
+	
+	@Override
+	public Double put(Double val, int r, int c)
+	{
+		if(val == null)
+		{
+			return removeDouble(r, c);
+		}
+		
+		return putDouble(val, r, c);
+	}
+	
+	@Override
+	public Double put(Double val, int i)
+	{
+		if(val == null)
+		{
+			return putDouble(empty, i);
+		}
+		
+		return putDouble(val, i);
+	}
+	
+	@Override
+	public Double remove(int... crds)
+	{
+		return removeDouble(crds);
+	}
+	
+	@Override
+	public Double remove(int r, int c, int a)
+	{
+		return removeDouble(r, c, a);
+	}
+	
+	@Override
+	public Double remove(int r, int c)
+	{
+		return removeDouble(r, c);
+	}
+	
+	@Override
+	public void clear()
+	{
+		super.clear();
+		if(empty != 0)
+		{
+			long count = LongCount();
+			for(long i = 0; i < count; i++)
+			{
+				putDoubleAt(empty, i);
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,346 @@
+package waffles.utils.sets.indexed.direct;
+
+import waffles.utils.sets.indexed.MutableIndex;
+
+/**
+ * A {@code DirectFloatIndex} stores primitive float values in off-heap {@code Memory}.
+ * Next to the boxed {@code MutableIndex} methods, it provides primitive accessors
+ * by coordinate and by long index. Removing a value resets it to the
+ * {@link #Default()} value of the index.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see DirectIndex
+ * @see MutableIndex
+ */
+public class DirectFloatIndex extends DirectIndex<Float>
+{
+	private float empty;
+	
+	/**
+	 * Creates a new {@code DirectFloatIndex}.
+	 * 
+	 * @param mem  an index memory
+	 * @param ord  an index order
+	 * @param dim  an index dimension
+	 * 
+	 * 
+	 * @see Memory
+	 */
+	public DirectFloatIndex(Memory mem, Order ord, int... dim)
+	{
+		super(mem, 2, ord, dim);
+	}
+	
+	/**
+	 * Creates a new {@code DirectFloatIndex}.
+	 * 
+	 * @param ord  an index order
+	 * @param dim  an index dimension
+	 */
+	public DirectFloatIndex(Order ord, int... dim)
+	{
+		super(2, ord, dim);
+	}
+	
+	/**
+	 * Creates a new {@code DirectFloatIndex}.
+	 * 
+	 * @param dim  an index dimension
+	 */
+	public DirectFloatIndex(int... dim)
+	{
+		this(Order.COL_MAJOR, dim);
+	}
+	
+	/**
+	 * Changes the default value of the {@code DirectFloatIndex}.
+	 * Values already stored in the index are left as is,
+	 * the new default is applied by subsequent
+	 * removals and {@link #clear()} calls.
+	 * 
+	 * @param def  a default value
+	 */
+	public void setDefault(float def)
+	{
+		empty = def;
+	}
+	
+	/**
+	 * Returns the default value of the {@code DirectFloatIndex}.
+	 * 
+	 * @return  a default value
+	 */
+	public float Default()
+	{
+		return empty;
+	}
+	
+	
+	/**
+	 * Returns a primitive value at a long index.
+	 * 
+	 * @param idx  a long index
+	 * @return  an index value
+	 */
+	public final float getFloatAt(long idx)
+	{
+		return Memory().getFloat(toPosition(idx));
+	}
+	
+	/**
+	 * Changes a primitive value at a long index.
+	 * 
+	 * @param val  an index value
+	 * @param idx  a long index
+	 * @return  a previous index value
+	 */
+	public final float putFloatAt(float val, long idx)
+	{
+		long pos = toPosition(idx);
+		float prev = Memory().getFloat(pos);
+		Memory().putFloat(pos, val);
+		return prev;
+	}
+	
+	
+	/**
+	 * Returns a primitive value from the {@code DirectFloatIndex}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  an index value
+	 */
+	public float getFloat(int... crds)
+	{
+		return getFloatAt(toLong(crds));
+	}
+	
+	/**
+	 * Returns a three-dimensional primitive value from the {@code DirectFloatIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  an index value
+	 */
+	public float getFloat(int r, int c, int a)
+	{
+		return getFloatAt(toLong(r, c, a));
+	}
+	
+	/**
+	 * Returns a two-dimensional primitive value from the {@code DirectFloatIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  an index value
+	 */
+	public float getFloat(int r, int c)
+	{
+		return getFloatAt(toLong(r, c));
+	}
+	
+	/**
+	 * Returns a one-dimensional primitive value from the {@code DirectFloatIndex}.
+	 * 
+	 * @param i  an index coordinate
+	 * @return  an index value
+	 */
+	public float getFloat(int i)
+	{
+		return getFloatAt(toLong(i));
+	}
+	
+	
+	/**
+	 * Changes a primitive value in the {@code DirectFloatIndex}.
+	 * 
+	 * @param val   an index value
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public float putFloat(float val, int... crds)
+	{
+		return putFloatAt(val, toLong(crds));
+	}
+	
+	/**
+	 * Changes a three-dimensional primitive value in the {@code DirectFloatIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @param a    an index aisle
+	 * @return  a previous index value
+	 */
+	public float putFloat(float val, int r, int c, int a)
+	{
+		return putFloatAt(val, toLong(r, c, a));
+	}
+	
+	/**
+	 * Changes a two-dimensional primitive value in the {@code DirectFloatIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @return  a previous index value
+	 */
+	public float putFloat(float val, int r, int c)
+	{
+		return putFloatAt(val, toLong(r, c));
+	}
+	
+	/**
+	 * Changes a one-dimensional primitive value in the {@code DirectFloatIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param i    an index coordinate
+	 * @return  a previous index value
+	 */
+	public float putFloat(float val, int i)
+	{
+		return putFloatAt(val, toLong(i));
+	}
+	
+	
+	/**
+	 * Removes a primitive value from the {@code DirectFloatIndex}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public float removeFloat(int... crds)
+	{
+		return putFloatAt(empty, toLong(crds));
+	}
+	
+	/**
+	 * Removes a three-dimensional primitive value from the {@code DirectFloatIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  a previous index value
+	 */
+	public float removeFloat(int r, int c, int a)
+	{
+		return putFloatAt(empty, toLong(r, c, a));
+	}
+	
+	/**
+	 * Removes a two-dimensional primitive value from the {@code DirectFloatIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  a previous index value
+	 */
+	public float removeFloat(int r, int c)
+	{
+		return putFloatAt(empty, toLong(r, c));
+	}
+	
+	
+	@Override
+	public Float get(int... crds)
+	{
+		return getFloat(crds);
+	}
+	
+	@Override
+	public Float get(int r, int c, int a)
+	{
+		return getFloat(r, c, a);
+	}
+	
+	@Override
+	public Float get(int r, int c)
+	{
+		return getFloat(r, c);
+	}
+	
+	@Override
+	public Float get(int i)
+	{
+		return getFloat(i);
+	}
+	
+	@Override
+	public Float put(Float val, int... crds)
+	{
+		if(val == null)
+		{
+			return removeFloat(crds);
+		}
+		
+		return putFloat(val, crds);
+	}
+	
+	@Override
+	public Float put(Float val, int r, int c, int a)
+	{
+		if(val == null)
+		{
+			return removeFloat(r, c, a);
+		}
+		
+		return putFloat(val, r, c, a);
+	}
+	
+	@Override
+	public Float put(Float val, int r, int c)
+	{
+		if(val == null)
+		{
+			return removeFloat(r, c);
+		}
+		
+		return putFloat(val, r, c);
+	}
+	
+	@Override
+	public Float put(Float val, int i)
+	{
+		if(val == null)
+		{
+			return putFloat(empty, i);
+		}
+		
+		return putFloat(val, i);
+	}
+	
+	@Override
+	public Float remove(int... crds)
+	{
+		return removeFloat(crds);
+	}
+	
+	@Override
+	public Float remove(int r, int c, int a)
+	{
+		return removeFloat(r, c, a);
+	}
+	
+	@Override
+	public Float remove(int r, int c)
+	{
+		return removeFloat(r, c);
+	}
+	
+	@Override
+	public void clear()
+	{
+		super.clear();
+		if(empty != 0)
+		{
+			long count = LongCount();
+			for(long i = 0; i < count; i++)
+			{
+				putFloatAt(empty, i);
+			}
+		}
+	}
+}
\ No newline at end of file
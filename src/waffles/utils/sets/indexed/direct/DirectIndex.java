@@ -0,0 +1,339 @@
+package waffles.utils.sets.indexed.direct;
+
+import waffles.utils.sets.indexed.Curves;
+import waffles.utils.sets.indexed.MutableIndex;
+import waffles.utils.sets.utilities.indexed.iterators.IndexKeys;
+import waffles.utils.sets.utilities.indexed.iterators.IndexValues;
+
+/**
+ * A {@code DirectIndex} defines a {@code MutableIndex} stored in off-heap {@code Memory}.
+ * Its cells are addressed with long indices, which allows the index to exceed
+ * the cell count of a Java array, without putting its data on the heap.
+ * The memory of the index is released explicitly by closing it.
+ * Only row-major and column-major orders are supported, since
+ * the cells are addressed with strides rather than along a curve.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @param <O>  an object type
+ * @see MutableIndex
+ * @see AutoCloseable
+ * @see Memory
+ */
+public abstract class DirectIndex<O> implements MutableIndex<O>, AutoCloseable
+{
+	private static void checkOrder(Order ord)
+	{
+		if(Curves.isCurved(ord))
+		{
+			throw new IllegalArgumentException("Direct indices do not support curved orders.");
+		}
+	}
+	
+	private static long sizeOf(Order ord, int sft, int[] dims)
+	{
+		// Check before allocating memory.
+		checkOrder(ord);
+		return count(dims) << sft;
+	}
+	
+	private static long[] stridesOf(Order ord, int[] dims)
+	{
+		long step = 1;
+		long[] str = new long[dims.length];
+		switch(ord)
+		{
+		case ROW_MAJOR:
+			for(int i = dims.length - 1; i >= 0; i--)
+			{
+				str[i] = step;
+				step *= dims[i];
+			}
+			
+			return str;
+		case COL_MAJOR:
+		default:
+			for(int i = 0; i < dims.length; i++)
+			{
+				str[i] = step;
+				step *= dims[i];
+			}
+			
+			return str;
+		}
+	}
+	
+	/**
+	 * Returns the cell count of a set of dimensions.
+	 * 
+	 * @param dim  an index dimension
+	 * @return  a cell count
+	 */
+	public static long count(int... dim)
+	{
+		long count = 1;
+		for(int d : dim)
+		{
+			count *= d;
+		}
+		
+		return count;
+	}
+	
+	
+	private Order order;
+	private int[] dimension;
+	private long[] stride;
+	private long s0, s1, s2;
+	private Memory memory;
+	private int shift;
+	
+	/**
+	 * Creates a new {@code DirectIndex}.
+	 * 
+	 * @param mem  an index memory
+	 * @param sft  a cell width shift
+	 * @param ord  an index order
+	 * @param dim  an index dimension
+	 * @throws IllegalArgumentException  if the order is curved
+	 * 
+	 * 
+	 * @see Memory
+	 */
+	public DirectIndex(Memory mem, int sft, Order ord, int... dim)
+	{
+		checkOrder(ord);
+		stride = stridesOf(ord, dim);
+		dimension = dim;
+		memory = mem;
+		order = ord;
+		shift = sft;
+		
+		s0 = stride.length > 0 ? stride[0] : 0;
+		s1 = stride.length > 1 ? stride[1] : 0;
+		s2 = stride.length > 2 ? stride[2] : 0;
+	}
+	
+	/**
+	 * Creates a new {@code DirectIndex}.
+	 * 
+	 * @param sft  a cell width shift
+	 * @param ord  an index order
+	 * @param dim  an index dimension
+	 * @throws IllegalArgumentException  if the order is curved
+	 */
+	public DirectIndex(int sft, Order ord, int... dim)
+	{
+		this(Memory.allocate(sizeOf(ord, sft, dim)), sft, ord, dim);
+	}
+	
+	
+	/**
+	 * Converts a set of coordinates into a long index.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  a long index
+	 */
+	public final long toLong(int... crds)
+	{
+		long idx = 0;
+		for(int i = 0; i < stride.length; i++)
+		{
+			idx += crds[i] * stride[i];
+		}
+		
+		return idx;
+	}
+	
+	/**
+	 * Converts a three-dimensional coordinate into a long index.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  a long index
+	 */
+	public final long toLong(int r, int c, int a)
+	{
+		return r * s0 + c * s1 + a * s2;
+	}
+	
+	/**
+	 * Converts a two-dimensional coordinate into a long index.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  a long index
+	 */
+	public final long toLong(int r, int c)
+	{
+		return r * s0 + c * s1;
+	}
+	
+	/**
+	 * Converts a one-dimensional coordinate into a long index.
+	 * 
+	 * @param i  an index coordinate
+	 * @return  a long index
+	 */
+	public final long toLong(int i)
+	{
+		return i * s0;
+	}
+	
+	/**
+	 * Converts a long index into a set of coordinates.
+	 * 
+	 * @param idx  a long index
+	 * @return  an index coordinate
+	 */
+	public int[] toCoord(long idx)
+	{
+		long rem = idx;
+		int[] crds = new int[dimension.length];
+		switch(order)
+		{
+		case ROW_MAJOR:
+			for(int i = 0; i < dimension.length; i++)
+			{
+				crds[i] = (int) (rem / stride[i]);
+				rem -= crds[i] * stride[i];
+			}
+			
+			return crds;
+		case COL_MAJOR:
+		default:
+			for(int i = dimension.length - 1; i >= 0; i--)
+			{
+				crds[i] = (int) (rem / stride[i]);
+				rem -= crds[i] * stride[i];
+			}
+			
+			return crds;
+		}
+	}
+	
+	/**
+	 * Converts a long index into a memory position.
+	 * 
+	 * @param idx  a long index
+	 * @return  a byte position
+	 */
+	public final long toPosition(long idx)
+	{
+		return idx << shift;
+	}
+	
+	
+	/**
+	 * Iterates over the keys of the {@code DirectIndex}.
+	 * 
+	 * @return  a key iterable
+	 * 
+	 * 
+	 * @see Iterable
+	 */
+	public Iterable<int[]> Keys()
+	{
+		return () -> new IndexKeys(this, order);
+	}
+
+	/**
+	 * Iterates over the values of the {@code DirectIndex}.
+	 * 
+	 * @return  a value iterable
+	 * 
+	 * 
+	 * @see Iterable
+	 */
+	public Iterable<O> Values()
+	{
+		return () -> new IndexValues<>(this, order);
+	}
+	
+	/**
+	 * Returns the memory of the {@code DirectIndex}.
+	 * 
+	 * @return  an index memory
+	 * 
+	 * 
+	 * @see Memory
+	 */
+	public Memory Memory()
+	{
+		return memory;
+	}
+	
+	/**
+	 * Returns the ordering of the {@code DirectIndex}.
+	 * 
+	 * @return  an index order
+	 */
+	public Order Ordering()
+	{
+		return order;
+	}
+	
+	/**
+	 * Returns the cell count of the {@code DirectIndex}.
+	 * Unlike {@link #Count()}, this count
+	 * is not limited to the integer range.
+	 * 
+	 * @return  a cell count
+	 */
+	public long LongCount()
+	{
+		return count(dimension);
+	}
+	
+	/**
+	 * Writes any changes to the {@code DirectIndex} back to its storage device.
+	 * This only has an effect if the index memory is mapped from a file.
+	 * 
+	 * 
+	 * @see Memory
+	 */
+	public void force()
+	{
+		memory.force();
+	}
+	
+	
+	@Override
+	public int toIndex(Order ord, int... crds)
+	{
+		if(ord == order)
+		{
+			return (int) toLong(crds);
+		}
+		
+		return MutableIndex.super.toIndex(ord, crds);
+	}
+	
+	@Override
+	public int[] Dimensions()
+	{
+		return dimension;
+	}
+	
+	@Override
+	public int Count()
+	{
+		return (int) Math.min(LongCount(), Integer.MAX_VALUE);
+	}
+	
+	@Override
+	public void clear()
+	{
+		memory.clear();
+	}
+	
+	@Override
+	public void close()
+	{
+		memory.close();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,346 @@
+package waffles.utils.sets.indexed.direct;
+
+import waffles.utils.sets.indexed.MutableIndex;
+
+/**
+ * A {@code DirectIntegerIndex} stores primitive integer values in off-heap {@code Memory}.
+ * Next to the boxed {@code MutableIndex} methods, it provides primitive accessors
+ * by coordinate and by long index. Removing a value resets it to the
+ * {@link #Default()} value of the index.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see DirectIndex
+ * @see MutableIndex
+ */
+public class DirectIntegerIndex extends DirectIndex<Integer>
+{
+	private int empty;
+	
+	/**
+	 * Creates a new {@code DirectIntegerIndex}.
+	 * 
+	 * @param mem  an index memory
+	 * @param ord  an index order
+	 * @param dim  an index dimension
+	 * 
+	 * 
+	 * @see Memory
+	 */
+	public DirectIntegerIndex(Memory mem, Order ord, int... dim)
+	{
+		super(mem, 2, ord, dim);
+	}
+	
+	/**
+	 * Creates a new {@code DirectIntegerIndex}.
+	 * 
+	 * @param ord  an index order
+	 * @param dim  an index dimension
+	 */
+	public DirectIntegerIndex(Order ord, int... dim)
+	{
+		super(2, ord, dim);
+	}
+	
+	/**
+	 * Creates a new {@code DirectIntegerIndex}.
+	 * 
+	 * @param dim  an index dimension
+	 */
+	public DirectIntegerIndex(int... dim)
+	{
+		this(Order.COL_MAJOR, dim);
+	}
+	
+	/**
+	 * Changes the default value of the {@code DirectIntegerIndex}.
+	 * Values already stored in the index are left as is,
+	 * the new default is applied by subsequent
+	 * removals and {@link #clear()} calls.
+	 * 
+	 * @param def  a default value
+	 */
+	public void setDefault(int def)
+	{
+		empty = def;
+	}
+	
+	/**
+	 * Returns the default value of the {@code DirectIntegerIndex}.
+	 * 
+	 * @return  a default value
+	 */
+	public int Default()
+	{
+		return empty;
+	}
+	
+	
+	/**
+	 * Returns a primitive value at a long index.
+	 * 
+	 * @param idx  a long index
+	 * @return  an index value
+	 */
+	public final int getIntAt(long idx)
+	{
+		return Memory().getInt(toPosition(idx));
+	}
+	
+	/**
+	 * Changes a primitive value at a long index.
+	 * 
+	 * @param val  an index value
+	 * @param idx  a long index
+	 * @return  a previous index value
+	 */
+	public final int putIntAt(int val, long idx)
+	{
+		long pos = toPosition(idx);
+		int prev = Memory().getInt(pos);
+		Memory().putInt(pos, val);
+		return prev;
+	}
+	
+	
+	/**
+	 * Returns a primitive value from the {@code DirectIntegerIndex}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  an index value
+	 */
+	public int getInt(int... crds)
+	{
+		return getIntAt(toLong(crds));
+	}
+	
+	/**
+	 * Returns a three-dimensional primitive value from the {@code DirectIntegerIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  an index value
+	 */
+	public int getInt(int r, int c, int a)
+	{
+		return getIntAt(toLong(r, c, a));
+	}
+	
+	/**
+	 * Returns a two-dimensional primitive value from the {@code DirectIntegerIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  an index value
+	 */
+	public int getInt(int r, int c)
+	{
+		return getIntAt(toLong(r, c));
+	}
+	
+	/**
+	 * Returns a one-dimensional primitive value from the {@code DirectIntegerIndex}.
+	 * 
+	 * @param i  an index coordinate
+	 * @return  an index value
+	 */
+	public int getInt(int i)
+	{
+		return getIntAt(toLong(i));
+	}
+	
+	
+	/**
+	 * Changes a primitive value in the {@code DirectIntegerIndex}.
+	 * 
+	 * @param val   an index value
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public int putInt(int val, int... crds)
+	{
+		return putIntAt(val, toLong(crds));
+	}
+	
+	/**
+	 * Changes a three-dimensional primitive value in the {@code DirectIntegerIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @param a    an index aisle
+	 * @return  a previous index value
+	 */
+	public int putInt(int val, int r, int c, int a)
+	{
+		return putIntAt(val, toLong(r, c, a));
+	}
+	
+	/**
+	 * Changes a two-dimensional primitive value in the {@code DirectIntegerIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @return  a previous index value
+	 */
+	public int putInt(int val, int r, int c)
+	{
+		return putIntAt(val, toLong(r, c));
+	}
+	
+	/**
+	 * Changes a one-dimensional primitive value in the {@code DirectIntegerIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param i    an index coordinate
+	 * @return  a previous index value
+	 */
+	public int putInt(int val, int i)
+	{
+		return putIntAt(val, toLong(i));
+	}
+	
+	
+	/**
+	 * Removes a primitive value from the {@code DirectIntegerIndex}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public int removeInt(int... crds)
+	{
+		return putIntAt(empty, toLong(crds));
+	}
+	
+	/**
+	 * Removes a three-dimensional primitive value from the {@code DirectIntegerIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  a previous index value
+	 */
+	public int removeInt(int r, int c, int a)
+	{
+		return putIntAt(empty, toLong(r, c, a));
+	}
+	
+	/**
+	 * Removes a two-dimensional primitive value from the {@code DirectIntegerIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  a previous index value
+	 */
+	public int removeInt(int r, int c)
+	{
+		return putIntAt(empty, toLong(r, c));
+	}
+	
+	
+	@Override
+	public Integer get(int... crds)
+	{
+		return getInt(crds);
+	}
+	
+	@Override
+	public Integer get(int r, int c, int a)
+	{
+		return getInt(r, c, a);
+	}
+	
+	@Override
+	public Integer get(int r, int c)
+	{
+		return getInt(r, c);
+	}
+	
+	@Override
+	public Integer get(int i)
+	{
+		return getInt(i);
+	}
+	
+	@Override
+	public Integer put(Integer val, int... crds)
+	{
+		if(val == null)
+		{
+			return removeInt(crds);
+		}
+		
+		return putInt(val, crds);
+	}
+	
+	@Override
+	public Integer put(Integer val, int r, int c, int a)
+	{
+		if(val == null)
+		{
+			return removeInt(r, c, a);
+		}
+		
+		return putInt(val, r, c, a);
+	}
+	
+	@Override
+	public Integer put(Integer val, int r, int c)
+	{
+		if(val == null)
+		{
+			return removeInt(r, c);
+		}
+		
+		return putInt(val, r, c);
+	}
+	
+	@Override
+	public Integer put(Integer val, int i)
+	{
+		if(val == null)
+		{
+			return putInt(empty, i);
+		}
+		
+		return putInt(val, i);
+	}
+	
+	@Override
+	public Integer remove(int... crds)
+	{
+		return removeInt(crds);
+	}
+	
+	@Override
+	public Integer remove(int r, int c, int a)
+	{
+		return removeInt(r, c, a);
+	}
+	
+	@Override
+	public Integer remove(int r, int c)
+	{
+		return removeInt(r, c);
+	}
+	
+	@Override
+	public void clear()
+	{
+		super.clear();
+		if(empty != 0)
+		{
+			long count = LongCount();
+			for(long i = 0; i < count; i++)
+			{
+				putIntAt(empty, i);
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,346 @@
+package waffles.utils.sets.indexed.direct;
+
+import waffles.utils.sets.indexed.MutableIndex;
+
+/**
+ * A {@code DirectLongIndex} stores primitive long values in off-heap {@code Memory}.
+ * Next to the boxed {@code MutableIndex} methods, it provides primitive accessors
+ * by coordinate and by long index. Removing a value resets it to the
+ * {@link #Default()} value of the index.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see DirectIndex
+ * @see MutableIndex
+ */
+public class DirectLongIndex extends DirectIndex<Long>
+{
+	private long empty;
+	
+	/**
+	 * Creates a new {@code DirectLongIndex}.
+	 * 
+	 * @param mem  an index memory
+	 * @param ord  an index order
+	 * @param dim  an index dimension
+	 * 
+	 * 
+	 * @see Memory
+	 */
+	public DirectLongIndex(Memory mem, Order ord, int... dim)
+	{
+		super(mem, 3, ord, dim);
+	}
+	
+	/**
+	 * Creates a new {@code DirectLongIndex}.
+	 * 
+	 * @param ord  an index order
+	 * @param dim  an index dimension
+	 */
+	public DirectLongIndex(Order ord, int... dim)
+	{
+		super(3, ord, dim);
+	}
+	
+	/**
+	 * Creates a new {@code DirectLongIndex}.
+	 * 
+	 * @param dim  an index dimension
+	 */
+	public DirectLongIndex(int... dim)
+	{
+		this(Order.COL_MAJOR, dim);
+	}
+	
+	/**
+	 * Changes the default value of the {@code DirectLongIndex}.
+	 * Values already stored in the index are left as is,
+	 * the new default is applied by subsequent
+	 * removals and {@link #clear()} calls.
+	 * 
+	 * @param def  a default value
+	 */
+	public void setDefault(long def)
+	{
+		empty = def;
+	}
+	
+	/**
+	 * Returns the default value of the {@code DirectLongIndex}.
+	 * 
+	 * @return  a default value
+	 */
+	public long Default()
+	{
+		return empty;
+	}
+	
+	
+	/**
+	 * Returns a primitive value at a long index.
+	 * 
+	 * @param idx  a long index
+	 * @return  an index value
+	 */
+	public final long getLongAt(long idx)
+	{
+		return Memory().getLong(toPosition(idx));
+	}
+	
+	/**
+	 * Changes a primitive value at a long index.
+	 * 
+	 * @param val  an index value
+	 * @param idx  a long index
+	 * @return  a previous index value
+	 */
+	public final long putLongAt(long val, long idx)
+	{
+		long pos = toPosition(idx);
+		long prev = Memory().getLong(pos);
+		Memory().putLong(pos, val);
+		return prev;
+	}
+	
+	
+	/**
+	 * Returns a primitive value from the {@code DirectLongIndex}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  an index value
+	 */
+	public long getLong(int... crds)
+	{
+		return getLongAt(toLong(crds));
+	}
+	
+	/**
+	 * Returns a three-dimensional primitive value from the {@code DirectLongIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  an index value
+	 */
+	public long getLong(int r, int c, int a)
+	{
+		return getLongAt(toLong(r, c, a));
+	}
+	
+	/**
+	 * Returns a two-dimensional primitive value from the {@code DirectLongIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  an index value
+	 */
+	public long getLong(int r, int c)
+	{
+		return getLongAt(toLong(r, c));
+	}
+	
+	/**
+	 * Returns a one-dimensional primitive value from the {@code DirectLongIndex}.
+	 * 
+	 * @param i  an index coordinate
+	 * @return  an index value
+	 */
+	public long getLong(int i)
+	{
+		return getLongAt(toLong(i));
+	}
+	
+	
+	/**
+	 * Changes a primitive value in the {@code DirectLongIndex}.
+	 * 
+	 * @param val   an index value
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public long putLong(long val, int... crds)
+	{
+		return putLongAt(val, toLong(crds));
+	}
+	
+	/**
+	 * Changes a three-dimensional primitive value in the {@code DirectLongIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @param a    an index aisle
+	 * @return  a previous index value
+	 */
+	public long putLong(long val, int r, int c, int a)
+	{
+		return putLongAt(val, toLong(r, c, a));
+	}
+	
+	/**
+	 * Changes a two-dimensional primitive value in the {@code DirectLongIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @return  a previous index value
+	 */
+	public long putLong(long val, int r, int c)
+	{
+		return putLongAt(val, toLong(r, c));
+	}
+	
+	/**
+	 * Changes a one-dimensional primitive value in the {@code DirectLongIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param i    an index coordinate
+	 * @return  a previous index value
+	 */
+	public long putLong(long val, int i)
+	{
+		return putLongAt(val, toLong(i));
+	}
+	
+	
+	/**
+	 * Removes a primitive value from the {@code DirectLongIndex}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public long removeLong(int... crds)
+	{
+		return putLongAt(empty, toLong(crds));
+	}
+	
+	/**
+	 * Removes a three-dimensional primitive value from the {@code DirectLongIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  a previous index value
+	 */
+	public long removeLong(int r, int c, int a)
+	{
+		return putLongAt(empty, toLong(r, c, a));
+	}
+	
+	/**
+	 * Removes a two-dimensional primitive value from the {@code DirectLongIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  a previous index value
+	 */
+	public long removeLong(int r, int c)
+	{
+		return putLongAt(empty, toLong(r, c));
+	}
+	
+	
+	@Override
+	public Long get(int... crds)
+	{
+		return getLong(crds);
+	}
+	
+	@Override
+	public Long get(int r, int c, int a)
+	{
+		return getLong(r, c, a);
+	}
+	
+	@Override
+	public Long get(int r, int c)
+	{
+		return getLong(r, c);
+	}
+	
+	@Override
+	public Long get(int i)
+	{
+		return getLong(i);
+	}
+	
+	@Override
+	public Long put(Long val, int... crds)
+	{
+		if(val == null)
+		{
+			return removeLong(crds);
+		}
+		
+		return putLong(val, crds);
+	}
+	
+	@Override
+	public Long put(Long val, int r, int c, int a)
+	{
+		if(val == null)
+		{
+			return removeLong(r, c, a);
+		}
+		
+		return putLong(val, r, c, a);
+	}
+	
+	@Override
+	public Long put(Long val, int r, int c)
+	{
+		if(val == null)
+		{
+			return removeLong(r, c);
+		}
+		
+		return putLong(val, r, c);
+	}
+	
+	@Override
+	public Long put(Long val, int i)
+	{
+		if(val == null)
+		{
+			return putLong(empty, i);
+		}
+		
+		return putLong(val, i);
+	}
+	
+	@Override
+	public Long remove(int... crds)
+	{
+		return removeLong(crds);
+	}
+	
+	@Override
+	public Long remove(int r, int c, int a)
+	{
+		return removeLong(r, c, a);
+	}
+	
+	@Override
+	public Long remove(int r, int c)
+	{
+		return removeLong(r, c);
+	}
+	
+	@Override
+	public void clear()
+	{
+		super.clear();
+		if(empty != 0)
+		{
+			long count = LongCount();
+			for(long i = 0; i < count; i++)
+			{
+				putLongAt(empty, i);
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,346 @@
+package waffles.utils.sets.indexed.direct;
+
+import waffles.utils.sets.indexed.MutableIndex;
+
+/**
+ * A {@code DirectShortIndex} stores primitive short values in off-heap {@code Memory}.
+ * Next to the boxed {@code MutableIndex} methods, it provides primitive accessors
+ * by coordinate and by long index. Removing a value resets it to the
+ * {@link #Default()} value of the index.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see DirectIndex
+ * @see MutableIndex
+ */
+public class DirectShortIndex extends DirectIndex<Short>
+{
+	private short empty;
+	
+	/**
+	 * Creates a new {@code DirectShortIndex}.
+	 * 
+	 * @param mem  an index memory
+	 * @param ord  an index order
+	 * @param dim  an index dimension
+	 * 
+	 * 
+	 * @see Memory
+	 */
+	public DirectShortIndex(Memory mem, Order ord, int... dim)
+	{
+		super(mem, 1, ord, dim);
+	}
+	
+	/**
+	 * Creates a new {@code DirectShortIndex}.
+	 * 
+	 * @param ord  an index order
+	 * @param dim  an index dimension
+	 */
+	public DirectShortIndex(Order ord, int... dim)
+	{
+		super(1, ord, dim);
+	}
+	
+	/**
+	 * Creates a new {@code DirectShortIndex}.
+	 * 
+	 * @param dim  an index dimension
+	 */
+	public DirectShortIndex(int... dim)
+	{
+		this(Order.COL_MAJOR, dim);
+	}
+	
+	/**
+	 * Changes the default value of the {@code DirectShortIndex}.
+	 * Values already stored in the index are left as is,
+	 * the new default is applied by subsequent
+	 * removals and {@link #clear()} calls.
+	 * 
+	 * @param def  a default value
+	 */
+	public void setDefault(short def)
+	{
+		empty = def;
+	}
+	
+	/**
+	 * Returns the default value of the {@code DirectShortIndex}.
+	 * 
+	 * @return  a default value
+	 */
+	public short Default()
+	{
+		return empty;
+	}
+	
+	
+	/**
+	 * Returns a primitive value at a long index.
+	 * 
+	 * @param idx  a long index
+	 * @return  an index value
+	 */
+	public final short getShortAt(long idx)
+	{
+		return Memory().getShort(toPosition(idx));
+	}
+	
+	/**
+	 * Changes a primitive value at a long index.
+	 * 
+	 * @param val  an index value
+	 * @param idx  a long index
+	 * @return  a previous index value
+	 */
+	public final short putShortAt(short val, long idx)
+	{
+		long pos = toPosition(idx);
+		short prev = Memory().getShort(pos);
+		Memory().putShort(pos, val);
+		return prev;
+	}
+	
+	
+	/**
+	 * Returns a primitive value from the {@code DirectShortIndex}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  an index value
+	 */
+	public short getShort(int... crds)
+	{
+		return getShortAt(toLong(crds));
+	}
+	
+	/**
+	 * Returns a three-dimensional primitive value from the {@code DirectShortIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  an index value
+	 */
+	public short getShort(int r, int c, int a)
+	{
+		return getShortAt(toLong(r, c, a));
+	}
+	
+	/**
+	 * Returns a two-dimensional primitive value from the {@code DirectShortIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  an index value
+	 */
+	public short getShort(int r, int c)
+	{
+		return getShortAt(toLong(r, c));
+	}
+	
+	/**
+	 * Returns a one-dimensional primitive value from the {@code DirectShortIndex}.
+	 * 
+	 * @param i  an index coordinate
+	 * @return  an index value
+	 */
+	public short getShort(int i)
+	{
+		return getShortAt(toLong(i));
+	}
+	
+	
+	/**
+	 * Changes a primitive value in the {@code DirectShortIndex}.
+	 * 
+	 * @param val   an index value
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public short putShort(short val, int... crds)
+	{
+		return putShortAt(val, toLong(crds));
+	}
+	
+	/**
+	 * Changes a three-dimensional primitive value in the {@code DirectShortIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @param a    an index aisle
+	 * @return  a previous index value
+	 */
+	public short putShort(short val, int r, int c, int a)
+	{
+		return putShortAt(val, toLong(r, c, a));
+	}
+	
+	/**
+	 * Changes a two-dimensional primitive value in the {@code DirectShortIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param r    an index row
+	 * @param c    an index column
+	 * @return  a previous index value
+	 */
+	public short putShort(short val, int r, int c)
+	{
+		return putShortAt(val, toLong(r, c));
+	}
+	
+	/**
+	 * Changes a one-dimensional primitive value in the {@code DirectShortIndex}.
+	 * 
+	 * @param val  an index value
+	 * @param i    an index coordinate
+	 * @return  a previous index value
+	 */
+	public short putShort(short val, int i)
+	{
+		return putShortAt(val, toLong(i));
+	}
+	
+	
+	/**
+	 * Removes a primitive value from the {@code DirectShortIndex}.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  a previous index value
+	 */
+	public short removeShort(int... crds)
+	{
+		return putShortAt(empty, toLong(crds));
+	}
+	
+	/**
+	 * Removes a three-dimensional primitive value from the {@code DirectShortIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @param a  an index aisle
+	 * @return  a previous index value
+	 */
+	public short removeShort(int r, int c, int a)
+	{
+		return putShortAt(empty, toLong(r, c, a));
+	}
+	
+	/**
+	 * Removes a two-dimensional primitive value from the {@code DirectShortIndex}.
+	 * 
+	 * @param r  an index row
+	 * @param c  an index column
+	 * @return  a previous index value
+	 */
+	public short removeShort(int r, int c)
+	{
+		return putShortAt(empty, toLong(r, c));
+	}
+	
+	
+	@Override
+	public Short get(int... crds)
+	{
+		return getShort(crds);
+	}
+	
+	@Override
+	public Short get(int r, int c, int a)
+	{
+		return getShort(r, c, a);
+	}
+	
+	@Override
+	public Short get(int r, int c)
+	{
+		return getShort(r, c);
+	}
+	
+	@Override
+	public Short get(int i)
+	{
+		return getShort(i);
+	}
+	
+	@Override
+	public Short put(Short val, int... crds)
+	{
+		if(val == null)
+		{
+			return removeShort(crds);
+		}
+		
+		return putShort(val, crds);
+	}
+	
+	@Override
+	public Short put(Short val, int r, int c, int a)
+	{
+		if(val == null)
+		{
+			return removeShort(r, c, a);
+		}
+		
+		return putShort(val, r, c, a);
+	}
+	
+	@Override
+	public Short put(Short val, int r, int c)
+	{
+		if(val == null)
+		{
+			return removeShort(r, c);
+		}
+		
+		return putShort(val, r, c);
+	}
+	
+	@Override
+	public Short put(Short val, int i)
+	{
+		if(val == null)
+		{
+			return putShort(empty, i);
+		}
+		
+		return putShort(val, i);
+	}
+	
+	@Override
+	public Short remove(int... crds)
+	{
+		return removeShort(crds);
+	}
+	
+	@Override
+	public Short remove(int r, int c, int a)
+	{
+		return removeShort(r, c, a);
+	}
+	
+	@Override
+	public Short remove(int r, int c)
+	{
+		return removeShort(r, c);
+	}
+	
+	@Override
+	public void clear()
+	{
+		super.clear();
+		if(empty != 0)
+		{
+			long count = LongCount();
+			for(long i = 0; i < count; i++)
+			{
+				putShortAt(empty, i);
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,538 @@
+package waffles.utils.sets.indexed.direct;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import waffles.utils.sets.indexed.Curves;
+import waffles.utils.sets.indexed.MutableIndex.Order;
+import waffles.utils.sets.indexed.array.ArrayLike;
+import waffles.utils.sets.indexed.array.Layout;
+import waffles.utils.sets.indexed.array.index.BitIndex;
+
+/**
+ * The {@code IndexFile} class persists dense indices in memory-mapped files.
+ * A file starts with a small little-endian header which stores the element type,
+ * the index order and the index dimensions, followed by the raw cell data.
+ * Opening a file maps its data directly into a {@code DirectIndex}, so no copying
+ * takes place and changes to the index are written straight to the page cache.
+ * The {@link DirectIndex#force()} method flushes these changes to the storage device.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see DirectIndex
+ * @see Memory
+ */
+public final class IndexFile
+{
+	private static final int MAGIC = 0x58444957;
+	private static final int VERSION = 1;
+	
+	/**
+	 * The {@code Type} enum defines the element types of an {@code IndexFile}.
+	 *
+	 * @author Waffles
+	 * @since 17 Oct 2026
+	 * @version 1.1
+	 */
+	public static enum Type
+	{
+		/**
+		 * A boolean element type, stored in one byte.
+		 */
+		BOOLEAN(0),
+		/**
+		 * A byte element type.
+		 */
+		BYTE(0),
+		/**
+		 * A short element type.
+		 */
+		SHORT(1),
+		/**
+		 * An integer element type.
+		 */
+		INTEGER(2),
+		/**
+		 * A long element type.
+		 */
+		LONG(3),
+		/**
+		 * A float element type.
+		 */
+		FLOAT(2),
+		/**
+		 * A double element type.
+		 */
+		DOUBLE(3);
+		
+		
+		/**
+		 * Returns the type of a primitive array.
+		 * 
+		 * @param arr  a primitive array
+		 * @return  an element type
+		 */
+		public static Type of(Object arr)
+		{
+			if(arr instanceof boolean[])
+				return BOOLEAN;
+			if(arr instanceof byte[])
+				return BYTE;
+			if(arr instanceof short[])
+				return SHORT;
+			if(arr instanceof int[])
+				return INTEGER;
+			if(arr instanceof long[])
+				return LONG;
+			if(arr instanceof float[])
+				return FLOAT;
+			if(arr instanceof double[])
+				return DOUBLE;
+			
+			return null;
+		}
+		
+		/**
+		 * Returns the type of a {@code DirectIndex}.
+		 * 
+		 * @param idx  a direct index
+		 * @return  an element type
+		 * 
+		 * 
+		 * @see DirectIndex
+		 */
+		public static Type of(DirectIndex<?> idx)
+		{
+			if(idx instanceof DirectBooleanIndex)
+				return BOOLEAN;
+			if(idx instanceof DirectByteIndex)
+				return BYTE;
+			if(idx instanceof DirectShortIndex)
+				return SHORT;
+			if(idx instanceof DirectIntegerIndex)
+				return INTEGER;
+			if(idx instanceof DirectLongIndex)
+				return LONG;
+			if(idx instanceof DirectFloatIndex)
+				return FLOAT;
+			if(idx instanceof DirectDoubleIndex)
+				return DOUBLE;
+			
+			return null;
+		}
+		
+		
+		private int shift;
+		
+		private Type(int sft)
+		{
+			shift = sft;
+		}
+		
+		/**
+		 * Creates a {@code DirectIndex} of the {@code Type}.
+		 * 
+		 * @param mem  an index memory
+		 * @param ord  an index order
+		 * @param dim  an index dimension
+		 * @return  a direct index
+		 * 
+		 * 
+		 * @see DirectIndex
+		 * @see Memory
+		 */
+		public DirectIndex<?> create(Memory mem, Order ord, int... dim)
+		{
+			switch(this)
+			{
+			case BOOLEAN:
+				return new DirectBooleanIndex(mem, ord, dim);
+			case BYTE:
+				return new DirectByteIndex(mem, ord, dim);
+			case SHORT:
+				return new DirectShortIndex(mem, ord, dim);
+			case INTEGER:
+				return new DirectIntegerIndex(mem, ord, dim);
+			case LONG:
+				return new DirectLongIndex(mem, ord, dim);
+			case FLOAT:
+				return new DirectFloatIndex(mem, ord, dim);
+			case DOUBLE:
+			default:
+				return new DirectDoubleIndex(mem, ord, dim);
+			}
+		}
+		
+		/**
+		 * Returns the cell width shift of the {@code Type}.
+		 * 
+		 * @return  a cell width shift
+		 */
+		public int Shift()
+		{
+			return shift;
+		}
+	}
+	
+	
+	/**
+	 * Creates a new file-backed {@code DirectIndex}.
+	 * If the file already exists, it is overwritten.
+	 * 
+	 * @param file  a file path
+	 * @param type  an element type
+	 * @param ord   an index order
+	 * @param dim   an index dimension
+	 * @return  a mapped index
+	 * @throws IOException  if the file could not be created
+	 * @throws IllegalArgumentException  if the order is curved
+	 * 
+	 * 
+	 * @see DirectIndex
+	 */
+	public static DirectIndex<?> create(Path file, Type type, Order ord, int... dim) throws IOException
+	{
+		// Check before writing the file.
+		if(Curves.isCurved(ord))
+		{
+			throw new IllegalArgumentException("Index files do not support curved orders.");
+		}
+		
+		int head = headerSize(dim.length);
+		long size = DirectIndex.count(dim) << type.Shift();
+		try(FileChannel ch = FileChannel.open(file,
+				StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.READ,
+				StandardOpenOption.WRITE))
+		{
+			ByteBuffer hdr = ByteBuffer.allocate(head);
+			hdr.order(ByteOrder.LITTLE_ENDIAN);
+			hdr.putInt(MAGIC);
+			hdr.putInt(VERSION);
+			hdr.putInt(type.ordinal());
+			hdr.putInt(ord.ordinal());
+			hdr.putInt(dim.length);
+			for(int d : dim)
+			{
+				hdr.putInt(d);
+			}
+			
+			hdr.clear();
+			while(hdr.hasRemaining())
+			{
+				ch.write(hdr);
+			}
+			
+			Memory mem = Memory.map(ch, MapMode.READ_WRITE, head, size);
+			return type.create(mem, ord, dim.clone());
+		}
+	}
+	
+	/**
+	 * Opens an existing file-backed {@code DirectIndex}.
+	 * The index data is mapped from the file without copying.
+	 * If the file does not hold a valid index, null is returned.
+	 * 
+	 * @param file  a file path
+	 * @param rw    a read-write flag
+	 * @return  a mapped index
+	 * @throws IOException  if the file could not be read
+	 * 
+	 * 
+	 * @see DirectIndex
+	 */
+	public static DirectIndex<?> open(Path file, boolean rw) throws IOException
+	{
+		StandardOpenOption[] opts = rw
+			? new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE}
+			: new StandardOpenOption[]{StandardOpenOption.READ};
+		
+		try(FileChannel ch = FileChannel.open(file, opts))
+		{
+			ByteBuffer hdr = ByteBuffer.allocate(20);
+			hdr.order(ByteOrder.LITTLE_ENDIAN);
+			if(!read(ch, hdr, 0))
+			{
+				return null;
+			}
+			
+			if(hdr.getInt() != MAGIC || hdr.getInt() != VERSION)
+			{
+				return null;
+			}
+			
+			int t = hdr.getInt();
+			int o = hdr.getInt();
+			int n = hdr.getInt();
+			if(t < 0 || Type.values().length <= t
+			|| o < 0 || Order.values().length <= o
+			|| n < 0)
+			{
+				return null;
+			}
+			
+			ByteBuffer dims = ByteBuffer.allocate(4 * n);
+			dims.order(ByteOrder.LITTLE_ENDIAN);
+			if(!read(ch, dims, 20))
+			{
+				return null;
+			}
+			
+			int[] dim = new int[n];
+			for(int i = 0; i < n; i++)
+			{
+				dim[i] = dims.getInt();
+			}
+			
+			Type type = Type.values()[t];
+			Order ord = Order.values()[o];
+			if(Curves.isCurved(ord))
+			{
+				return null;
+			}
+			
+			int head = headerSize(n);
+			long size = DirectIndex.count(dim) << type.Shift();
+			if(ch.size() < head + size)
+			{
+				return null;
+			}
+			
+			MapMode mode = rw ? MapMode.READ_WRITE : MapMode.READ_ONLY;
+			Memory mem = Memory.map(ch, mode, head, size);
+			return type.create(mem, ord, dim);
+		}
+	}
+	
+	/**
+	 * Opens an existing file-backed {@code DirectIndex} for reading and writing.
+	 * 
+	 * @param file  a file path
+	 * @return  a mapped index
+	 * @throws IOException  if the file could not be read
+	 * 
+	 * 
+	 * @see DirectIndex
+	 */
+	public static DirectIndex<?> open(Path file) throws IOException
+	{
+		return open(file, true);
+	}
+	
+	/**
+	 * Saves a primitive {@code ArrayLike} to a file.
+	 * Dense arrays are copied in bulk, other layouts are
+	 * copied one cell at a time. The returned index remains
+	 * mapped to the file and should be closed after use.
+	 * A bit-packed {@code BitIndex} is saved as booleans,
+	 * and arrays ordered along a curve are saved column-major.
+	 * If the array is not primitive, null is returned.
+	 * 
+	 * @param file  a file path
+	 * @param arr   a primitive array
+	 * @return  a mapped index
+	 * @throws IOException  if the file could not be written
+	 * 
+	 * 
+	 * @see ArrayLike
+	 * @see DirectIndex
+	 */
+	public static DirectIndex<?> save(Path file, ArrayLike<?, ?> arr) throws IOException
+	{
+		// Packed words are not addressed per cell.
+		if(arr instanceof BitIndex)
+		{
+			return save(file, (BitIndex) arr);
+		}
+		
+		Type type = Type.of(arr.Array());
+		if(type == null)
+		{
+			return null;
+		}
+		
+		Layout lay = arr.Layout();
+		Order ord = fileOrder(arr.Ordering());
+		DirectIndex<?> idx = create(file, type, ord, arr.Dimensions().clone());
+		if(lay.isDense() && ord == arr.Ordering())
+		{
+			copy(arr.Array(), idx.Memory(), type, lay.Count());
+		}
+		else
+		{
+			@SuppressWarnings("unchecked")
+			DirectIndex<Object> tgt = (DirectIndex<Object>) idx;
+			for(int[] crd : arr.Keys())
+			{
+				tgt.put(arr.get(crd), crd);
+			}
+		}
+		
+		idx.force();
+		return idx;
+	}
+	
+	/**
+	 * Saves a {@code BitIndex} to a boolean file.
+	 * Only its set bits are written, since a new file
+	 * starts out cleared. The returned index remains
+	 * mapped to the file and should be closed after use.
+	 * 
+	 * @param file  a file path
+	 * @param src   a source index
+	 * @return  a mapped index
+	 * @throws IOException  if the file could not be written
+	 * 
+	 * 
+	 * @see DirectBooleanIndex
+	 * @see BitIndex
+	 */
+	public static DirectBooleanIndex save(Path file, BitIndex src) throws IOException
+	{
+		DirectIndex<?> idx = create(file, Type.BOOLEAN, fileOrder(src.Ordering()), src.Dimensions().clone());
+		DirectBooleanIndex tgt = (DirectBooleanIndex) idx;
+		for(int[] crd : src.Ones())
+		{
+			tgt.putBoolean(true, crd);
+		}
+		
+		tgt.force();
+		return tgt;
+	}
+	
+	/**
+	 * Saves a {@code DirectIndex} to a file.
+	 * The returned index remains mapped to
+	 * the file and should be closed after use.
+	 * 
+	 * @param file  a file path
+	 * @param src   a source index
+	 * @return  a mapped index
+	 * @throws IOException  if the file could not be written
+	 * 
+	 * 
+	 * @see DirectIndex
+	 */
+	public static DirectIndex<?> save(Path file, DirectIndex<?> src) throws IOException
+	{
+		Type type = Type.of(src);
+		DirectIndex<?> idx = create(file, type, src.Ordering(), src.Dimensions().clone());
+		
+		ByteBuffer[] tgts = idx.Memory().Chunks();
+		ByteBuffer[] srcs = src.Memory().Chunks();
+		if(srcs.length == 0 || srcs[0].order() == tgts[0].order())
+		{
+			for(int i = 0; i < tgts.length; i++)
+			{
+				ByteBuffer s = srcs[i].duplicate();
+				ByteBuffer t = tgts[i].duplicate();
+				s.clear(); t.clear();
+				t.put(s);
+			}
+		}
+		else
+		{
+			@SuppressWarnings("unchecked")
+			DirectIndex<Object> tgt = (DirectIndex<Object>) idx;
+			for(int[] crd : src.Keys())
+			{
+				tgt.put(src.get(crd), crd);
+			}
+		}
+		
+		idx.force();
+		return idx;
+	}
+	
+	
+	private static Order fileOrder(Order ord)
+	{
+		// Curved arrays are saved column-major.
+		if(Curves.isCurved(ord))
+		{
+			return Order.COL_MAJOR;
+		}
+		
+		return ord;
+	}
+	
+	private static int headerSize(int dims)
+	{
+		int size = 20 + 4 * dims;
+		return (size + 7) & ~7;
+	}
+	
+	private static boolean read(FileChannel ch, ByteBuffer buf, long pos) throws IOException
+	{
+		while(buf.hasRemaining())
+		{
+			int n = ch.read(buf, pos + buf.position());
+			if(n < 0)
+			{
+				return false;
+			}
+		}
+		
+		buf.flip();
+		return true;
+	}
+	
+	private static void copy(Object arr, Memory mem, Type type, int count)
+	{
+		int off = 0;
+		for(ByteBuffer chunk : mem.Chunks())
+		{
+			ByteBuffer buf = chunk.duplicate();
+			buf.order(chunk.order());
+			buf.clear();
+			
+			int len = Math.min(count - off, buf.capacity() >> type.Shift());
+			switch(type)
+			{
+			case BOOLEAN:
+				boolean[] bools = (boolean[]) arr;
+				for(int i = 0; i < len; i++)
+				{
+					buf.put((byte) (bools[off + i] ? 1 : 0));
+				}
+				
+				break;
+			case BYTE:
+				buf.put((byte[]) arr, off, len);
+				break;
+			case SHORT:
+				buf.asShortBuffer().put((short[]) arr, off, len);
+				break;
+			case INTEGER:
+				buf.asIntBuffer().put((int[]) arr, off, len);
+				break;
+			case LONG:
+				buf.asLongBuffer().put((long[]) arr, off, len);
+				break;
+			case FLOAT:
+				buf.asFloatBuffer().put((float[]) arr, off, len);
+				break;
+			case DOUBLE:
+				buf.asDoubleBuffer().put((double[]) arr, off, len);
+				break;
+			}
+			
+			off += len;
+		}
+	}
+	
+	
+	private IndexFile()
+	{
+		// NOT APPLICABLE
+	}
+}
\ No newline at end of file
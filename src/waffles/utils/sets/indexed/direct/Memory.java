@@ -0,0 +1,332 @@
+package waffles.utils.sets.indexed.direct;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * A {@code Memory} defines a block of off-heap memory with long-based addressing.
+ * The memory is split into direct {@code ByteBuffer} chunks of one gigabyte,
+ * which allows its size to exceed the limits of a single Java array or buffer.
+ * Chunks are aligned on eight bytes, so a primitive value never crosses two chunks.
+ * Once a {@code Memory} is closed, it drops its buffers and can no longer be used.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see AutoCloseable
+ * @see ByteBuffer
+ */
+public class Memory implements AutoCloseable
+{
+	private static final int SHIFT = 30;
+	private static final long CHUNK = 1L << SHIFT;
+	private static final long MASK = CHUNK - 1;
+	
+	/**
+	 * Allocates a new direct {@code Memory}.
+	 * 
+	 * @param size  a memory size in bytes
+	 * @return  a new memory block
+	 */
+	public static Memory allocate(long size)
+	{
+		int count = (int) ((size + MASK) >>> SHIFT);
+		ByteBuffer[] chunks = new ByteBuffer[count];
+		for(int i = 0; i < count; i++)
+		{
+			long rem = size - i * CHUNK;
+			int len = (int) Math.min(rem, CHUNK);
+			chunks[i] = ByteBuffer.allocateDirect(len);
+		}
+		
+		return new Memory(size, chunks);
+	}
+	
+	/**
+	 * Maps a region of a file into a new {@code Memory}.
+	 * The mapped memory uses little-endian byte order,
+	 * so its contents do not depend on the platform.
+	 * 
+	 * @param file  a file channel
+	 * @param mode  a file map mode
+	 * @param pos   a file position
+	 * @param size  a memory size in bytes
+	 * @return  a mapped memory block
+	 * @throws IOException  if the file could not be mapped
+	 * 
+	 * 
+	 * @see FileChannel
+	 * @see MapMode
+	 */
+	public static Memory map(FileChannel file, MapMode mode, long pos, long size) throws IOException
+	{
+		int count = (int) ((size + MASK) >>> SHIFT);
+		ByteBuffer[] chunks = new ByteBuffer[count];
+		for(int i = 0; i < count; i++)
+		{
+			long rem = size - i * CHUNK;
+			long len = Math.min(rem, CHUNK);
+			chunks[i] = file.map(mode, pos + i * CHUNK, len);
+		}
+		
+		return new Memory(size, ByteOrder.LITTLE_ENDIAN, chunks);
+	}
+	
+	
+	private long size;
+	private ByteBuffer[] chunks;
+	
+	/**
+	 * Creates a new {@code Memory}.
+	 * Every chunk except the last is expected
+	 * to span exactly one gigabyte.
+	 * 
+	 * @param size    a memory size in bytes
+	 * @param chunks  a set of memory chunks
+	 * 
+	 * 
+	 * @see ByteBuffer
+	 */
+	public Memory(long size, ByteBuffer... chunks)
+	{
+		this(size, ByteOrder.nativeOrder(), chunks);
+	}
+	
+	/**
+	 * Creates a new {@code Memory}.
+	 * Every chunk except the last is expected
+	 * to span exactly one gigabyte.
+	 * 
+	 * @param size    a memory size in bytes
+	 * @param order   a memory byte order
+	 * @param chunks  a set of memory chunks
+	 * 
+	 * 
+	 * @see ByteBuffer
+	 * @see ByteOrder
+	 */
+	public Memory(long size, ByteOrder order, ByteBuffer... chunks)
+	{
+		this.size = size;
+		this.chunks = chunks;
+		for(ByteBuffer chunk : chunks)
+		{
+			chunk.order(order);
+		}
+	}
+	
+	
+	/**
+	 * Returns a byte from the {@code Memory}.
+	 * 
+	 * @param pos  a byte position
+	 * @return  a byte value
+	 */
+	public byte getByte(long pos)
+	{
+		return chunks[(int) (pos >>> SHIFT)].get((int) (pos & MASK));
+	}
+	
+	/**
+	 * Returns a short from the {@code Memory}.
+	 * 
+	 * @param pos  a byte position
+	 * @return  a short value
+	 */
+	public short getShort(long pos)
+	{
+		return chunks[(int) (pos >>> SHIFT)].getShort((int) (pos & MASK));
+	}
+	
+	/**
+	 * Returns an integer from the {@code Memory}.
+	 * 
+	 * @param pos  a byte position
+	 * @return  an integer value
+	 */
+	public int getInt(long pos)
+	{
+		return chunks[(int) (pos >>> SHIFT)].getInt((int) (pos & MASK));
+	}
+	
+	/**
+	 * Returns a long from the {@code Memory}.
+	 * 
+	 * @param pos  a byte position
+	 * @return  a long value
+	 */
+	public long getLong(long pos)
+	{
+		return chunks[(int) (pos >>> SHIFT)].getLong((int) (pos & MASK));
+	}
+	
+	/**
+	 * Returns a float from the {@code Memory}.
+	 * 
+	 * @param pos  a byte position
+	 * @return  a float value
+	 */
+	public float getFloat(long pos)
+	{
+		return chunks[(int) (pos >>> SHIFT)].getFloat((int) (pos & MASK));
+	}
+	
+	/**
+	 * Returns a double from the {@code Memory}.
+	 * 
+	 * @param pos  a byte position
+	 * @return  a double value
+	 */
+	public double getDouble(long pos)
+	{
+		return chunks[(int) (pos >>> SHIFT)].getDouble((int) (pos & MASK));
+	}
+	
+	
+	/**
+	 * Changes a byte in the {@code Memory}.
+	 * 
+	 * @param pos  a byte position
+	 * @param val  a byte value
+	 */
+	public void putByte(long pos, byte val)
+	{
+		chunks[(int) (pos >>> SHIFT)].put((int) (pos & MASK), val);
+	}
+	
+	/**
+	 * Changes a short in the {@code Memory}.
+	 * 
+	 * @param pos  a byte position
+	 * @param val  a short value
+	 */
+	public void putShort(long pos, short val)
+	{
+		chunks[(int) (pos >>> SHIFT)].putShort((int) (pos & MASK), val);
+	}
+	
+	/**
+	 * Changes an integer in the {@code Memory}.
+	 * 
+	 * @param pos  a byte position
+	 * @param val  an integer value
+	 */
+	public void putInt(long pos, int val)
+	{
+		chunks[(int) (pos >>> SHIFT)].putInt((int) (pos & MASK), val);
+	}
+	
+	/**
+	 * Changes a long in the {@code Memory}.
+	 * 
+	 * @param pos  a byte position
+	 * @param val  a long value
+	 */
+	public void putLong(long pos, long val)
+	{
+		chunks[(int) (pos >>> SHIFT)].putLong((int) (pos & MASK), val);
+	}
+	
+	/**
+	 * Changes a float in the {@code Memory}.
+	 * 
+	 * @param pos  a byte position
+	 * @param val  a float value
+	 */
+	public void putFloat(long pos, float val)
+	{
+		chunks[(int) (pos >>> SHIFT)].putFloat((int) (pos & MASK), val);
+	}
+	
+	/**
+	 * Changes a double in the {@code Memory}.
+	 * 
+	 * @param pos  a byte position
+	 * @param val  a double value
+	 */
+	public void putDouble(long pos, double val)
+	{
+		chunks[(int) (pos >>> SHIFT)].putDouble((int) (pos & MASK), val);
+	}
+	
+	
+	/**
+	 * Resets every byte in the {@code Memory} to zero.
+	 */
+	public void clear()
+	{
+		byte[] zero = new byte[8192];
+		for(ByteBuffer chunk : chunks)
+		{
+			ByteBuffer dup = chunk.duplicate();
+			dup.clear();
+			while(dup.hasRemaining())
+			{
+				int len = Math.min(zero.length, dup.remaining());
+				dup.put(zero, 0, len);
+			}
+		}
+	}
+	
+	/**
+	 * Writes any changes to file-mapped chunks of the {@code Memory}
+	 * back to their storage device. Chunks that are not mapped
+	 * from a file are left untouched.
+	 */
+	public void force()
+	{
+		for(ByteBuffer chunk : chunks)
+		{
+			if(chunk instanceof MappedByteBuffer)
+			{
+				((MappedByteBuffer) chunk).force();
+			}
+		}
+	}
+	
+	/**
+	 * Returns the chunks of the {@code Memory}.
+	 * 
+	 * @return  a chunk array
+	 * 
+	 * 
+	 * @see ByteBuffer
+	 */
+	public ByteBuffer[] Chunks()
+	{
+		return chunks;
+	}
+	
+	/**
+	 * Checks if the {@code Memory} has been closed.
+	 * 
+	 * @return  {@code true} if the memory is closed
+	 */
+	public boolean isClosed()
+	{
+		return chunks == null;
+	}
+	
+	/**
+	 * Returns the size of the {@code Memory}.
+	 * 
+	 * @return  a size in bytes
+	 */
+	public long Size()
+	{
+		return size;
+	}
+	
+	
+	@Override
+	public void close()
+	{
+		chunks = null;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,463 @@
+package waffles.utils.sets.indexed.hash;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+
+import waffles.utils.sets.indexed.MutableIndex;
+
+/**
+ * A {@code HashIndex} implements a sparse {@code MutableIndex} in an open-addressing hash table.
+ * Every occupied cell is stored as a primitive long key next to its value, without any boxing.
+ * Keys are linear indices computed with long strides, or interleaved Morton codes for an index
+ * in {@link Order#Z_ORDER}, so the logical size of the index may exceed the integer range.
+ * Morton codes interleave up to 63 bits, i.e. 21 bits per axis in three dimensions.
+ * Collisions are resolved with linear probing, and removals shift the following entries back,
+ * so the table never fills up with deleted markers. This structure is useful for a large
+ * index with only few values, where it provides constant time access.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @param <O>  an object type
+ * @see MutableIndex
+ */
+public class HashIndex<O> implements MutableIndex<O>
+{
+	private static final long EMPTY = -1L;
+	private static final long PHI = 0x9E3779B97F4A7C15L;
+	private static final int CAPACITY = 16;
+	
+	
+	private Order order;
+	private int[] dimension;
+	private long[] stride;
+	
+	private int count, shift;
+	private Object[] values;
+	private long[] keys;
+
+	/**
+	 * Creates a new {@code HashIndex}.
+	 * 
+	 * @param dim  an index dimension
+	 */
+	public HashIndex(int... dim)
+	{
+		this(Order.COL_MAJOR, dim);
+	}
+	
+	/**
+	 * Creates a new {@code HashIndex}.
+	 * Orders other than row-major or Z-order
+	 * produce column-major keys.
+	 * 
+	 * @param ord  an index order
+	 * @param dim  an index dimension
+	 */
+	public HashIndex(Order ord, int... dim)
+	{
+		order = ord;
+		dimension = dim;
+		stride = new long[dim.length];
+		
+		long step = 1;
+		for(int k = 0; k < dim.length; k++)
+		{
+			int i = ord == Order.ROW_MAJOR ? dim.length - 1 - k : k;
+			stride[i] = step;
+			step *= dim[i];
+		}
+		
+		resize(CAPACITY);
+	}
+	
+	
+	/**
+	 * Converts a set of coordinates into a long key.
+	 * 
+	 * @param crds  an index coordinate
+	 * @return  a long key
+	 */
+	public long toKey(int... crds)
+	{
+		if(order == Order.Z_ORDER)
+		{
+			return toMorton(crds);
+		}
+		
+		long key = 0;
+		for(int i = 0; i < stride.length; i++)
+		{
+			key += crds[i] * stride[i];
+		}
+		
+		return key;
+	}
+	
+	/**
+	 * Converts a long key into a set of coordinates.
+	 * 
+	 * @param key  a long key
+	 * @return  an index coordinate
+	 */
+	public int[] toCoord(long key)
+	{
+		int[] crds = new int[dimension.length];
+		if(order == Order.Z_ORDER)
+		{
+			fromMorton(key, crds);
+			return crds;
+		}
+		
+		for(int k = 0; k < dimension.length; k++)
+		{
+			int i = order == Order.ROW_MAJOR ? dimension.length - 1 - k : k;
+			crds[i] = (int) (key % dimension[i]);
+			key /= dimension[i];
+		}
+		
+		return crds;
+	}
+	
+	/**
+	 * Returns a value at a long key.
+	 * 
+	 * @param key  a long key
+	 * @return  an index value
+	 */
+	@SuppressWarnings("unchecked")
+	public O getAt(long key)
+	{
+		int slot = find(key);
+		if(slot < 0)
+		{
+			return null;
+		}
+		
+		return (O) values[slot];
+	}
+	
+	/**
+	 * Changes a value at a long key.
+	 * Putting a null value removes the key.
+	 * 
+	 * @param val  an index value
+	 * @param key  a long key
+	 * @return  a previous index value
+	 */
+	@SuppressWarnings("unchecked")
+	public O putAt(O val, long key)
+	{
+		if(val == null)
+		{
+			return removeAt(key);
+		}
+		
+		int mask = keys.length - 1;
+		int slot = hash(key);
+		while(keys[slot] != EMPTY)
+		{
+			if(keys[slot] == key)
+			{
+				O prev = (O) values[slot];
+				values[slot] = val;
+				return prev;
+			}
+			
+			slot = (slot + 1) & mask;
+		}
+		
+		keys[slot] = key;
+		values[slot] = val;
+		// Keep the load factor below three quarters.
+		if(4 * ++count > 3 * keys.length)
+		{
+			resize(2 * keys.length);
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Removes a value at a long key.
+	 * 
+	 * @param key  a long key
+	 * @return  a previous index value
+	 */
+	@SuppressWarnings("unchecked")
+	public O removeAt(long key)
+	{
+		int slot = find(key);
+		if(slot < 0)
+		{
+			return null;
+		}
+		
+		O prev = (O) values[slot];
+		
+		int mask = keys.length - 1;
+		int next = (slot + 1) & mask;
+		// Shift back the entries which probed past the slot.
+		while(keys[next] != EMPTY)
+		{
+			int home = hash(keys[next]);
+			if(((next - home) & mask) >= ((next - slot) & mask))
+			{
+				keys[slot] = keys[next];
+				values[slot] = values[next];
+				slot = next;
+			}
+			
+			next = (next + 1) & mask;
+		}
+		
+		keys[slot] = EMPTY;
+		values[slot] = null;
+		count--;
+		return prev;
+	}
+	
+	/**
+	 * Checks if the {@code HashIndex} stores a value at a long key.
+	 * 
+	 * @param key  a long key
+	 * @return  {@code true} if the key is stored
+	 */
+	public boolean contains(long key)
+	{
+		return find(key) >= 0;
+	}
+	
+	/**
+	 * Returns the amount of values stored in the {@code HashIndex}.
+	 * 
+	 * @return  an entry count
+	 */
+	public int Entries()
+	{
+		return count;
+	}
+	
+	
+	/**
+	 * Iterates over the long keys of the {@code HashIndex}.
+	 * 
+	 * @return  a long key iterator
+	 * 
+	 * 
+	 * @see PrimitiveIterator
+	 */
+	public PrimitiveIterator.OfLong LongKeys()
+	{
+		return new PrimitiveIterator.OfLong()
+		{
+			private int slot = nextSlot(-1);
+			
+			@Override
+			public boolean hasNext()
+			{
+				return slot < keys.length;
+			}
+			
+			@Override
+			public long nextLong()
+			{
+				long key = keys[slot];
+				slot = nextSlot(slot);
+				return key;
+			}
+		};
+	}
+	
+	/**
+	 * Iterates over the coordinates of the {@code HashIndex}.
+	 * 
+	 * @return  a key iterable
+	 * 
+	 * 
+	 * @see Iterable
+	 */
+	public Iterable<int[]> Keys()
+	{
+		return () -> new Iterator<int[]>()
+		{
+			private PrimitiveIterator.OfLong keys = LongKeys();
+			
+			@Override
+			public boolean hasNext()
+			{
+				return keys.hasNext();
+			}
+			
+			@Override
+			public int[] next()
+			{
+				return toCoord(keys.nextLong());
+			}
+		};
+	}
+	
+	/**
+	 * Iterates over the values of the {@code HashIndex}.
+	 * 
+	 * @return  a value iterable
+	 * 
+	 * 
+	 * @see Iterable
+	 */
+	public Iterable<O> Values()
+	{
+		return () -> new Iterator<O>()
+		{
+			private int slot = nextSlot(-1);
+			
+			@Override
+			public boolean hasNext()
+			{
+				return slot < keys.length;
+			}
+			
+			@Override
+			@SuppressWarnings("unchecked")
+			public O next()
+			{
+				O val = (O) values[slot];
+				slot = nextSlot(slot);
+				return val;
+			}
+		};
+	}
+	
+	
+	private int hash(long key)
+	{
+		return (int) ((key * PHI) >>> shift);
+	}
+	
+	private int find(long key)
+	{
+		int mask = keys.length - 1;
+		int slot = hash(key);
+		while(keys[slot] != EMPTY)
+		{
+			if(keys[slot] == key)
+			{
+				return slot;
+			}
+			
+			slot = (slot + 1) & mask;
+		}
+		
+		return -1;
+	}
+	
+	private int nextSlot(int slot)
+	{
+		while(++slot < keys.length)
+		{
+			if(keys[slot] != EMPTY)
+			{
+				break;
+			}
+		}
+		
+		return slot;
+	}
+	
+	private void resize(int cap)
+	{
+		long[] oKeys = keys;
+		Object[] oVals = values;
+		
+		keys = new long[cap];
+		values = new Object[cap];
+		shift = 64 - Integer.numberOfTrailingZeros(cap);
+		Arrays.fill(keys, EMPTY);
+		if(oKeys == null)
+		{
+			return;
+		}
+		
+		int mask = cap - 1;
+		for(int i = 0; i < oKeys.length; i++)
+		{
+			if(oKeys[i] != EMPTY)
+			{
+				int slot = hash(oKeys[i]);
+				while(keys[slot] != EMPTY)
+				{
+					slot = (slot + 1) & mask;
+				}
+				
+				keys[slot] = oKeys[i];
+				values[slot] = oVals[i];
+			}
+		}
+	}
+	
+	private long toMorton(int[] crds)
+	{
+		long key = 0;
+		int pos = 0;
+		for(int b = 0; b < 31 && pos < 63; b++)
+		{
+			for(int i = 0; i < crds.length && pos < 63; i++)
+			{
+				key |= ((long) (crds[i] >>> b) & 1) << pos++;
+			}
+		}
+		
+		return key;
+	}
+	
+	private void fromMorton(long key, int[] crds)
+	{
+		int pos = 0;
+		for(int b = 0; b < 31 && pos < 63; b++)
+		{
+			for(int i = 0; i < crds.length && pos < 63; i++)
+			{
+				crds[i] |= (int) ((key >>> pos++) & 1) << b;
+			}
+		}
+	}
+	
+	
+	@Override
+	public void clear()
+	{
+		// Drop the table before resizing,
+		// so no entries are carried over.
+		keys = null;
+		values = null;
+		count = 0;
+		resize(CAPACITY);
+	}
+	
+	@Override
+	public O get(int... crds)
+	{
+		return getAt(toKey(crds));
+	}
+	
+	@Override
+	public O put(O val, int... crds)
+	{
+		return putAt(val, toKey(crds));
+	}
+	
+	@Override
+	public O remove(int... crds)
+	{
+		return removeAt(toKey(crds));
+	}
+
+	@Override
+	public int[] Dimensions()
+	{
+		return dimension;
+	}
+}
\ No newline at end of file
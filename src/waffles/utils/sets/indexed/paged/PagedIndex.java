@@ -0,0 +1,437 @@
+package waffles.utils.sets.indexed.paged;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+
+import waffles.utils.sets.indexed.MutableIndex;
+import waffles.utils.sets.indexed.array.list.LongList;
+import waffles.utils.sets.indexed.hash.HashIndex;
+
+/**
+ * A {@code PagedIndex} implements a sparse {@code MutableIndex} as a set of dense pages.
+ * The coordinate space is split into cubic pages with a power-of-two edge, which are
+ * stored in a {@code HashIndex} directory. A page is allocated on the first write
+ * into its cells, and released as soon as its last value is removed. Iteration
+ * and region queries only visit allocated pages, so access within a page runs
+ * at dense array speed, while empty space costs no memory.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @param <O>  an object type
+ * @see MutableIndex
+ * @see HashIndex
+ */
+public class PagedIndex<O> implements MutableIndex<O>
+{
+	private static class Page
+	{
+		private Object[] data;
+		private int count;
+		
+		public Page(int size)
+		{
+			data = new Object[size];
+		}
+	}
+	
+	
+	private int bits, mask;
+	private int[] dimension, grid;
+	private HashIndex<Page> pages;
+	private long[] stride;
+	private int entries;
+	
+	/**
+	 * Creates a new {@code PagedIndex}.
+	 * Every page spans {@code 2^bits} cells
+	 * along each axis of the index.
+	 * 
+	 * @param bits  a page edge exponent
+	 * @param dim   an index dimension
+	 */
+	public PagedIndex(int bits, int[] dim)
+	{
+		this.bits = bits;
+		mask = (1 << bits) - 1;
+		dimension = dim;
+		
+		long step = 1;
+		grid = new int[dim.length];
+		stride = new long[dim.length];
+		for(int i = 0; i < dim.length; i++)
+		{
+			grid[i] = (dim[i] + mask) >> bits;
+			stride[i] = step;
+			step *= grid[i];
+		}
+		
+		pages = new HashIndex<>(grid);
+	}
+	
+	/**
+	 * Creates a new {@code PagedIndex}.
+	 * Every page spans 16 cells along
+	 * each axis of the index.
+	 * 
+	 * @param dim  an index dimension
+	 */
+	public PagedIndex(int... dim)
+	{
+		this(4, dim);
+	}
+	
+	
+	/**
+	 * Returns the amount of values stored in the {@code PagedIndex}.
+	 * 
+	 * @return  an entry count
+	 */
+	public int Entries()
+	{
+		return entries;
+	}
+	
+	/**
+	 * Returns the amount of allocated pages in the {@code PagedIndex}.
+	 * 
+	 * @return  a page count
+	 */
+	public int Pages()
+	{
+		return pages.Entries();
+	}
+	
+	/**
+	 * Iterates over the coordinates of the stored values.
+	 * 
+	 * @return  a key iterable
+	 * 
+	 * 
+	 * @see Iterable
+	 */
+	public Iterable<int[]> Keys()
+	{
+		return Keys(Minimum(), Maximum());
+	}
+	
+	/**
+	 * Iterates over the coordinates of the stored values in a region.
+	 * Only pages which intersect the region are visited.
+	 * 
+	 * @param min  a minimum coordinate
+	 * @param max  a maximum coordinate
+	 * @return  a key iterable
+	 * 
+	 * 
+	 * @see Iterable
+	 */
+	public Iterable<int[]> Keys(int[] min, int[] max)
+	{
+		return () -> new Cells(min, max);
+	}
+	
+	/**
+	 * Iterates over the stored values.
+	 * 
+	 * @return  a value iterable
+	 * 
+	 * 
+	 * @see Iterable
+	 */
+	public Iterable<O> Values()
+	{
+		return Values(Minimum(), Maximum());
+	}
+	
+	/**
+	 * Iterates over the stored values in a region.
+	 * Only pages which intersect the region are visited.
+	 * 
+	 * @param min  a minimum coordinate
+	 * @param max  a maximum coordinate
+	 * @return  a value iterable
+	 * 
+	 * 
+	 * @see Iterable
+	 */
+	public Iterable<O> Values(int[] min, int[] max)
+	{
+		return () -> new Iterator<O>()
+		{
+			private Cells cells = new Cells(min, max);
+			
+			@Override
+			public boolean hasNext()
+			{
+				return cells.hasNext();
+			}
+			
+			@Override
+			public O next()
+			{
+				return get(cells.next());
+			}
+		};
+	}
+	
+	
+	private long pageOf(int[] crds)
+	{
+		long key = 0;
+		for(int i = 0; i < crds.length; i++)
+		{
+			key += (crds[i] >> bits) * stride[i];
+		}
+		
+		return key;
+	}
+	
+	private int cellOf(int[] crds)
+	{
+		int cell = 0;
+		for(int i = 0; i < crds.length; i++)
+		{
+			cell |= (crds[i] & mask) << (bits * i);
+		}
+		
+		return cell;
+	}
+	
+	private LongList pagesIn(int[] min, int[] max)
+	{
+		long count = 1;
+		int[] pMin = new int[grid.length];
+		int[] pMax = new int[grid.length];
+		for(int i = 0; i < grid.length; i++)
+		{
+			pMin[i] = Math.max(0, min[i]) >> bits;
+			pMax[i] = Math.min(dimension[i] - 1, max[i]) >> bits;
+			count *= Math.max(0, pMax[i] - pMin[i] + 1);
+		}
+		
+		LongList list = new LongList();
+		if(count == 0)
+		{
+			return list;
+		}
+		
+		// Scan whichever is smaller, the region or the directory.
+		if(count <= pages.Entries())
+		{
+			int[] pc = pMin.clone();
+			while(true)
+			{
+				long key = 0;
+				for(int i = 0; i < pc.length; i++)
+				{
+					key += pc[i] * stride[i];
+				}
+				
+				if(pages.contains(key))
+				{
+					list.addLong(key);
+				}
+				
+				int i = 0;
+				while(i < pc.length && ++pc[i] > pMax[i])
+				{
+					pc[i] = pMin[i];
+					i++;
+				}
+				
+				if(i == pc.length)
+				{
+					return list;
+				}
+			}
+		}
+		
+		PrimitiveIterator.OfLong keys = pages.LongKeys();
+		while(keys.hasNext())
+		{
+			long key = keys.nextLong();
+			int[] pc = pages.toCoord(key);
+			boolean inside = true;
+			for(int i = 0; i < pc.length; i++)
+			{
+				if(pc[i] < pMin[i] || pMax[i] < pc[i])
+				{
+					inside = false;
+					break;
+				}
+			}
+			
+			if(inside)
+			{
+				list.addLong(key);
+			}
+		}
+		
+		return list;
+	}
+	
+	private class Cells implements Iterator<int[]>
+	{
+		private int[] min, max, next, base;
+		private LongList keys;
+		private Page page;
+		private int p, c;
+		
+		public Cells(int[] min, int[] max)
+		{
+			this.min = min;
+			this.max = max;
+			keys = pagesIn(min, max);
+			next = new int[dimension.length];
+			base = new int[dimension.length];
+			p = -1;
+			c = -1;
+			
+			advance();
+		}
+		
+		@Override
+		public boolean hasNext()
+		{
+			return page != null;
+		}
+		
+		@Override
+		public int[] next()
+		{
+			int[] crds = next.clone();
+			advance();
+			return crds;
+		}
+		
+		private void advance()
+		{
+			while(true)
+			{
+				// Move on to the next allocated page.
+				if(page == null || ++c >= page.data.length)
+				{
+					if(++p >= keys.Count())
+					{
+						page = null;
+						return;
+					}
+					
+					page = pages.getAt(keys.getLong(p));
+					int[] pc = pages.toCoord(keys.getLong(p));
+					for(int i = 0; i < base.length; i++)
+					{
+						base[i] = pc[i] << bits;
+					}
+					
+					c = 0;
+				}
+				
+				if(page.data[c] != null && isInside())
+				{
+					return;
+				}
+			}
+		}
+		
+		private boolean isInside()
+		{
+			for(int i = 0; i < next.length; i++)
+			{
+				next[i] = base[i] + ((c >> (bits * i)) & mask);
+				if(next[i] < min[i] || max[i] < next[i])
+				{
+					return false;
+				}
+			}
+			
+			return true;
+		}
+	}
+	
+	
+	@Override
+	public void clear()
+	{
+		pages.clear();
+		entries = 0;
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public O get(int... crds)
+	{
+		Page page = pages.getAt(pageOf(crds));
+		if(page == null)
+		{
+			return null;
+		}
+		
+		return (O) page.data[cellOf(crds)];
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public O put(O val, int... crds)
+	{
+		if(val == null)
+		{
+			return remove(crds);
+		}
+		
+		long key = pageOf(crds);
+		Page page = pages.getAt(key);
+		if(page == null)
+		{
+			page = new Page(1 << (bits * crds.length));
+			pages.putAt(page, key);
+		}
+		
+		int cell = cellOf(crds);
+		O prev = (O) page.data[cell];
+		page.data[cell] = val;
+		if(prev == null)
+		{
+			page.count++;
+			entries++;
+		}
+		
+		return prev;
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public O remove(int... crds)
+	{
+		long key = pageOf(crds);
+		Page page = pages.getAt(key);
+		if(page == null)
+		{
+			return null;
+		}
+		
+		int cell = cellOf(crds);
+		O prev = (O) page.data[cell];
+		if(prev != null)
+		{
+			page.data[cell] = null;
+			entries--;
+			// Release the page once it is empty.
+			if(--page.count == 0)
+			{
+				pages.removeAt(key);
+			}
+		}
+		
+		return prev;
+	}
+
+	@Override
+	public int[] Dimensions()
+	{
+		return dimension;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,361 @@
+package waffles.utils.sets.indexed.palette;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import waffles.utils.sets.indexed.MutableIndex;
+import waffles.utils.sets.indexed.array.Layout;
+import waffles.utils.sets.utilities.indexed.iterators.IndexKeys;
+import waffles.utils.sets.utilities.indexed.iterators.IndexValues;
+
+/**
+ * A {@code PaletteIndex} implements a palette-compressed {@code MutableIndex}.
+ * Its distinct values are kept in a reference-counted palette, while every cell
+ * stores a bit-packed palette index. The bit width grows as the palette grows,
+ * and is compacted again once enough palette entries have been released.
+ * Palette index zero is reserved for the null value.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @param <O>  an object type
+ * @see MutableIndex
+ * @see Layout
+ */
+public class PaletteIndex<O> implements MutableIndex<O>
+{
+	private static int widthOf(int size)
+	{
+		return Math.max(1, 32 - Integer.numberOfLeadingZeros(size - 1));
+	}
+	
+	
+	private Layout layout;
+	private long[] words;
+	private int width, per;
+	private long mask;
+	
+	private Object[] palette;
+	private Map<Object, Integer> lookup;
+	private int[] refs, free;
+	private int entries, frees;
+	
+	/**
+	 * Creates a new {@code PaletteIndex}.
+	 * 
+	 * @param ord  an index order
+	 * @param dim  an index dimension
+	 */
+	public PaletteIndex(Order ord, int... dim)
+	{
+		layout = new Layout(ord, dim);
+		clear();
+	}
+	
+	/**
+	 * Creates a new {@code PaletteIndex}.
+	 * 
+	 * @param dim  an index dimension
+	 */
+	public PaletteIndex(int... dim)
+	{
+		this(Order.COL_MAJOR, dim);
+	}
+	
+	
+	/**
+	 * Returns the amount of distinct values in the {@code PaletteIndex}.
+	 * The null value is not counted.
+	 * 
+	 * @return  a palette size
+	 */
+	public int Palette()
+	{
+		return entries - frees - 1;
+	}
+	
+	/**
+	 * Returns the bit width of a single cell in the {@code PaletteIndex}.
+	 * 
+	 * @return  a cell bit width
+	 */
+	public int Width()
+	{
+		return width;
+	}
+	
+	/**
+	 * Renumbers the palette of the {@code PaletteIndex} densely,
+	 * and repacks its cells with the smallest possible bit width.
+	 */
+	public void compact()
+	{
+		int size = 1;
+		int[] map = new int[entries];
+		for(int i = 1; i < entries; i++)
+		{
+			if(refs[i] > 0)
+			{
+				palette[size] = palette[i];
+				refs[size] = refs[i];
+				lookup.put(palette[size], size);
+				map[i] = size++;
+			}
+		}
+		
+		Arrays.fill(palette, size, entries, null);
+		Arrays.fill(refs, size, entries, 0);
+		entries = size;
+		frees = 0;
+		
+		repack(widthOf(size), map);
+	}
+	
+	
+	/**
+	 * Iterates over the keys of the {@code PaletteIndex}.
+	 * 
+	 * @return  a key iterable
+	 * 
+	 * 
+	 * @see Iterable
+	 */
+	public Iterable<int[]> Keys()
+	{
+		return () -> new IndexKeys(this, layout.Ordering());
+	}
+	
+	/**
+	 * Iterates over the values of the {@code PaletteIndex}.
+	 * Unless the index is ordered along a curve, its
+	 * cells are decoded in sequence, word by word.
+	 * Empty cells are skipped, so only non-null
+	 * values are returned.
+	 * 
+	 * @return  a value iterable
+	 * 
+	 * 
+	 * @see Iterable
+	 */
+	public Iterable<O> Values()
+	{
+		if(layout.isCurved())
+		{
+			return () -> new IndexValues<>(this, layout.Ordering());
+		}
+		
+		return () -> new Iterator<O>()
+		{
+			private int index, count = layout.Count();
+			
+			@Override
+			public boolean hasNext()
+			{
+				// Skip cells holding the empty entry.
+				while(index < count && read(index) == 0)
+				{
+					index++;
+				}
+				
+				return index < count;
+			}
+			
+			@Override
+			@SuppressWarnings("unchecked")
+			public O next()
+			{
+				hasNext();
+				return (O) palette[read(index++)];
+			}
+		};
+	}
+	
+	/**
+	 * Returns the ordering of the {@code PaletteIndex}.
+	 * 
+	 * @return  an index order
+	 */
+	public Order Ordering()
+	{
+		return layout.Ordering();
+	}
+	
+	/**
+	 * Returns the layout of the {@code PaletteIndex}.
+	 * 
+	 * @return  an index layout
+	 * 
+	 * 
+	 * @see Layout
+	 */
+	public Layout Layout()
+	{
+		return layout;
+	}
+	
+	
+	private int read(int index)
+	{
+		long word = words[index / per];
+		return (int) ((word >>> (index % per) * width) & mask);
+	}
+	
+	private void write(int index, int val)
+	{
+		int w = index / per;
+		int sft = (index % per) * width;
+		words[w] = (words[w] & ~(mask << sft)) | ((long) val << sft);
+	}
+	
+	private void repack(int wdt, int[] map)
+	{
+		int size = layout.Size();
+		int next = 64 / wdt;
+		long msk = (1L << wdt) - 1;
+		long[] data = new long[(size + next - 1) / next];
+		for(int i = 0; i < size; i++)
+		{
+			long val = read(i);
+			if(map != null)
+			{
+				val = map[(int) val];
+			}
+			
+			data[i / next] |= (val & msk) << (i % next) * wdt;
+		}
+		
+		words = data;
+		width = wdt;
+		mask = msk;
+		per = next;
+	}
+	
+	private int acquire(Object val)
+	{
+		Integer idx = lookup.get(val);
+		if(idx != null)
+		{
+			refs[idx]++;
+			return idx;
+		}
+		
+		// Reuse released palette entries first.
+		int slot;
+		if(frees > 0)
+		{
+			slot = free[--frees];
+		}
+		else
+		{
+			if(entries == palette.length)
+			{
+				palette = Arrays.copyOf(palette, 2 * entries);
+				refs = Arrays.copyOf(refs, 2 * entries);
+			}
+			
+			slot = entries++;
+			if(widthOf(entries) > width)
+			{
+				repack(widthOf(entries), null);
+			}
+		}
+		
+		palette[slot] = val;
+		lookup.put(val, slot);
+		refs[slot] = 1;
+		return slot;
+	}
+	
+	private void release(int slot)
+	{
+		if(slot == 0 || --refs[slot] > 0)
+		{
+			return;
+		}
+		
+		lookup.remove(palette[slot]);
+		palette[slot] = null;
+		if(frees == free.length)
+		{
+			free = Arrays.copyOf(free, 2 * frees);
+		}
+		
+		free[frees++] = slot;
+		// Compact once the palette fits in two bits less.
+		if(widthOf(entries - frees) + 1 < width)
+		{
+			compact();
+		}
+	}
+	
+	
+	@Override
+	public void clear()
+	{
+		palette = new Object[4];
+		lookup = new HashMap<>();
+		free = new int[4];
+		refs = new int[4];
+		entries = 1;
+		frees = 0;
+		
+		width = 1;
+		per = 64;
+		mask = 1;
+		words = new long[(layout.Size() + 63) / 64];
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public O get(int... crds)
+	{
+		return (O) palette[read(layout.toIndex(crds))];
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public O put(O val, int... crds)
+	{
+		int index = layout.toIndex(crds);
+		int prev = read(index);
+		if(palette[prev] == val)
+		{
+			return val;
+		}
+		
+		O old = (O) palette[prev];
+		int next = val == null ? 0 : acquire(val);
+		// Acquiring may have repacked the cells.
+		write(index, next);
+		release(prev);
+		return old;
+	}
+	
+	@Override
+	public O remove(int... crds)
+	{
+		return put(null, crds);
+	}
+	
+	
+	@Override
+	public int toIndex(Order ord, int... crds)
+	{
+		if(ord == layout.Ordering())
+		{
+			return layout.toIndex(crds);
+		}
+		
+		return MutableIndex.super.toIndex(ord, crds);
+	}
+	
+	@Override
+	public int[] Dimensions()
+	{
+		return layout.Dimensions();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,461 @@
+package waffles.utils.sets.indexed.runs;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+
+import waffles.utils.sets.indexed.MutableIndex;
+
+/**
+ * A {@code RunIndex} implements a run-length encoded {@code MutableIndex}.
+ * Every row along the first axis is stored as a sorted list of runs of
+ * equal values, which are split and coalesced as values are written.
+ * Point access performs a binary search over the runs of a row, and
+ * {@link #Runs()} iterates over whole runs at once.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @param <O>  an object type
+ * @see MutableIndex
+ */
+public class RunIndex<O> implements MutableIndex<O>
+{
+	/**
+	 * A {@code Run} defines a sequence of equal values in a {@code RunIndex} row.
+	 *
+	 * @author Waffles
+	 * @since 17 Oct 2026
+	 * @version 1.1
+	 * 
+	 * 
+	 * @param <O>  an object type
+	 */
+	public static class Run<O>
+	{
+		private int[] coords;
+		private int length;
+		private O value;
+		
+		/**
+		 * Creates a new {@code Run}.
+		 * 
+		 * @param crds  a start coordinate
+		 * @param len   a run length
+		 * @param val   a run value
+		 */
+		public Run(int[] crds, int len, O val)
+		{
+			coords = crds;
+			length = len;
+			value = val;
+		}
+		
+		
+		/**
+		 * Returns the first coordinate of the {@code Run}.
+		 * 
+		 * @return  a start coordinate
+		 */
+		public int[] Coordinates()
+		{
+			return coords;
+		}
+		
+		/**
+		 * Returns the start of the {@code Run} along its row.
+		 * 
+		 * @return  a run start
+		 */
+		public int Start()
+		{
+			return coords[0];
+		}
+		
+		/**
+		 * Returns the length of the {@code Run}.
+		 * 
+		 * @return  a run length
+		 */
+		public int Length()
+		{
+			return length;
+		}
+		
+		/**
+		 * Returns the value of the {@code Run}.
+		 * 
+		 * @return  a run value
+		 */
+		public O Value()
+		{
+			return value;
+		}
+	}
+	
+	private static class Row
+	{
+		private Object[] values;
+		private int[] starts;
+		private int count;
+		
+		public Row()
+		{
+			values = new Object[4];
+			starts = new int[4];
+			count = 1;
+		}
+		
+		
+		public int find(int x)
+		{
+			int lo = 0, hi = count - 1;
+			while(lo < hi)
+			{
+				int mid = (lo + hi + 1) >>> 1;
+				if(starts[mid] <= x)
+				{
+					lo = mid;
+					continue;
+				}
+				
+				hi = mid - 1;
+			}
+			
+			return lo;
+		}
+		
+		public void insert(int i, int n)
+		{
+			if(values.length < count + n)
+			{
+				int size = Math.max(values.length * 2, count + n);
+				values = Arrays.copyOf(values, size);
+				starts = Arrays.copyOf(starts, size);
+			}
+			
+			System.arraycopy(values, i, values, i + n, count - i);
+			System.arraycopy(starts, i, starts, i + n, count - i);
+			count += n;
+		}
+		
+		public void delete(int i)
+		{
+			System.arraycopy(values, i + 1, values, i, count - i - 1);
+			System.arraycopy(starts, i + 1, starts, i, count - i - 1);
+			values[--count] = null;
+		}
+	}
+	
+	
+	private Row[] rows;
+	private int[] dimension;
+	
+	/**
+	 * Creates a new {@code RunIndex}.
+	 * 
+	 * @param dim  an index dimension
+	 */
+	public RunIndex(int... dim)
+	{
+		int count = 1;
+		for(int i = 1; i < dim.length; i++)
+		{
+			count *= dim[i];
+		}
+		
+		rows = new Row[count];
+		dimension = dim;
+	}
+	
+	
+	/**
+	 * Returns the amount of non-empty runs in the {@code RunIndex}.
+	 * 
+	 * @return  a run count
+	 */
+	public int RunCount()
+	{
+		int count = 0;
+		for(Row row : rows)
+		{
+			if(row != null)
+			{
+				for(int i = 0; i < row.count; i++)
+				{
+					if(row.values[i] != null)
+					{
+						count++;
+					}
+				}
+			}
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Iterates over the non-empty runs of the {@code RunIndex}.
+	 * Runs are yielded row by row, in increasing order
+	 * of their start along each row.
+	 * 
+	 * @return  a run iterable
+	 * 
+	 * 
+	 * @see Iterable
+	 * @see Run
+	 */
+	public Iterable<Run<O>> Runs()
+	{
+		return () -> new Runs(0, rows.length, false);
+	}
+	
+	/**
+	 * Iterates over the non-empty runs of a single row.
+	 * The row is selected by all coordinates
+	 * except the first one.
+	 * 
+	 * @param crds  a row coordinate
+	 * @return  a run iterable
+	 * 
+	 * 
+	 * @see Iterable
+	 * @see Run
+	 */
+	public Iterable<Run<O>> Runs(int... crds)
+	{
+		int r = rowOf(crds, 0);
+		return () -> new Runs(r, r + 1, false);
+	}
+	
+	/**
+	 * Iterates over the values of the {@code RunIndex}.
+	 * Values are yielded in column-major order, one per non-empty
+	 * cell, without searching the runs of each row.
+	 * 
+	 * @return  a value iterable
+	 * 
+	 * 
+	 * @see Iterable
+	 */
+	public Iterable<O> Values()
+	{
+		return () -> new Iterator<O>()
+		{
+			private Runs iter = new Runs(0, rows.length, false);
+			private Run<O> run;
+			private int left;
+			
+			@Override
+			public boolean hasNext()
+			{
+				return left > 0 || iter.hasNext();
+			}
+
+			@Override
+			public O next()
+			{
+				if(left == 0)
+				{
+					run = iter.next();
+					left = run.Length();
+				}
+				
+				left--;
+				return run.Value();
+			}
+		};
+	}
+	
+	
+	private int rowOf(int[] crds, int from)
+	{
+		int row = 0;
+		for(int i = dimension.length - 1; i > from; i--)
+		{
+			row = row * dimension[i] + crds[i];
+		}
+		
+		return row;
+	}
+	
+	private int[] coordOf(int row, int x)
+	{
+		int[] crds = new int[dimension.length];
+		for(int i = 1; i < crds.length; i++)
+		{
+			crds[i] = row % dimension[i];
+			row /= dimension[i];
+		}
+		
+		crds[0] = x;
+		return crds;
+	}
+	
+	private class Runs implements Iterator<Run<O>>
+	{
+		private int row, end, next;
+		private boolean empty;
+		
+		public Runs(int min, int max, boolean nulls)
+		{
+			empty = nulls;
+			row = min;
+			end = max;
+			
+			advance();
+		}
+		
+		@Override
+		public boolean hasNext()
+		{
+			return row < end;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Run<O> next()
+		{
+			int len = dimension[0];
+			Row curr = rows[row];
+			Run<O> run;
+			if(curr == null)
+			{
+				run = new Run<>(coordOf(row, 0), len, null);
+			}
+			else
+			{
+				int start = curr.starts[next];
+				int stop = next + 1 < curr.count ? curr.starts[next + 1] : len;
+				run = new Run<>(coordOf(row, start), stop - start, (O) curr.values[next]);
+			}
+			
+			next++;
+			advance();
+			return run;
+		}
+		
+		private void advance()
+		{
+			while(row < end)
+			{
+				Row curr = rows[row];
+				int count = curr == null ? 1 : curr.count;
+				if(next < count)
+				{
+					// Skip empty runs unless asked for.
+					if(empty || (curr != null && curr.values[next] != null))
+					{
+						return;
+					}
+					
+					next++;
+					continue;
+				}
+				
+				next = 0;
+				row++;
+			}
+		}
+	}
+	
+	
+	@Override
+	public void clear()
+	{
+		Arrays.fill(rows, null);
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public O get(int... crds)
+	{
+		Row row = rows[rowOf(crds, 0)];
+		if(row == null)
+		{
+			return null;
+		}
+		
+		return (O) row.values[row.find(crds[0])];
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public O put(O val, int... crds)
+	{
+		int r = rowOf(crds, 0);
+		if(rows[r] == null)
+		{
+			if(val == null)
+			{
+				return null;
+			}
+			
+			rows[r] = new Row();
+		}
+		
+		Row row = rows[r];
+		int x = crds[0];
+		int i = row.find(x);
+		O prev = (O) row.values[i];
+		if(Objects.equals(prev, val))
+		{
+			// Keep the latest instance.
+			row.values[i] = val;
+			return prev;
+		}
+		
+		// Split the run into at most three parts.
+		int start = row.starts[i];
+		int stop = i + 1 < row.count ? row.starts[i + 1] : dimension[0];
+		if(start < x)
+		{
+			row.insert(++i, 1);
+			row.values[i] = prev;
+		}
+		
+		if(x + 1 < stop)
+		{
+			row.insert(i + 1, 1);
+			row.values[i + 1] = prev;
+			row.starts[i + 1] = x + 1;
+		}
+		
+		row.values[i] = val;
+		row.starts[i] = x;
+		
+		// Coalesce with equal neighbours.
+		if(i + 1 < row.count && Objects.equals(row.values[i + 1], val))
+		{
+			row.delete(i + 1);
+		}
+		
+		if(i > 0 && Objects.equals(row.values[i - 1], val))
+		{
+			row.values[i - 1] = val;
+			row.delete(i);
+		}
+		
+		// Release rows which are entirely empty.
+		if(row.count == 1 && row.values[0] == null)
+		{
+			rows[r] = null;
+		}
+		
+		return prev;
+	}
+	
+	@Override
+	public O remove(int... crds)
+	{
+		return put(null, crds);
+	}
+
+	@Override
+	public int[] Dimensions()
+	{
+		return dimension;
+	}
+}
\ No newline at end of file
@@ -1,5 +1,9 @@
 package waffles.utils.sets.indexed.search;
 
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
 import waffles.utils.sets.countable.keymaps.search.BSMap;
 import waffles.utils.sets.indexed.MutableIndex;
 
@@ -58,6 +62,82 @@ public class BSIndex<O> implements MutableIndex<O>
 		return data;
 	}
 	
+	/**
+	 * Puts a value into the {@code BSIndex}
+	 * if the cell does not have a value yet.
+	 * 
+	 * @param val     an index value
+	 * @param coords  an index coordinate
+	 * @return  the current value, or null if the value was added
+	 */
+	public O putIfAbsent(O val, int... coords)
+	{
+		return data.putIfAbsent(toIndex(order, coords), val);
+	}
+	
+	/**
+	 * Computes the value of a cell in the {@code BSIndex}
+	 * if the cell does not have a value yet.
+	 * 
+	 * @param fct     a value supplier
+	 * @param coords  an index coordinate
+	 * @return  the current or computed value
+	 * 
+	 * 
+	 * @see Supplier
+	 */
+	public O computeIfAbsent(Supplier<? extends O> fct, int... coords)
+	{
+		return data.computeIfAbsent(toIndex(order, coords), k -> fct.get());
+	}
+	
+	/**
+	 * Computes a new value for a cell in the {@code BSIndex}
+	 * from its current value, which may be null.
+	 * A null result removes the value.
+	 * 
+	 * @param fct     a value operator
+	 * @param coords  an index coordinate
+	 * @return  the computed value
+	 * 
+	 * 
+	 * @see UnaryOperator
+	 */
+	public O compute(UnaryOperator<O> fct, int... coords)
+	{
+		return data.compute(toIndex(order, coords), (k, v) -> fct.apply(v));
+	}
+	
+	/**
+	 * Merges a value into a cell of the {@code BSIndex}.
+	 * A null result removes the value.
+	 * 
+	 * @param val     an index value
+	 * @param fct     a merge operator
+	 * @param coords  an index coordinate
+	 * @return  the merged value
+	 * 
+	 * 
+	 * @see BinaryOperator
+	 */
+	public O merge(O val, BinaryOperator<O> fct, int... coords)
+	{
+		return data.merge(toIndex(order, coords), val, fct);
+	}
+	
+	/**
+	 * Replaces the value of a cell in the {@code BSIndex}
+	 * if the cell already has a value.
+	 * 
+	 * @param val     an index value
+	 * @param coords  an index coordinate
+	 * @return  an old value
+	 */
+	public O replace(O val, int... coords)
+	{
+		return data.replace(toIndex(order, coords), val);
+	}
+	
 	
 	@Override
 	public void clear()
@@ -1,8 +1,16 @@
 package waffles.utils.sets.utilities;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
 import waffles.utils.sets.arboreal.binary.BiNode;
 import waffles.utils.sets.indexed.IndexedSet;
+import waffles.utils.sets.indexed.MutableIndex.Order;
+import waffles.utils.sets.indexed.array.ArrayLike;
 import waffles.utils.sets.indexed.array.ArraySet;
+import waffles.utils.sets.indexed.array.Blocks;
+import waffles.utils.sets.indexed.array.Layout;
+import waffles.utils.sets.utilities.indexed.iterators.IndexCursor;
 import waffles.utils.sets.utilities.indexed.iterators.IndexValues;
 import waffles.utils.sets.utilities.indexed.iterators.arrays.ReverseIterator;
 import waffles.utils.sets.utilities.rooted.iterators.binary.InOrder;
@@ -53,6 +61,125 @@ public final class Iterables
 	{
 		return () -> new IndexValues<>(set, min, max);
 	}
+	
+	/**
+	 * Visits every cell in a region of an {@code IndexedSet}.
+	 * The coordinates passed to the visitor are
+	 * reused, rather than allocated per cell.
+	 * 
+	 * @param <O>  an index object type
+	 * @param set  an index set to visit
+	 * @param min  a minimum coordinate
+	 * @param max  a maximum coordinate
+	 * @param vis  a cell visitor
+	 * 
+	 * 
+	 * @see IndexCursor
+	 * @see IndexedSet
+	 */
+	public static <O> void visit(IndexedSet<O> set, int[] min, int[] max, IndexCursor.Visitor<? super O> vis)
+	{
+		Order ord = Order.COL_MAJOR;
+		if(set instanceof ArrayLike)
+		{
+			ord = ((ArrayLike<?, ?>) set).Ordering();
+		}
+		
+		new IndexCursor<>(set, ord, min, max).forEach(vis);
+	}
+	
+	/**
+	 * Visits every cell in an {@code IndexedSet}.
+	 * 
+	 * @param <O>  an index object type
+	 * @param set  an index set to visit
+	 * @param vis  a cell visitor
+	 * 
+	 * 
+	 * @see IndexCursor
+	 * @see IndexedSet
+	 */
+	public static <O> void visit(IndexedSet<O> set, IndexCursor.Visitor<? super O> vis)
+	{
+		visit(set, set.Minimum(), set.Maximum(), vis);
+	}
+	
+	/**
+	 * Performs an action on every value in a region of an {@code IndexedSet} in parallel.
+	 * The region is split into blocks along the outermost axis of the set order,
+	 * and each block is iterated on a separate task of the pool.
+	 * The action should be safe to call from multiple threads.
+	 * 
+	 * @param <O>  an index object type
+	 * @param set  an index set to iterate
+	 * @param min  a minimum coordinate
+	 * @param max  a maximum coordinate
+	 * @param act  a value action
+	 * @param pool  a fork-join pool
+	 * 
+	 * 
+	 * @see ForkJoinPool
+	 * @see IndexedSet
+	 * @see Consumer
+	 */
+	public static <O> void index(IndexedSet<O> set, int[] min, int[] max, Consumer<? super O> act, ForkJoinPool pool)
+	{
+		Order ord = Order.COL_MAJOR;
+		if(set instanceof ArrayLike)
+		{
+			ord = ((ArrayLike<?, ?>) set).Ordering();
+		}
+		
+		int[] dim = new int[min.length];
+		for(int i = 0; i < dim.length; i++)
+		{
+			dim[i] = Math.max(0, max[i] - min[i] + 1);
+		}
+		
+		Layout lay = new Layout(ord, dim);
+		if(lay.Count() == 0)
+		{
+			return;
+		}
+		
+		int axis = ord == Order.ROW_MAJOR ? 0 : dim.length - 1;
+		int slab = lay.Count() / dim[axis];
+		Order o = ord;
+		
+		Blocks blk = new Blocks(lay, pool, false);
+		blk.run((lo, hi) ->
+		{
+			int[] bmin = min.clone();
+			int[] bmax = max.clone();
+			bmin[axis] = min[axis] + lo / slab;
+			bmax[axis] = min[axis] + hi / slab - 1;
+			
+			IndexValues<O> vals = new IndexValues<>(set, o, bmin, bmax);
+			while(vals.hasNext())
+			{
+				act.accept(vals.next());
+			}
+		});
+	}
+	
+	/**
+	 * Performs an action on every value in a region of an {@code IndexedSet}
+	 * in parallel, using the common fork-join pool.
+	 * 
+	 * @param <O>  an index object type
+	 * @param set  an index set to iterate
+	 * @param min  a minimum coordinate
+	 * @param max  a maximum coordinate
+	 * @param act  a value action
+	 * 
+	 * 
+	 * @see IndexedSet
+	 * @see Consumer
+	 */
+	public static <O> void index(IndexedSet<O> set, int[] min, int[] max, Consumer<? super O> act)
+	{
+		index(set, min, max, act, ForkJoinPool.commonPool());
+	}
 		
 	
 	/**
@@ -0,0 +1,325 @@
+package waffles.utils.sets.utilities.indexed.iterators;
+
+import waffles.utils.sets.indexed.Curves;
+import waffles.utils.sets.indexed.IndexedSet;
+import waffles.utils.sets.indexed.MutableIndex.Order;
+import waffles.utils.sets.utilities.indexed.coords.Coordination;
+
+/**
+ * An {@code IndexCursor} traverses a subsection of an {@code Index} without allocating coordinates.
+ * Unlike {@link IndexKeys}, the cursor exposes a single coordinate array which is
+ * updated in place on every step, and which should not be modified or retained.
+ * The cursor can be reset to its start, or repositioned onto a new region.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @param <O>  an index object type
+ * @see IndexedSet
+ */
+public class IndexCursor<O>
+{
+	/**
+	 * A {@code Visitor} defines a callback on the cells of an {@code IndexCursor}.
+	 * The coordinate array passed to the visitor is reused between calls.
+	 *
+	 * @author Waffles
+	 * @since 17 Oct 2026
+	 * @version 1.1
+	 *
+	 *
+	 * @param <O>  an index object type
+	 */
+	@FunctionalInterface
+	public static interface Visitor<O>
+	{
+		/**
+		 * Visits a cell in an {@code IndexedSet}.
+		 * 
+		 * @param crds  an index coordinate
+		 * @param val   an index value
+		 */
+		public abstract void visit(int[] crds, O val);
+	}
+	
+	
+	private int[] crds;
+	private int[] min, max;
+	private int[] box, rel;
+	private int step, size;
+	private int offset;
+	private boolean done;
+	private IndexedSet<O> index;
+	private Order order;
+	
+	/**
+	 * Creates a new {@code IndexCursor}.
+	 * 
+	 * @param index  a target index
+	 * @param order  an index order
+	 * @param min  a minimum coordinate
+	 * @param max  a maximum coordinate
+	 * 
+	 * 
+	 * @see IndexedSet
+	 */
+	public IndexCursor(IndexedSet<O> index, Order order, int[] min, int[] max)
+	{
+		this.index = index;
+		this.order = order;
+		
+		reset(min, max);
+	}
+	
+	/**
+	 * Creates a new {@code IndexCursor}.
+	 * 
+	 * @param index  a target index
+	 * @param order  an index order
+	 * 
+	 * 
+	 * @see IndexedSet
+	 */
+	public IndexCursor(IndexedSet<O> index, Order order)
+	{
+		this(index, order, index.Minimum(), index.Maximum());
+	}
+	
+	/**
+	 * Creates a new {@code IndexCursor}.
+	 * 
+	 * @param index  a target index
+	 * 
+	 * 
+	 * @see IndexedSet
+	 */
+	public IndexCursor(IndexedSet<O> index)
+	{
+		this(index, Order.COL_MAJOR);
+	}
+	
+	
+	/**
+	 * Repositions the {@code IndexCursor} onto the region of a {@code Coordination}.
+	 * 
+	 * @param crd  a region coordination
+	 * 
+	 * 
+	 * @see Coordination
+	 */
+	public void reset(Coordination crd)
+	{
+		reset(crd.Minimum(), crd.Maximum());
+	}
+	
+	/**
+	 * Repositions the {@code IndexCursor} onto a new region.
+	 * The region bounds are copied into the cursor, and
+	 * its arrays are only reallocated if their
+	 * length has to change.
+	 * 
+	 * @param min  a minimum coordinate
+	 * @param max  a maximum coordinate
+	 */
+	public void reset(int[] min, int[] max)
+	{
+		if(crds == null || crds.length != min.length)
+		{
+			crds = new int[min.length];
+			this.min = new int[min.length];
+			this.max = new int[min.length];
+			if(Curves.isCurved(order))
+			{
+				box = new int[min.length];
+				rel = new int[min.length];
+			}
+		}
+		
+		System.arraycopy(min, 0, this.min, 0, min.length);
+		System.arraycopy(max, 0, this.max, 0, max.length);
+		if(Curves.isCurved(order))
+		{
+			for(int i = 0; i < box.length; i++)
+			{
+				box[i] = Math.max(0, max[i] - min[i] + 1);
+			}
+			
+			size = Curves.size(order, Curves.TILE, box);
+		}
+		
+		reset();
+	}
+	
+	/**
+	 * Rewinds the {@code IndexCursor} to the start of its region.
+	 * The cursor is placed before its first cell,
+	 * so {@link #next()} has to be called first.
+	 */
+	public void reset()
+	{
+		offset = -1;
+		step = -1;
+		
+		done = false;
+		for(int i = 0; i < min.length; i++)
+		{
+			if(min[i] > max[i])
+			{
+				done = true;
+			}
+		}
+	}
+	
+	/**
+	 * Advances the {@code IndexCursor} to its next cell.
+	 * 
+	 * @return  {@code true} if the cursor has a current cell
+	 */
+	public boolean next()
+	{
+		if(done)
+		{
+			return false;
+		}
+		
+		if(offset < 0)
+		{
+			System.arraycopy(min, 0, crds, 0, min.length);
+		}
+		
+		switch(order)
+		{
+		case ROW_MAJOR:
+			done = offset >= 0 && !findRowMajor(); break;
+		case Z_ORDER:
+		case TILED:
+			done = !findCurve(); break;
+		case COL_MAJOR:
+		default:
+			done = offset >= 0 && !findColMajor(); break;
+		}
+		
+		if(!done)
+		{
+			offset++;
+		}
+		
+		return !done;
+	}
+	
+	/**
+	 * Visits the remaining cells of the {@code IndexCursor}.
+	 * 
+	 * @param vis  a cell visitor
+	 * 
+	 * 
+	 * @see Visitor
+	 */
+	public void forEach(Visitor<? super O> vis)
+	{
+		while(next())
+		{
+			vis.visit(crds, index.get(crds));
+		}
+	}
+	
+	
+	/**
+	 * Returns the current coordinates of the {@code IndexCursor}.
+	 * The returned array is updated in place.
+	 * 
+	 * @return  an index coordinate
+	 */
+	public int[] Coordinates()
+	{
+		return crds;
+	}
+	
+	/**
+	 * Returns the current offset of the {@code IndexCursor}.
+	 * This is the linear position of the current
+	 * cell in the traversal of the region.
+	 * 
+	 * @return  a cell offset
+	 */
+	public int Offset()
+	{
+		return offset;
+	}
+	
+	/**
+	 * Returns the current value of the {@code IndexCursor}.
+	 * 
+	 * @return  an index value
+	 */
+	public O Value()
+	{
+		return index.get(crds);
+	}
+	
+	
+	private boolean findColMajor()
+	{
+		for(int i = 0; i < crds.length; i++)
+		{
+			if(++crds[i] <= max[i])
+			{
+				return true;
+			}
+			
+			crds[i] = min[i];
+		}
+		
+		return false;
+	}
+	
+	private boolean findRowMajor()
+	{
+		for(int i = crds.length - 1; i >= 0; i--)
+		{
+			if(++crds[i] <= max[i])
+			{
+				return true;
+			}
+			
+			crds[i] = min[i];
+		}
+		
+		return false;
+	}
+	
+	private boolean findCurve()
+	{
+		// Walk the padded curve, skipping cells outside the region.
+		while(++step < size)
+		{
+			Curves.toCoord(order, Curves.TILE, step, box, rel);
+			if(isInside())
+			{
+				for(int i = 0; i < box.length; i++)
+				{
+					crds[i] = min[i] + rel[i];
+				}
+				
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	private boolean isInside()
+	{
+		for(int i = 0; i < box.length; i++)
+		{
+			if(box[i] <= rel[i])
+			{
+				return false;
+			}
+		}
+		
+		return true;
+	}
+}
\ No newline at end of file
@@ -2,12 +2,14 @@ package waffles.utils.sets.utilities.indexed.iterators;
 
 import java.util.Iterator;
 
+import waffles.utils.sets.indexed.Curves;
 import waffles.utils.sets.indexed.MutableIndex.Order;
 import waffles.utils.sets.utilities.indexed.coords.Coordination;
 import waffles.utils.tools.primitives.Array;
 
 /**
  * An {@code IndexKeys} iterates over an {@code Index} and returns non-null indices.
+ * Curved orders traverse the region along its own curve, starting from its minimum.
  *
  * @author Waffles
  * @since 28 Feb 2020
@@ -21,6 +23,8 @@ public class IndexKeys implements Iterator<int[]>
 	private Order order;
 	private int[] iMin, iMax;
 	private int[] curr, next;
+	private int[] box, rel;
+	private int step, size;
 	private Coordination index;
 
 	/**
@@ -127,6 +131,18 @@ public class IndexKeys implements Iterator<int[]>
 		}
 		
 		next = Array.copy.of(iMin);
+		if(Curves.isCurved(order))
+		{
+			box = new int[index.Order()];
+			rel = new int[index.Order()];
+			for(int i = 0; i < box.length; i++)
+			{
+				box[i] = iMax[i] - iMin[i] + 1;
+			}
+			
+			size = Curves.size(order, Curves.TILE, box);
+		}
+		
 		return true;
 	}
 	
@@ -172,6 +188,40 @@ public class IndexKeys implements Iterator<int[]>
 		return next;
 	}
 	
+	private boolean isInside()
+	{
+		for(int i = 0; i < box.length; i++)
+		{
+			if(box[i] <= rel[i])
+			{
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	private int[] findCurve()
+	{
+		// Walk the padded curve, skipping cells outside the region.
+		while(++step < size)
+		{
+			Curves.toCoord(order, Curves.TILE, step, box, rel);
+			if(isInside())
+			{
+				for(int i = 0; i < box.length; i++)
+				{
+					next[i] = iMin[i] + rel[i];
+				}
+				
+				return next;
+			}
+		}
+		
+		next = null;
+		return next;
+	}
+	
 	private int[] findNext()
 	{
 		switch(order)
@@ -180,6 +230,9 @@ public class IndexKeys implements Iterator<int[]>
 			return findColMajor();
 		case ROW_MAJOR:
 			return findRowMajor();
+		case Z_ORDER:
+		case TILED:
+			return findCurve();
 		default:
 			return null;
 		}
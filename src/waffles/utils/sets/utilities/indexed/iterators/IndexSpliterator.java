@@ -0,0 +1,157 @@
+package waffles.utils.sets.utilities.indexed.iterators;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import waffles.utils.sets.indexed.MutableIndex.Order;
+
+/**
+ * An {@code IndexSpliterator} traverses a region of an {@code Index} in splittable blocks.
+ * The region is divided into slabs along the outermost axis of its order, and
+ * every split halves the remaining range of slabs. Each block is traversed
+ * through an iterator created for its own sub-region.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @param <T>  an element type
+ * @see Spliterator
+ */
+public class IndexSpliterator<T> implements Spliterator<T>
+{
+	private BiFunction<int[], int[], Iterator<T>> source;
+	private Iterator<T> iterator;
+	private int[] min, max;
+	private int axis, lo, hi;
+	private long slab;
+	private int flags;
+	
+	/**
+	 * Creates a new {@code IndexSpliterator}.
+	 * The source creates an iterator over any
+	 * sub-region of the spliterator.
+	 * 
+	 * @param ord  an index order
+	 * @param min  a minimum coordinate
+	 * @param max  a maximum coordinate
+	 * @param chr  a characteristics set
+	 * @param src  an iterator source
+	 * 
+	 * 
+	 * @see BiFunction
+	 * @see Iterator
+	 */
+	public IndexSpliterator(Order ord, int[] min, int[] max, int chr, BiFunction<int[], int[], Iterator<T>> src)
+	{
+		this.min = min;
+		this.max = max;
+		
+		source = src;
+		flags = chr;
+		
+		axis = ord == Order.ROW_MAJOR ? 0 : min.length - 1;
+		lo = min.length > 0 ? min[axis] : 0;
+		hi = min.length > 0 ? max[axis] + 1 : 1;
+		
+		slab = 1;
+		for(int i = 0; i < min.length; i++)
+		{
+			if(i != axis)
+			{
+				slab *= Math.max(0, max[i] - min[i] + 1);
+			}
+		}
+	}
+	
+	private IndexSpliterator(IndexSpliterator<T> spl)
+	{
+		source = spl.source;
+		flags = spl.flags;
+		slab = spl.slab;
+		axis = spl.axis;
+		
+		min = spl.min;
+		max = spl.max;
+		lo = spl.lo;
+		hi = spl.hi;
+	}
+	
+	
+	private Iterator<T> iterator()
+	{
+		if(iterator == null)
+		{
+			int[] bmin = min.clone();
+			int[] bmax = max.clone();
+			if(min.length > 0)
+			{
+				bmin[axis] = lo;
+				bmax[axis] = hi - 1;
+			}
+			
+			iterator = source.apply(bmin, bmax);
+		}
+		
+		return iterator;
+	}
+	
+	
+	@Override
+	public Spliterator<T> trySplit()
+	{
+		int mid = (lo + hi) >>> 1;
+		if(iterator != null || min.length == 0 || mid <= lo)
+		{
+			return null;
+		}
+		
+		IndexSpliterator<T> spl = new IndexSpliterator<>(this);
+		spl.hi = mid;
+		lo = mid;
+		
+		return spl;
+	}
+	
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action)
+	{
+		if(lo >= hi || !iterator().hasNext())
+		{
+			return false;
+		}
+		
+		action.accept(iterator.next());
+		return true;
+	}
+	
+	@Override
+	public void forEachRemaining(Consumer<? super T> action)
+	{
+		if(lo >= hi)
+		{
+			return;
+		}
+		
+		Iterator<T> iter = iterator();
+		while(iter.hasNext())
+		{
+			action.accept(iter.next());
+		}
+	}
+	
+	@Override
+	public long estimateSize()
+	{
+		return Math.max(0, hi - lo) * slab;
+	}
+	
+	@Override
+	public int characteristics()
+	{
+		return flags;
+	}
+}
\ No newline at end of file
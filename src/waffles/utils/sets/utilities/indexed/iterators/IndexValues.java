@@ -2,12 +2,14 @@ package waffles.utils.sets.utilities.indexed.iterators;
 
 import java.util.Iterator;
 
+import waffles.utils.sets.indexed.Curves;
 import waffles.utils.sets.indexed.IndexedSet;
 import waffles.utils.sets.indexed.MutableIndex.Order;
 import waffles.utils.tools.primitives.Array;
 
 /**
  * An {@code IndexValues} iterates over a subsection of an {@code Index} and returns non-null objects.
+ * Curved orders traverse the region along its own curve, starting from its minimum.
  *
  * @author Waffles
  * @since 28 Feb 2020
@@ -21,6 +23,8 @@ public class IndexValues<O> implements Iterator<O>
 {
 	private int[] next;
 	private int[] min, max;
+	private int[] box, rel;
+	private int step, size;
 	private IndexedSet<O> index;
 	private Order order;
 	
@@ -124,55 +128,103 @@ public class IndexValues<O> implements Iterator<O>
 		}
 		
 		next = Array.copy.of(min);
+		if(Curves.isCurved(order))
+		{
+			box = new int[index.Order()];
+			rel = new int[index.Order()];
+			for(int i = 0; i < box.length; i++)
+			{
+				box[i] = max[i] - min[i] + 1;
+			}
+			
+			size = Curves.size(order, Curves.TILE, box);
+		}
+		
 		return true;
 	}
 	
 	private void findColMajor()
 	{
-		for(int i = 0; i < index.Order(); i++)
+		// Loop rather than recurse over null cells.
+		do
 		{
-			next[i]++;
-			if(next[i] <= max[i])
-				break;
-			else
+			for(int i = 0; i < index.Order(); i++)
 			{
-				next[i] = min[i];
-				if(i == index.Order() - 1)
+				next[i]++;
+				if(next[i] <= max[i])
+					break;
+				else
 				{
-					next = null;
-					return;
+					next[i] = min[i];
+					if(i == index.Order() - 1)
+					{
+						next = null;
+						return;
+					}
 				}
 			}
 		}
-		
-		if(index.get(next) == null)
-		{
-			findColMajor();
-		}
+		while(index.get(next) == null);
 	}
 	
 	private void findRowMajor()
 	{
-		for(int i = index.Order()-1; i >= 0; i--)
+		// Loop rather than recurse over null cells.
+		do
 		{
-			next[i]++;
-			if(next[i] <= max[i])
-				break;
-			else
+			for(int i = index.Order()-1; i >= 0; i--)
 			{
-				next[i] = min[i];
-				if(i == 0)
+				next[i]++;
+				if(next[i] <= max[i])
+					break;
+				else
 				{
-					next = null;
-					return;
+					next[i] = min[i];
+					if(i == 0)
+					{
+						next = null;
+						return;
+					}
 				}
 			}
 		}
+		while(index.get(next) == null);
+	}
+	
+	private boolean isInside()
+	{
+		for(int i = 0; i < box.length; i++)
+		{
+			if(box[i] <= rel[i])
+			{
+				return false;
+			}
+		}
 		
-		if(index.get(next) == null)
+		return true;
+	}
+	
+	private void findCurve()
+	{
+		// Walk the padded curve, skipping cells outside the region.
+		while(++step < size)
 		{
-			findRowMajor();
+			Curves.toCoord(order, Curves.TILE, step, box, rel);
+			if(isInside())
+			{
+				for(int i = 0; i < box.length; i++)
+				{
+					next[i] = min[i] + rel[i];
+				}
+				
+				if(index.get(next) != null)
+				{
+					return;
+				}
+			}
 		}
+		
+		next = null;
 	}
 	
 	private void find()
@@ -183,6 +235,9 @@ public class IndexValues<O> implements Iterator<O>
 			findColMajor(); break;
 		case ROW_MAJOR:
 			findRowMajor(); break;
+		case Z_ORDER:
+		case TILED:
+			findCurve(); break;
 		default:
 			break;
 		}
@@ -0,0 +1,216 @@
+package waffles.utils.sets.utilities.indexed.iterators.arrays;
+
+import java.util.Iterator;
+
+import waffles.utils.sets.indexed.MutableIndex.Order;
+import waffles.utils.sets.indexed.array.Layout;
+import waffles.utils.sets.indexed.array.like.ObjectArray;
+import waffles.utils.sets.utilities.indexed.iterators.IndexValues;
+
+/**
+ * An {@code ObjectValues} iterates over the data array of an {@code ObjectArray} and returns non-null objects.
+ * Rather than fetching every cell by its coordinates, the region is scanned row by row along
+ * the fastest axis of the array layout. If an occupancy bitmap is provided, rows with
+ * unit stride jump straight to the next occupied cell, a word at a time.
+ * Curved layouts are not supported, and should use {@link IndexValues} instead.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @param <O>  an index object type
+ * @see Iterator
+ */
+public class ObjectValues<O> implements Iterator<O>
+{
+	private Object[] data;
+	private long[] occupancy;
+	private int[] min, max, row;
+	private int axis, stride;
+	private int index, end;
+	private boolean col;
+	private Layout layout;
+	
+	/**
+	 * Creates a new {@code ObjectValues}.
+	 * The occupancy bitmap holds a set bit for
+	 * every non-null cell of the data array.
+	 * 
+	 * @param arr  a target array
+	 * @param occ  an occupancy bitmap
+	 * @param min  a minimum coordinate
+	 * @param max  a maximum coordinate
+	 * 
+	 * 
+	 * @see ObjectArray
+	 */
+	public ObjectValues(ObjectArray<O> arr, long[] occ, int[] min, int[] max)
+	{
+		layout = arr.Layout();
+		data = arr.Array();
+		occupancy = occ;
+		
+		this.min = min;
+		this.max = max;
+		
+		col = layout.Ordering() != Order.ROW_MAJOR;
+		axis = col ? 0 : min.length - 1;
+		stride = layout.Stride(axis);
+		
+		row = min.clone();
+		for(int i = 0; i < min.length; i++)
+		{
+			if(min[i] > max[i])
+			{
+				row = null;
+				return;
+			}
+		}
+		
+		// Dense layouts are scanned as a single row.
+		if(layout.isDense() && isFull(arr.Dimensions()))
+		{
+			index = 0;
+			end = layout.Count();
+			stride = 1;
+			row = null;
+		}
+		else
+		{
+			index = layout.toIndex(row);
+			end = index + (max[axis] - min[axis] + 1) * stride;
+		}
+		
+		find();
+	}
+	
+	/**
+	 * Creates a new {@code ObjectValues}.
+	 * 
+	 * @param arr  a target array
+	 * @param occ  an occupancy bitmap
+	 * 
+	 * 
+	 * @see ObjectArray
+	 */
+	public ObjectValues(ObjectArray<O> arr, long[] occ)
+	{
+		this(arr, occ, arr.Minimum(), arr.Maximum());
+	}
+	
+	/**
+	 * Creates a new {@code ObjectValues}.
+	 * 
+	 * @param arr  a target array
+	 * 
+	 * 
+	 * @see ObjectArray
+	 */
+	public ObjectValues(ObjectArray<O> arr)
+	{
+		this(arr, null);
+	}
+	
+	
+	@Override
+	public boolean hasNext()
+	{
+		return index < end;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public O next()
+	{
+		O val = (O) data[index];
+		index += stride;
+		find();
+		
+		return val;
+	}
+	
+	
+	private boolean isFull(int[] dims)
+	{
+		for(int i = 0; i < dims.length; i++)
+		{
+			if(min[i] != 0 || max[i] != dims[i] - 1)
+			{
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	private boolean nextRow()
+	{
+		if(row == null)
+		{
+			return false;
+		}
+		
+		int i = col ? 1 : row.length - 2;
+		while(0 <= i && i < row.length)
+		{
+			if(++row[i] <= max[i])
+			{
+				index = layout.toIndex(row);
+				end = index + (max[axis] - min[axis] + 1) * stride;
+				return true;
+			}
+			
+			row[i] = min[i];
+			i += col ? 1 : -1;
+		}
+		
+		row = null;
+		return false;
+	}
+	
+	private void skip()
+	{
+		// Jump to the next set bit within the row.
+		while(index < end)
+		{
+			int w = index >>> 6;
+			long bits = occupancy[w] & (-1L << index);
+			if(bits != 0)
+			{
+				index = Math.min(end, (w << 6) + Long.numberOfTrailingZeros(bits));
+				return;
+			}
+			
+			index = (w + 1) << 6;
+		}
+		
+		index = end;
+	}
+	
+	private void find()
+	{
+		while(true)
+		{
+			if(occupancy != null && stride == 1)
+			{
+				skip();
+			}
+			
+			while(index < end)
+			{
+				if(data[index] != null)
+				{
+					return;
+				}
+				
+				index += stride;
+			}
+			
+			if(!nextRow())
+			{
+				return;
+			}
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package waffles.utils.sets.utilities.rooted.iterators.binary;
+
+import java.util.Iterator;
+
+import waffles.utils.sets.arboreal.binary.BiNodal;
+
+/**
+ * An {@code InOrderRange} iterator traverses a range of a binary tree in-ordered.
+ * The range starts at a first node and stops before a fence node, or
+ * at the end of the tree if no fence is given. Every step follows
+ * the in-order successor, so no traversal stack is kept.
+ * 
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @param <N>  a nodal type
+ * @see Iterator
+ * @see BiNodal
+ */
+public class InOrderRange<N extends BiNodal> implements Iterator<N>
+{
+	private BiNodal node, fence;
+
+	/**
+	 * Creates a new {@code InOrderRange}.
+	 * 
+	 * @param first  a first node
+	 * @param fence  a fence node
+	 * 
+	 * 
+	 * @see BiNodal
+	 */
+	public InOrderRange(BiNodal first, BiNodal fence)
+	{
+		this.fence = fence;
+		node = first;
+	}
+
+
+	@Override
+	public boolean hasNext()
+	{
+		return node != null && node != fence;
+	}
+	
+	@Override
+	public N next()
+	{
+		BiNodal next = node;
+		node = next.Arch().next();
+		return (N) next;
+	}
+}
\ No newline at end of file
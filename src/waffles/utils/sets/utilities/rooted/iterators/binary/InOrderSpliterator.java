@@ -0,0 +1,170 @@
+package waffles.utils.sets.utilities.rooted.iterators.binary;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import waffles.utils.sets.arboreal.binary.BiNodal;
+import waffles.utils.sets.arboreal.binary.BiNode;
+import waffles.utils.sets.arboreal.binary.search.IONode;
+import waffles.utils.sets.arboreal.binary.search.IOTree;
+
+/**
+ * An {@code InOrderSpliterator} traverses the values of an ordered binary tree in order.
+ * The spliterator covers a range of consecutive nodes, which is split by subtree:
+ * the first split separates the left subtree of the root, and every later
+ * split halves its range at the child of the node bounding it.
+ *
+ * @author Waffles
+ * @since 17 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @param <O>  a value type
+ * @see Spliterator
+ * @see BiNode
+ */
+public class InOrderSpliterator<O> implements Spliterator<O>
+{
+	private static BiNode next(BiNodal node)
+	{
+		BiNodal next = node.Arch().next();
+		return next == null ? null : next.Arch();
+	}
+	
+	
+	private Comparator<? super O> order;
+	private Function<BiNode, O> value;
+	private BiNode root, curr, fence;
+	private int side;
+	private long est;
+	
+	/**
+	 * Creates a new {@code InOrderSpliterator}.
+	 * 
+	 * @param root  a tree root
+	 * @param ord   a value comparator
+	 * @param val   a node value function
+	 * 
+	 * 
+	 * @see Comparator
+	 * @see Function
+	 * @see BiNode
+	 */
+	public InOrderSpliterator(BiNode root, Comparator<? super O> ord, Function<BiNode, O> val)
+	{
+		this(root, ord, val, root == null ? null : root.LLeaf().Arch(), null, 0, -1);
+	}
+	
+	/**
+	 * Creates a new {@code InOrderSpliterator}.
+	 * 
+	 * @param tree  a source tree
+	 * 
+	 * 
+	 * @see IOTree
+	 */
+	public InOrderSpliterator(IOTree<?, O> tree)
+	{
+		this(tree.Root(), tree, n -> ((IONode<O>) n).Value());
+	}
+	
+	private InOrderSpliterator(BiNode root, Comparator<? super O> ord, Function<BiNode, O> val, BiNode curr, BiNode fence, int side, long est)
+	{
+		this.root = root;
+		this.curr = curr;
+		this.fence = fence;
+		this.side = side;
+		this.est = est;
+		
+		order = ord;
+		value = val;
+	}
+	
+	
+	@Override
+	public Spliterator<O> trySplit()
+	{
+		if(est < 0)
+		{
+			estimateSize();
+		}
+		
+		BiNodal s = null;
+		BiNode e = curr, f = fence;
+		if(e != null && e != f)
+		{
+			if(side == 0)
+				s = root;
+			else if(side > 0)
+				s = e.RChild();
+			else if(f != null)
+				s = f.LChild();
+		}
+		
+		// Split off the range before the subtree node.
+		if(s != null && s.Arch() != e && s.Arch() != f)
+		{
+			BiNode m = s.Arch();
+			if(order.compare(value.apply(e), value.apply(m)) < 0)
+			{
+				side = 1;
+				est >>>= 1;
+				curr = m;
+				return new InOrderSpliterator<>(root, order, value, e, m, -1, est);
+			}
+		}
+		
+		return null;
+	}
+	
+	@Override
+	public boolean tryAdvance(Consumer<? super O> action)
+	{
+		if(curr == null || curr == fence)
+		{
+			return false;
+		}
+		
+		O val = value.apply(curr);
+		curr = next(curr);
+		action.accept(val);
+		return true;
+	}
+	
+	@Override
+	public void forEachRemaining(Consumer<? super O> action)
+	{
+		BiNode e = curr;
+		curr = fence;
+		while(e != null && e != fence)
+		{
+			action.accept(value.apply(e));
+			e = next(e);
+		}
+	}
+	
+	@Override
+	public long estimateSize()
+	{
+		if(est < 0)
+		{
+			est = root == null ? 0 : root.TreeSize();
+		}
+		
+		return est;
+	}
+	
+	@Override
+	public int characteristics()
+	{
+		return ORDERED | SORTED | DISTINCT | NONNULL;
+	}
+	
+	@Override
+	public Comparator<? super O> getComparator()
+	{
+		return order;
+	}
+}
\ No newline at end of file